@@ -37,4 +37,10 @@ public @interface Cached {
      * @return the cache ttl in milliseconds.
      */
     long timeout() default Integer.MAX_VALUE;
+
+    /**
+     * @return the cache ttl in milliseconds of the negative results ({@code null}, empty {@code Optional},
+     * collection or map), ignored if not positive (the {@link #timeout()} is used).
+     */
+    long negativeTimeout() default -1;
 }
@@ -16,8 +16,6 @@
 package org.talend.sdk.component.runtime.beam;
 
 import static java.util.Collections.emptyIterator;
-import static java.util.stream.Collectors.toMap;
-import static org.talend.sdk.component.api.record.Schema.sanitizeConnectionName;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -63,6 +61,13 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
 
     protected volatile Jsonb jsonb;
 
+    // per DoFn instance conversion state, kept between the elements and bundles
+    protected transient Conversion conversion;
+
+    private transient BeamInputFactory inputFactory;
+
+    private transient BeamSingleOutputFactory outputFactory;
+
     BaseProcessorFn(final Processor processor) {
         this.processor = processor;
         if (ProcessorImpl.class.isInstance(processor)) {
@@ -99,13 +104,13 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
         if (currentCount == 0) {
             processor.beforeGroup();
         }
-        final BeamOutputFactory output = new BeamSingleOutputFactory(toEmitter(context), recordFactory, jsonb);
-        processor.onNext(new BeamInputFactory(context), output);
+        final BeamSingleOutputFactory output = outputFactory.reset(toEmitter(context));
+        processor.onNext(inputFactory.reset(context.element()), output);
         output.postProcessing();
         currentCount++;
         if (maxBatchSize > 0 && currentCount >= maxBatchSize) {
             currentCount = 0;
-            final BeamOutputFactory ago = new BeamMultiOutputFactory(toEmitter(context), recordFactory, jsonb);
+            final BeamOutputFactory ago = new BeamMultiOutputFactory(toEmitter(context), conversion);
             processor.afterGroup(output);
             ago.postProcessing();
         }
@@ -137,61 +142,115 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
                 }
             }
         }
+        if (conversion == null) {
+            conversion = new Conversion(recordFactory, jsonb);
+            inputFactory = new BeamInputFactory();
+            outputFactory = new BeamSingleOutputFactory(conversion);
+        }
+    }
+
+    /**
+     * Record conversion state shared by the output emitters of a DoFn instance (POJO mapping metadata in particular).
+     */
+    @RequiredArgsConstructor
+    protected static final class Conversion {
+
+        private final RecordBuilderFactory factory;
+
+        private final Jsonb jsonb;
+
+        private final RecordConverters converters = new RecordConverters();
+
+        private final RecordConverters.MappingMetaRegistry registry = new RecordConverters.MappingMetaRegistry();
+
+        // branch names are a few constants, avoids to sanitize them for each element
+        private final Map<String, String> connectionNames = new HashMap<>();
+
+        private Record toRecord(final Object value) {
+            return Record.class.cast(converters.toRecord(registry, value, () -> jsonb, () -> factory));
+        }
+
+        private String connectionName(final String name) {
+            return connectionNames.computeIfAbsent(name, Schema::sanitizeConnectionName);
+        }
     }
 
+    /**
+     * Reused for each element of a DoFn instance, the schema is generally the same for all the elements.
+     */
     protected static final class BeamInputFactory implements InputFactory {
 
-        private final Map<String, Iterator<Record>> objects;
+        private final Map<String, Iterator<Record>> objects = new HashMap<>();
+
+        private final Map<String, String> connectionNames = new HashMap<>();
+
+        private Schema schema;
 
-        BeamInputFactory(final DoFn<Record, ?>.ProcessContext context) {
-            final Record element = context.element();
-            objects = element
-                    .getSchema()
-                    .getAllEntries()
-                    .filter(e -> !e.getName().startsWith("__talend_internal"))
-                    .collect(toMap(Schema.Entry::getName, e -> element.getArray(Record.class, e.getName()).iterator()));
+        private String[] branches;
+
+        private BeamInputFactory reset(final Record element) {
+            if (element.getSchema() != schema) {
+                schema = element.getSchema();
+                branches = schema
+                        .getAllEntries()
+                        .map(Schema.Entry::getName)
+                        .filter(name -> !name.startsWith("__talend_internal"))
+                        .toArray(String[]::new);
+            }
+            objects.clear();
+            for (final String branch : branches) {
+                objects.put(branch, element.getArray(Record.class, branch).iterator());
+            }
+            return this;
         }
 
         @Override
         public Object read(final String name) {
-            final Iterator<Record> values = objects.getOrDefault(sanitizeConnectionName(name), emptyIterator());
+            final Iterator<Record> values = objects
+                    .getOrDefault(connectionNames.computeIfAbsent(name, Schema::sanitizeConnectionName),
+                            emptyIterator());
             return values.hasNext() ? values.next() : null;
         }
     }
 
-    @RequiredArgsConstructor
     protected abstract static class BeamOutputFactory implements OutputFactory {
 
-        protected final Consumer<Record> emit;
-
-        protected final RecordBuilderFactory factory;
+        protected Consumer<Record> emit;
 
-        protected final Jsonb jsonb;
+        protected final Conversion conversion;
 
-        private final Map<String, Collection<Record>> outputs = new HashMap<>();
+        protected final RecordBuilderFactory factory;
 
-        @Override
-        public OutputEmitter create(final String name) {
-            return new BeamOutputEmitter(outputs.computeIfAbsent(sanitizeConnectionName(name), k -> new ArrayList<>()),
-                    factory, jsonb);
+        protected BeamOutputFactory(final Consumer<Record> emit, final Conversion conversion) {
+            this.emit = emit;
+            this.conversion = conversion;
+            this.factory = conversion == null ? null : conversion.factory;
         }
 
         public abstract void postProcessing();
     }
 
+    /**
+     * Reused for each element of a DoFn instance, only the branch values are reset.
+     */
     protected static final class BeamSingleOutputFactory extends BeamOutputFactory {
 
         private final Map<String, Collection<Record>> outputs = new HashMap<>();
 
-        protected BeamSingleOutputFactory(final Consumer<Record> emit, final RecordBuilderFactory factory,
-                final Jsonb jsonb) {
-            super(emit, factory, jsonb);
+        protected BeamSingleOutputFactory(final Conversion conversion) {
+            super(null, conversion);
+        }
+
+        private BeamSingleOutputFactory reset(final Consumer<Record> emit) {
+            this.emit = emit;
+            outputs.clear(); // the previous collections belong to the emitted record now
+            return this;
         }
 
         @Override
         public OutputEmitter create(final String name) {
-            return new BeamOutputEmitter(outputs.computeIfAbsent(sanitizeConnectionName(name), k -> new ArrayList<>()),
-                    factory, jsonb);
+            return new BeamOutputEmitter(
+                    outputs.computeIfAbsent(conversion.connectionName(name), k -> new ArrayList<>()), conversion);
         }
 
         @Override
@@ -217,16 +276,15 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
 
         private final Collection<Record> outputs = new ArrayList<>();
 
-        protected BeamMultiOutputFactory(final Consumer<Record> emit, final RecordBuilderFactory factory,
-                final Jsonb jsonb) {
-            super(emit, factory, jsonb);
+        protected BeamMultiOutputFactory(final Consumer<Record> emit, final Conversion conversion) {
+            super(emit, conversion);
         }
 
         @Override
         public OutputEmitter create(final String name) {
             return value -> {
                 final Collection<Record> values = new ArrayList<>();
-                new BeamOutputEmitter(values, factory, jsonb) {
+                new BeamOutputEmitter(values, conversion) {
 
                     @Override
                     public void emit(final Object value) {
@@ -260,24 +318,14 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
 
         private final Collection<Record> builder;
 
-        private final RecordBuilderFactory recordBuilderFactory;
-
-        private final Jsonb jsonb;
-
-        private final RecordConverters converters = new RecordConverters();
-
-        private final RecordConverters.MappingMetaRegistry registry = new RecordConverters.MappingMetaRegistry();
+        private final Conversion conversion;
 
         @Override
         public void emit(final Object value) {
             if (value == null) {
                 return;
             }
-            builder.add(toRecord(value));
-        }
-
-        private Record toRecord(final Object value) {
-            return Record.class.cast(converters.toRecord(registry, value, () -> jsonb, () -> recordBuilderFactory));
+            builder.add(conversion.toRecord(value));
         }
     }
 }
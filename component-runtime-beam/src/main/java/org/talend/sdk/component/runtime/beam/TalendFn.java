@@ -54,7 +54,7 @@ public final class TalendFn {
         @Override
         protected BeamOutputFactory getFinishBundleOutputFactory(final FinishBundleContext context) {
             return new BeamMultiOutputFactory(record -> context.output(record, Instant.now(), GlobalWindow.INSTANCE),
-                    recordFactory, jsonb);
+                    conversion);
         }
     }
 
@@ -227,7 +227,7 @@ public final class TalendIO {
             // no-op
         };
 
-        private static final BeamOutputFactory NOOP_OUTPUT_FACTORY = new BeamOutputFactory(null, null, null) {
+        private static final BeamOutputFactory NOOP_OUTPUT_FACTORY = new BeamOutputFactory(null, null) {
 
             @Override
             public OutputEmitter create(final String name) {
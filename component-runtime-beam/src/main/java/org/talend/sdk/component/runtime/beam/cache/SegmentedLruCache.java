@@ -0,0 +1,230 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.beam.cache;
+
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded LRU cache split in independent segments (selected by key hash), each segment having its own lock
+ * and LRU order, so concurrent lookups of different keys rarely contend.
+ * The value computation happens outside of the segment lock, concurrent misses on the same key can compute it twice
+ * but only the first value is kept.
+ *
+ * @param <K> the key type.
+ * @param <V> the value type.
+ */
+@Slf4j
+public class SegmentedLruCache<K, V> implements CacheStatisticsMXBean {
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final int maxSize;
+
+    private final Segment<K, V>[] segments;
+
+    private final int mask;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private ObjectName objectName;
+
+    public SegmentedLruCache(final String name, final int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Invalid cache size for '" + name + "': " + maxSize);
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+
+        // power of two (for the hash mask) with at least one entry per segment
+        final int segmentCount = Math.min(16, Integer.highestOneBit(maxSize));
+        this.mask = segmentCount - 1;
+        @SuppressWarnings("unchecked") // generic array, filled with Segment<K, V> instances just after
+        final Segment<K, V>[] segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0), evictions);
+        }
+        this.segments = segments;
+    }
+
+    public V get(final K key) {
+        final V value = segment(key).get(key);
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> loader) {
+        final Segment<K, V> segment = segment(key);
+        final V existing = segment.get(key);
+        if (existing != null) {
+            hits.increment();
+            return existing;
+        }
+        misses.increment();
+        final V value = loader.apply(key);
+        if (value == null) {
+            return null;
+        }
+        return segment.putIfAbsent(key, value);
+    }
+
+    /**
+     * Registers the statistics of this cache in the platform MBean server if the system property
+     * {@code component.runtime.beam.cache.jmx} is true. It is opt-in since the caches using it are static
+     * and the registration would keep their classloader referenced.
+     *
+     * @return this cache.
+     */
+    public SegmentedLruCache<K, V> registerJmxIfEnabled() {
+        return Boolean.getBoolean("component.runtime.beam.cache.jmx") ? registerJmx() : this;
+    }
+
+    /**
+     * Registers the statistics of this cache in the platform MBean server, failures are only logged.
+     * {@link #unregisterJmx()} must be called when the cache is no more used.
+     *
+     * @return this cache.
+     */
+    public synchronized SegmentedLruCache<K, V> registerJmx() {
+        if (objectName != null) {
+            return this;
+        }
+        try {
+            final ObjectName candidate = new ObjectName("org.talend.sdk.component:type=cache,name=" + name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+            objectName = candidate;
+        } catch (final InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException
+                | MalformedObjectNameException e) {
+            log.warn("{}: {}", e.getClass().getSimpleName(), e.getMessage());
+        }
+        return this;
+    }
+
+    public synchronized void unregisterJmx() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (final InstanceNotFoundException | MBeanRegistrationException e) {
+            log.debug(e.getMessage(), e);
+        } finally {
+            objectName = null;
+        }
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 0 : hitCount / (double) total;
+    }
+
+    @Override
+    public int getSize() {
+        int size = 0;
+        for (final Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        for (final Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    private Segment<K, V> segment(final K key) {
+        final int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    private static final class Segment<K, V> {
+
+        private final LinkedHashMap<K, V> entries;
+
+        private Segment(final int capacity, final LongAdder evictions) {
+            this.entries = new LinkedHashMap<K, V>(16, .75f, true) {
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized V get(final K key) {
+            return entries.get(key);
+        }
+
+        private synchronized V putIfAbsent(final K key, final V value) {
+            final V existing = entries.putIfAbsent(key, value);
+            return existing == null ? value : existing;
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        private synchronized void clear() {
+            entries.clear();
+        }
+    }
+}
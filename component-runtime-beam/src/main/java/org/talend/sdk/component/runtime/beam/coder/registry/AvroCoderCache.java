@@ -17,43 +17,21 @@ package org.talend.sdk.component.runtime.beam.coder.registry;
 
 import static lombok.AccessLevel.PRIVATE;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 import org.apache.avro.Schema;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.beam.sdk.coders.AvroCoder;
+import org.talend.sdk.component.runtime.beam.cache.SegmentedLruCache;
 
 import lombok.NoArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
-@Slf4j
 @NoArgsConstructor(access = PRIVATE)
 class AvroCoderCache {
 
-    private static final Map<Schema, AvroCoder<IndexedRecord>> CACHED_CODERS =
-            new LinkedHashMap<Schema, AvroCoder<IndexedRecord>>() {
-
-                private final int MAX_SIZE = Integer.getInteger("component.runtime.beam.avrocoder.cache.size", 1024);
-
-                @Override
-                protected boolean removeEldestEntry(final Map.Entry<Schema, AvroCoder<IndexedRecord>> eldest) {
-                    return size() > MAX_SIZE;
-                }
-
-                @Override
-                public synchronized AvroCoder<IndexedRecord> get(final Object key) {
-                    AvroCoder<IndexedRecord> coder = super.get(key);
-                    if (coder == null) {
-                        final Schema schema = Schema.class.cast(key);
-                        coder = AvroCoder.of(IndexedRecord.class, schema);
-                        put(schema, coder);
-                    }
-                    return coder;
-                }
-            };
+    private static final SegmentedLruCache<Schema, AvroCoder<IndexedRecord>> CACHED_CODERS =
+            new SegmentedLruCache<Schema, AvroCoder<IndexedRecord>>("avro-coders",
+                    Integer.getInteger("component.runtime.beam.avrocoder.cache.size", 1024)).registerJmxIfEnabled();
 
     static AvroCoder<IndexedRecord> getCoder(final Schema avro) {
-        return CACHED_CODERS.get(avro);
+        return CACHED_CODERS.computeIfAbsent(avro, schema -> AvroCoder.of(IndexedRecord.class, schema));
     }
 }
@@ -19,10 +19,13 @@ import static org.talend.sdk.component.runtime.beam.coder.registry.AvroCoderCach
 import static org.talend.sdk.component.runtime.beam.spi.record.SchemaIdGenerator.generateRecordName;
 
 import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -31,31 +34,58 @@ import org.apache.beam.sdk.coders.CustomCoder;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.runtime.beam.avro.AvroSchemas;
 import org.talend.sdk.component.runtime.beam.spi.record.AvroRecord;
+import org.talend.sdk.component.runtime.beam.spi.record.SchemaIdGenerator;
 import org.talend.sdk.component.runtime.manager.service.api.Unwrappable;
 import org.talend.sdk.component.runtime.record.Schemas;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 // advantage is that it does not need any record mutation but
 // it implies a mutation of the binary format on persistence
+//
+// two headers are supported (both are always decoded):
+// - text: the schema id as an UTF-8 line,
+// - fingerprint: FINGERPRINT_MARKER, the field count as a varint and the 64 bits schema fingerprint
+// (text ids never start with FINGERPRINT_MARKER).
 @Slf4j
 public class SchemaRegistryCoder extends CustomCoder<Record> {
 
     private static final GenericData.Record EMPTY_RECORD = new GenericData.Record(AvroSchemas.getEmptySchema());
 
+    private static final int FINGERPRINT_MARKER = 0;
+
+    private static final int CACHE_SIZE =
+            Integer.getInteger("component.runtime.beam.schemaregistrycoder.cache.size", 1024);
+
+    // schemas are generally shared by all the records of a collection so identity is enough
+    private static final ConcurrentMap<IdentityKey, SchemaId> IDS = new ConcurrentHashMap<>();
+
+    private static final ConcurrentMap<Long, org.talend.sdk.component.api.record.Schema> SCHEMAS_BY_FINGERPRINT =
+            new ConcurrentHashMap<>();
+
+    private final boolean fingerprinted;
+
+    public SchemaRegistryCoder() {
+        this(Boolean.getBoolean("component.runtime.beam.schemaregistrycoder.fingerprint"));
+    }
+
+    protected SchemaRegistryCoder(final boolean fingerprinted) {
+        this.fingerprinted = fingerprinted;
+    }
+
     @Override
     public void encode(final Record value, final OutputStream outputStream) throws IOException {
         final org.talend.sdk.component.api.record.Schema schema =
                 value == null ? Schemas.EMPTY_RECORD : value.getSchema();
         final Schema avro =
                 value == null ? AvroSchemas.getEmptySchema() : Unwrappable.class.cast(schema).unwrap(Schema.class);
-        final String id = generateRecordName(avro.getFields());
+        final SchemaId id = schemaId(schema, avro);
+
         // write the id first
-        outputStream.write(id.getBytes(StandardCharsets.UTF_8));
-        outputStream.write('\n');
+        outputStream.write(fingerprinted ? id.fingerprintHeader : id.textHeader);
 
         // then the record with the default avro coder
-        registry().putIfAbsent(id, schema);
         if (value != null) {
             getCoder(avro).encode(Unwrappable.class.cast(value).unwrap(IndexedRecord.class), outputStream);
         }
@@ -64,32 +94,125 @@ public class SchemaRegistryCoder extends CustomCoder<Record> {
 
     @Override
     public Record decode(final InputStream inputStream) throws IOException {
-        final ByteArrayOutputStream firstLineData = new ByteArrayOutputStream();
-        int b;
-        while ((b = inputStream.read()) >= 0 && b != '\n') {
-            firstLineData.write(b);
-        }
-        final String id = firstLineData.toString("UTF-8");
-        final org.talend.sdk.component.api.record.Schema schema = registry().get(id);
-        if (schema == null) {
-            throw new IllegalStateException("Invalid schema id: '" + id + "'");
-        }
-        final Schema unwrappedSchema = Unwrappable.class.cast(schema).unwrap(Schema.class);
+        final int first = inputStream.read();
+        final org.talend.sdk.component.api.record.Schema schema =
+                first == FINGERPRINT_MARKER ? readFingerprint(inputStream) : readTextId(first, inputStream);
         if (Schemas.EMPTY_RECORD == schema) {
             return new AvroRecord(EMPTY_RECORD);
         }
+        final Schema unwrappedSchema = Unwrappable.class.cast(schema).unwrap(Schema.class);
         final IndexedRecord decoded = getCoder(unwrappedSchema).decode(inputStream);
         return new AvroRecord(decoded);
     }
 
     @Override
     public int hashCode() {
-        return SchemaRegistryCoder.class.hashCode();
+        return SchemaRegistryCoder.class.hashCode() + (fingerprinted ? 1 : 0);
     }
 
     @Override
     public boolean equals(final Object obj) {
-        return SchemaRegistryCoder.class.isInstance(obj);
+        return SchemaRegistryCoder.class.isInstance(obj)
+                && SchemaRegistryCoder.class.cast(obj).fingerprinted == fingerprinted;
+    }
+
+    private org.talend.sdk.component.api.record.Schema readTextId(final int first, final InputStream inputStream)
+            throws IOException {
+        final ByteArrayOutputStream firstLineData = new ByteArrayOutputStream();
+        int b = first;
+        while (b >= 0 && b != '\n') {
+            firstLineData.write(b);
+            b = inputStream.read();
+        }
+        final String id = firstLineData.toString("UTF-8");
+        final org.talend.sdk.component.api.record.Schema schema = registry().get(id);
+        if (schema == null) {
+            throw new IllegalStateException("Invalid schema id: '" + id + "'");
+        }
+        return schema;
+    }
+
+    private org.talend.sdk.component.api.record.Schema readFingerprint(final InputStream inputStream)
+            throws IOException {
+        final int fieldCount = readVarInt(inputStream);
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | readByte(inputStream);
+        }
+        final org.talend.sdk.component.api.record.Schema cached = SCHEMAS_BY_FINGERPRINT.get(value);
+        if (cached != null) {
+            return cached;
+        }
+        final String id = generateRecordName(fieldCount, value);
+        final org.talend.sdk.component.api.record.Schema schema = registry().get(id);
+        if (schema == null) {
+            throw new IllegalStateException("Invalid schema id: '" + id + "'");
+        }
+        if (SCHEMAS_BY_FINGERPRINT.size() >= CACHE_SIZE) {
+            SCHEMAS_BY_FINGERPRINT.clear();
+        }
+        SCHEMAS_BY_FINGERPRINT.putIfAbsent(value, schema);
+        return schema;
+    }
+
+    private SchemaId schemaId(final org.talend.sdk.component.api.record.Schema schema, final Schema avro) {
+        final IdentityKey key = new IdentityKey(avro);
+        final SchemaId existing = IDS.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        final long value = SchemaIdGenerator.fingerprint(avro.getFields());
+        final int fieldCount = avro.getFields().size();
+        final String id = generateRecordName(fieldCount, value);
+        registry().putIfAbsent(id, schema);
+
+        final ByteArrayOutputStream text = new ByteArrayOutputStream(id.length() + 1);
+        final byte[] bytes = id.getBytes(StandardCharsets.UTF_8);
+        text.write(bytes, 0, bytes.length);
+        text.write('\n');
+
+        final ByteArrayOutputStream binary = new ByteArrayOutputStream(1 + 5 + Long.BYTES);
+        binary.write(FINGERPRINT_MARKER);
+        writeVarInt(fieldCount, binary);
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            binary.write((int) (value >>> (i * 8)));
+        }
+
+        final SchemaId schemaId = new SchemaId(text.toByteArray(), binary.toByteArray());
+        if (IDS.size() >= CACHE_SIZE) { // dynamic schemas, avoid to leak
+            IDS.clear();
+        }
+        IDS.putIfAbsent(key, schemaId);
+        return schemaId;
+    }
+
+    private static void writeVarInt(final int value, final ByteArrayOutputStream out) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            out.write((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.write(remaining);
+    }
+
+    private static int readVarInt(final InputStream inputStream) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            final int b = readByte(inputStream);
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Invalid schema field count");
+    }
+
+    private static int readByte(final InputStream inputStream) throws IOException {
+        final int b = inputStream.read();
+        if (b < 0) {
+            throw new EOFException("Truncated schema fingerprint");
+        }
+        return b;
     }
 
     private SchemaRegistry registry() { // don't serialize
@@ -99,4 +222,41 @@ public class SchemaRegistryCoder extends CustomCoder<Record> {
     public static SchemaRegistryCoder of() {
         return new SchemaRegistryCoder();
     }
+
+    /**
+     * @return a coder writing the schema fingerprint (9 or 10 bytes) instead of the schema id before each record.
+     */
+    public static SchemaRegistryCoder fingerprinted() {
+        return new SchemaRegistryCoder(true);
+    }
+
+    @RequiredArgsConstructor
+    private static class SchemaId {
+
+        private final byte[] textHeader;
+
+        private final byte[] fingerprintHeader;
+    }
+
+    private static class IdentityKey {
+
+        private final Schema schema;
+
+        private final int hash;
+
+        private IdentityKey(final Schema schema) {
+            this.schema = schema;
+            this.hash = System.identityHashCode(schema);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return IdentityKey.class.isInstance(obj) && IdentityKey.class.cast(obj).schema == schema;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -53,7 +53,9 @@ public class AvroSchema implements org.talend.sdk.component.api.record.Schema, A
 
     private static AvroSchemaCache initCache() {
         final AvroSchemaConverter converter = new AvroSchemaConverter();
-        return new AvroSchemaCache(converter::convert);
+        final AvroSchemaCache cache = new AvroSchemaCache(converter::convert);
+        cache.getCache().registerJmxIfEnabled();
+        return cache;
     }
 
     static AvroSchema toAvroSchema(final org.talend.sdk.component.api.record.Schema schema) {
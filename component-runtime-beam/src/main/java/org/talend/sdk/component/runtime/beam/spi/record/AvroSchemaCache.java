@@ -15,71 +15,39 @@
  */
 package org.talend.sdk.component.runtime.beam.spi.record;
 
-import java.util.Comparator;
-import java.util.Map;
-import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.runtime.beam.cache.SegmentedLruCache;
 import org.talend.sdk.component.runtime.record.SchemaImpl;
 
-import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
 public class AvroSchemaCache {
 
-    private static final int MAX_SIZE = 5;
-
     private final Function<SchemaImpl, AvroSchema> transform;
 
-    private final ConcurrentMap<SchemaImpl, ChronoValue> cache = new ConcurrentHashMap<>(AvroSchemaCache.MAX_SIZE);
+    @Getter
+    private final SegmentedLruCache<SchemaImpl, AvroSchema> cache;
+
+    public AvroSchemaCache(final Function<SchemaImpl, AvroSchema> transform) {
+        this(transform, new SegmentedLruCache<>("avro-schemas",
+                Integer.getInteger("component.runtime.beam.avroschema.cache.size", 256)));
+    }
+
+    public AvroSchemaCache(final Function<SchemaImpl, AvroSchema> transform,
+            final SegmentedLruCache<SchemaImpl, AvroSchema> cache) {
+        this.transform = transform;
+        this.cache = cache;
+    }
 
     public AvroSchema find(final Schema schema) {
         if (schema == null || schema instanceof AvroSchema) {
             return (AvroSchema) schema;
         }
         if (schema instanceof SchemaImpl) {
-            final SchemaImpl realSchema = (SchemaImpl) schema;
-            if ((!this.cache.containsKey(realSchema))
-                    && this.cache.size() >= AvroSchemaCache.MAX_SIZE) {
-                this.removeOldest();
-            }
-
-            final ChronoValue chronoValue =
-                    this.cache.computeIfAbsent(realSchema, this.transform.andThen(ChronoValue::new));
-
-            return chronoValue.getSchema();
+            return cache.computeIfAbsent((SchemaImpl) schema, transform);
         }
         return null;
     }
-
-    private synchronized void removeOldest() {
-        while (this.cache.size() >= AvroSchemaCache.MAX_SIZE) {
-            final Optional<Map.Entry<SchemaImpl, ChronoValue>> oldest = cache.entrySet() //
-                    .stream() //
-                    .min(Comparator.comparing((Map.Entry<SchemaImpl, ChronoValue> e) -> e.getValue().getLastUsage()));
-            if (oldest.isPresent()) {
-                final SchemaImpl key = oldest.get().getKey();
-                this.cache.remove(key);
-            }
-        }
-    }
-
-    @RequiredArgsConstructor
-    private static class ChronoValue {
-
-        private final AvroSchema schema;
-
-        @Getter(AccessLevel.PACKAGE)
-        private Long lastUsage = System.currentTimeMillis();
-
-        public AvroSchema getSchema() {
-            this.lastUsage = System.currentTimeMillis();
-            return schema;
-        }
-    }
 }
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.beam.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.jupiter.api.Test;
+
+class SegmentedLruCacheTest {
+
+    @Test
+    void lru() {
+        // 16 segments of 3 entries, 1, 17, 33 and 49 all go in the same segment
+        final SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>("lru", 48);
+        cache.computeIfAbsent(1, k -> -k);
+        cache.computeIfAbsent(17, k -> -k);
+        cache.computeIfAbsent(33, k -> -k);
+        assertEquals(-1, cache.get(1)); // 17 is now the least recently used
+        cache.computeIfAbsent(49, k -> -k);
+
+        assertEquals(3, cache.getSize());
+        assertNull(cache.get(17));
+        assertEquals(-1, cache.get(1));
+        assertEquals(-33, cache.get(33));
+        assertEquals(-49, cache.get(49));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void statistics() {
+        final AtomicInteger loads = new AtomicInteger();
+        final SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>("stats", 1000);
+        IntStream.range(0, 10).forEach(i -> cache.computeIfAbsent(i % 5, k -> loads.incrementAndGet()));
+        assertEquals(5, loads.get());
+        assertEquals(5, cache.getMissCount());
+        assertEquals(5, cache.getHitCount());
+        assertEquals(.5, cache.getHitRate());
+        assertEquals(0, cache.getEvictionCount());
+        assertEquals(5, cache.getSize());
+
+        cache.clear();
+        assertEquals(0, cache.getSize());
+    }
+
+    @Test
+    void bounded() {
+        final SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>("bounded", 200);
+        IntStream.range(0, 10_000).parallel().forEach(i -> cache.computeIfAbsent(i, k -> k));
+        assertTrue(cache.getSize() <= 200, () -> String.valueOf(cache.getSize()));
+        assertEquals(10_000 - cache.getSize(), cache.getEvictionCount());
+    }
+
+    @Test
+    void segments() {
+        final SegmentedLruCache<Integer, Integer> cache = new SegmentedLruCache<>("tiny", 3);
+        IntStream.range(0, 100).forEach(i -> cache.computeIfAbsent(i, k -> k));
+        assertEquals(3, cache.getSize());
+    }
+
+    @Test
+    void jmx() throws Exception {
+        final SegmentedLruCache<String, String> cache =
+                new SegmentedLruCache<String, String>("jmx-test", 10).registerJmx();
+        cache.computeIfAbsent("a", String::toUpperCase);
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName("org.talend.sdk.component:type=cache,name=jmx-test");
+        try {
+            assertNotNull(server.getMBeanInfo(name));
+            assertEquals(1L, server.getAttribute(name, "MissCount"));
+            assertEquals(10, server.getAttribute(name, "MaxSize"));
+        } finally {
+            cache.unregisterJmx();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
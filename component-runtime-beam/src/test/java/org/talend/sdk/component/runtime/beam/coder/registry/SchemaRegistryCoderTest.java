@@ -19,6 +19,8 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -127,4 +129,39 @@ class SchemaRegistryCoderTest {
         final double actual = decoded.getArray(Record.class, "__default__").iterator().next().getDouble("len");
         assertEquals(2., actual);
     }
+
+    @Test
+    void fingerprinted() throws IOException {
+        final Record record = new AvroRecord(new RecordImpl.BuilderImpl().withString("test", "data").build());
+
+        final ByteArrayOutputStream text = new ByteArrayOutputStream();
+        SchemaRegistryCoder.of().encode(record, text);
+        final ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        SchemaRegistryCoder.fingerprinted().encode(record, binary);
+        assertTrue(binary.size() < text.size() - 40, () -> binary.size() + " >= " + text.size());
+
+        // both formats are decoded whatever the mode is
+        for (final SchemaRegistryCoder coder : asList(SchemaRegistryCoder.of(), SchemaRegistryCoder.fingerprinted())) {
+            assertEquals("data", coder.decode(new ByteArrayInputStream(binary.toByteArray())).getString("test"));
+            assertEquals("data", coder.decode(new ByteArrayInputStream(text.toByteArray())).getString("test"));
+        }
+        assertNotEquals(SchemaRegistryCoder.of(), SchemaRegistryCoder.fingerprinted());
+    }
+
+    @Test
+    void fingerprintedStream() throws IOException {
+        final SchemaRegistryCoder coder = SchemaRegistryCoder.fingerprinted();
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        for (int i = 0; i < 3; i++) {
+            coder.encode(new AvroRecord(new RecordImpl.BuilderImpl().withInt("index", i).build()), buffer);
+        }
+        coder.encode(null, buffer);
+
+        final ByteArrayInputStream input = new ByteArrayInputStream(buffer.toByteArray());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i, coder.decode(input).getInt("index"));
+        }
+        assertEquals(0, coder.decode(input).getSchema().getEntries().size());
+        assertEquals(0, input.available());
+    }
 }
@@ -0,0 +1,119 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toMap;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares two JMH JSON results (baseline and current) and fails if a benchmark regressed more than a threshold.
+ * Throughput benchmarks regress when their score decreases, other modes when it increases.
+ */
+@Slf4j
+public class BaselineComparator {
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: BaselineComparator <baseline.json> <current.json> [threshold]");
+        }
+        final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 0.1;
+        final List<String> regressions =
+                new BaselineComparator().compare(load(Paths.get(args[0])), load(Paths.get(args[1])), threshold);
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException("Benchmarks regressed more than " + (threshold * 100) + "%:\n"
+                    + String.join("\n", regressions));
+        }
+    }
+
+    public List<String> compare(final Map<String, Score> baseline, final Map<String, Score> current,
+            final double threshold) {
+        final List<String> regressions = new ArrayList<>();
+        current.forEach((name, score) -> {
+            final Score reference = baseline.get(name);
+            if (reference == null) {
+                log.info("[NEW] {}: {} {}", name, score.getValue(), score.getUnit());
+                return;
+            }
+            final double change = (score.getValue() - reference.getValue()) / reference.getValue();
+            final double regression = "thrpt".equals(score.getMode()) ? -change : change;
+            final String line = String
+                    .format("%s: %.3f -> %.3f %s (%+.1f%%)", name, reference.getValue(), score.getValue(),
+                            score.getUnit(), change * 100);
+            if (regression > threshold) {
+                log.warn("[REGRESSION] {}", line);
+                regressions.add(line);
+            } else {
+                log.info("[OK] {}", line);
+            }
+        });
+        return regressions;
+    }
+
+    static Map<String, Score> load(final Path path) throws IOException {
+        try (final Reader reader = Files.newBufferedReader(path); final JsonReader json = Json.createReader(reader)) {
+            return json
+                    .readArray()
+                    .stream()
+                    .map(JsonValue::asJsonObject)
+                    .collect(toMap(BaselineComparator::name, it -> {
+                        final JsonObject metric = it.getJsonObject("primaryMetric");
+                        return new Score(it.getString("mode"), metric.getJsonNumber("score").doubleValue(),
+                                metric.getString("scoreUnit"));
+                    }, (a, b) -> a, TreeMap::new));
+        }
+    }
+
+    private static String name(final JsonObject benchmark) {
+        final JsonObject params = benchmark.getJsonObject("params");
+        if (params == null || params.isEmpty()) {
+            return benchmark.getString("benchmark");
+        }
+        return benchmark.getString("benchmark") + params
+                .keySet()
+                .stream()
+                .sorted()
+                .map(key -> key + "=" + params.getString(key))
+                .collect(joining(",", "{", "}"));
+    }
+
+    @Data
+    public static class Score {
+
+        private final String mode;
+
+        private final double value;
+
+        private final String unit;
+    }
+}
@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.IOException;
+import java.net.URL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.talend.sdk.component.classloader.ConfigurableClassLoader;
+
+/**
+ * Class lookups of a plugin classloader: JVM classes, parent (container) classes, plugin (child first) classes
+ * and missing classes.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class ClassLoaderBenchmark {
+
+    private static final String PLUGIN_PACKAGE = "org.talend.sdk.component.runtime.benchmark.";
+
+    private ConfigurableClassLoader loader;
+
+    @Setup
+    public void setup() throws ClassNotFoundException {
+        final URL location = ClassLoaderBenchmark.class.getProtectionDomain().getCodeSource().getLocation();
+        loader = new ConfigurableClassLoader("benchmark", new URL[] { location },
+                ClassLoaderBenchmark.class.getClassLoader(), name -> true, name -> name.startsWith(PLUGIN_PACKAGE),
+                new String[0], new String[] { "java.", "javax." });
+        loader.loadClass(PLUGIN_PACKAGE + "Fixtures"); // defined once, next loads are lookups
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        loader.close();
+    }
+
+    @Benchmark
+    public Class<?> jvmClass() throws ClassNotFoundException {
+        return loader.loadClass("java.lang.String");
+    }
+
+    @Benchmark
+    public Class<?> parentClass() throws ClassNotFoundException {
+        return loader.loadClass("org.talend.sdk.component.api.record.Record");
+    }
+
+    @Benchmark
+    public Class<?> pluginClass() throws ClassNotFoundException {
+        return loader.loadClass(PLUGIN_PACKAGE + "Fixtures");
+    }
+
+    @Benchmark
+    public boolean missingClass() {
+        try {
+            loader.loadClass("org.talend.sdk.component.missing.Missing");
+            return true;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
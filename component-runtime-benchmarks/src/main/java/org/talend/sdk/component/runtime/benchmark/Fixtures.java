@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static lombok.AccessLevel.PRIVATE;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.beam.spi.AvroRecordBuilderFactoryProvider;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = PRIVATE)
+final class Fixtures {
+
+    static RecordBuilderFactory recordBuilderFactory(final String implementation) {
+        switch (implementation) {
+        case "impl":
+            return new RecordBuilderFactoryImpl("benchmark");
+        case "avro":
+            return new AvroRecordBuilderFactoryProvider().apply("benchmark");
+        default:
+            throw new IllegalArgumentException("Unknown record implementation: " + implementation);
+        }
+    }
+
+    static Schema schema(final RecordBuilderFactory factory) {
+        return factory
+                .newSchemaBuilder(Schema.Type.RECORD)
+                .withEntry(entry(factory, "name", Schema.Type.STRING))
+                .withEntry(entry(factory, "id", Schema.Type.INT))
+                .withEntry(entry(factory, "counter", Schema.Type.LONG))
+                .withEntry(entry(factory, "amount", Schema.Type.DOUBLE))
+                .withEntry(entry(factory, "active", Schema.Type.BOOLEAN))
+                .withEntry(entry(factory, "price", Schema.Type.DECIMAL))
+                .withEntry(entry(factory, "created", Schema.Type.DATETIME))
+                .build();
+    }
+
+    static Record record(final RecordBuilderFactory factory, final int index) {
+        return factory
+                .newRecordBuilder(schema(factory))
+                .withString("name", "record_" + index)
+                .withInt("id", index)
+                .withLong("counter", index * 10L)
+                .withDouble("amount", index * 1.5)
+                .withBoolean("active", index % 2 == 0)
+                .withDecimal("price", BigDecimal.valueOf(index, 2))
+                .withDateTime("created", ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC")))
+                .build();
+    }
+
+    private static Schema.Entry entry(final RecordBuilderFactory factory, final String name, final Schema.Type type) {
+        return factory.newEntryBuilder().withName(name).withType(type).withNullable(true).build();
+    }
+
+    @Data
+    public static class Pojo {
+
+        private String name;
+
+        private int id;
+
+        private long counter;
+
+        private double amount;
+
+        private boolean active;
+
+        static Pojo of(final int index) {
+            final Pojo pojo = new Pojo();
+            pojo.setName("record_" + index);
+            pojo.setId(index);
+            pojo.setCounter(index * 10L);
+            pojo.setAmount(index * 1.5);
+            pojo.setActive(index % 2 == 0);
+            return pojo;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.Serializable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.talend.sdk.component.api.processor.ElementListener;
+import org.talend.sdk.component.api.processor.Input;
+import org.talend.sdk.component.api.processor.Output;
+import org.talend.sdk.component.api.processor.OutputEmitter;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.runtime.output.InputFactory;
+import org.talend.sdk.component.runtime.output.OutputFactory;
+import org.talend.sdk.component.runtime.output.Processor;
+import org.talend.sdk.component.runtime.output.ProcessorImpl;
+
+/**
+ * Dispatch of an element to a processor method ({@code ProcessorImpl#onNext}).
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class ProcessorBenchmark {
+
+    private Processor returning;
+
+    private Processor emitting;
+
+    private InputFactory inputs;
+
+    private OutputFactory outputs;
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        final Record record = Fixtures.record(Fixtures.recordBuilderFactory("impl"), 1);
+        inputs = name -> record;
+        outputs = name -> blackhole::consume;
+
+        returning = new ProcessorImpl("benchmark", "returning", "benchmark", emptyMap(), new ReturningProcessor());
+        emitting = new ProcessorImpl("benchmark", "emitting", "benchmark", emptyMap(), new EmittingProcessor());
+        returning.start();
+        emitting.start();
+        returning.beforeGroup();
+        emitting.beforeGroup();
+    }
+
+    @TearDown
+    public void tearDown() {
+        returning.afterGroup(outputs);
+        emitting.afterGroup(outputs);
+        returning.stop();
+        emitting.stop();
+    }
+
+    @Benchmark
+    public void returnedOutput() {
+        returning.onNext(inputs, outputs);
+    }
+
+    @Benchmark
+    public void emittedOutput() {
+        emitting.onNext(inputs, outputs);
+    }
+
+    public static class ReturningProcessor implements Serializable {
+
+        @ElementListener
+        public Record onNext(final Record record) {
+            return record;
+        }
+    }
+
+    public static class EmittingProcessor implements Serializable {
+
+        @ElementListener
+        public void onNext(@Input final Record record, @Output final OutputEmitter<Record> output,
+                @Output("reject") final OutputEmitter<Record> reject) {
+            output.emit(record);
+        }
+    }
+}
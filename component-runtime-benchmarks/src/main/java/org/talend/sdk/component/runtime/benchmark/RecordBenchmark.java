@@ -0,0 +1,110 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+/**
+ * Record creation and read, {@code impl} is {@code RecordImpl.BuilderImpl}, {@code avro} is {@code AvroRecordBuilder}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class RecordBenchmark {
+
+    @Param({ "impl", "avro" })
+    private String implementation;
+
+    private RecordBuilderFactory factory;
+
+    private Schema schema;
+
+    private Schema.Entry name;
+
+    private Record record;
+
+    private final ZonedDateTime date = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+    @Setup
+    public void setup() {
+        factory = Fixtures.recordBuilderFactory(implementation);
+        schema = Fixtures.schema(factory);
+        name = schema.getEntry("name");
+        record = Fixtures.record(factory, 1);
+    }
+
+    @Benchmark
+    public Record buildWithSchema() {
+        return factory
+                .newRecordBuilder(schema)
+                .with(name, "record")
+                .withInt("id", 1)
+                .withLong("counter", 2L)
+                .withDouble("amount", 3.5)
+                .withBoolean("active", true)
+                .withDecimal("price", BigDecimal.ONE)
+                .withDateTime("created", date)
+                .build();
+    }
+
+    @Benchmark
+    public Record buildWithoutSchema() {
+        return factory
+                .newRecordBuilder()
+                .withString("name", "record")
+                .withInt("id", 1)
+                .withLong("counter", 2L)
+                .withDouble("amount", 3.5)
+                .withBoolean("active", true)
+                .withDecimal("price", BigDecimal.ONE)
+                .withDateTime("created", date)
+                .build();
+    }
+
+    @Benchmark
+    public void read(final Blackhole blackhole) {
+        blackhole.consume(record.getString("name"));
+        blackhole.consume(record.getInt("id"));
+        blackhole.consume(record.getLong("counter"));
+        blackhole.consume(record.getDouble("amount"));
+        blackhole.consume(record.getBoolean("active"));
+        blackhole.consume(record.getDecimal("price"));
+        blackhole.consume(record.getDateTime("created"));
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.apache.beam.sdk.coders.Coder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.runtime.beam.coder.record.FullSerializationRecordCoder;
+import org.talend.sdk.component.runtime.beam.coder.registry.SchemaRegistryCoder;
+
+/**
+ * Beam coders used for the records between the transforms.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class RecordCoderBenchmark {
+
+    @Param({ "registry", "registry-fingerprint", "full" })
+    private String coderType;
+
+    private Coder<Record> coder;
+
+    private Record record;
+
+    private byte[] encoded;
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    @Setup
+    public void setup() throws IOException {
+        switch (coderType) {
+        case "registry":
+            coder = SchemaRegistryCoder.of();
+            break;
+        case "registry-fingerprint":
+            coder = SchemaRegistryCoder.fingerprinted();
+            break;
+        case "full":
+            coder = FullSerializationRecordCoder.of();
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown coder: " + coderType);
+        }
+        record = Fixtures.record(Fixtures.recordBuilderFactory("avro"), 1);
+        coder.encode(record, buffer);
+        encoded = buffer.toByteArray();
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        buffer.reset();
+        coder.encode(record, buffer);
+        return buffer.size();
+    }
+
+    @Benchmark
+    public Record decode() throws IOException {
+        return coder.decode(new ByteArrayInputStream(encoded));
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonObject;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.spi.JsonProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+import org.talend.sdk.component.runtime.record.RecordConverters;
+
+/**
+ * Conversions done by the runtime between the component signatures and the records (POJO and JSON).
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Benchmark)
+public class RecordConvertersBenchmark {
+
+    private final RecordConverters converters = new RecordConverters();
+
+    private final RecordConverters.MappingMetaRegistry registry = new RecordConverters.MappingMetaRegistry();
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("benchmark");
+
+    private final JsonProvider jsonProvider = JsonProvider.provider();
+
+    private final JsonBuilderFactory jsonBuilderFactory = jsonProvider.createBuilderFactory(emptyMap());
+
+    private Jsonb jsonb;
+
+    private Fixtures.Pojo pojo;
+
+    private JsonObject json;
+
+    private Record record;
+
+    @Setup
+    public void setup() {
+        jsonb = JsonbBuilder.create();
+        pojo = Fixtures.Pojo.of(1);
+        record = converters.toRecord(registry, pojo, () -> jsonb, () -> factory);
+        json = jsonBuilderFactory
+                .createObjectBuilder()
+                .add("name", pojo.getName())
+                .add("id", pojo.getId())
+                .add("counter", pojo.getCounter())
+                .add("amount", pojo.getAmount())
+                .add("active", pojo.isActive())
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        jsonb.close();
+    }
+
+    @Benchmark
+    public Record pojoToRecord() {
+        return converters.toRecord(registry, pojo, () -> jsonb, () -> factory);
+    }
+
+    @Benchmark
+    public Object recordToPojo() {
+        return converters
+                .toType(registry, record, Fixtures.Pojo.class, () -> jsonBuilderFactory, () -> jsonProvider,
+                        () -> jsonb, () -> factory);
+    }
+
+    @Benchmark
+    public Record jsonToRecord() {
+        return converters.toRecord(registry, json, () -> jsonb, () -> factory);
+    }
+
+    @Benchmark
+    public Object recordToJson() {
+        return converters
+                .toType(registry, record, JsonObject.class, () -> jsonBuilderFactory, () -> jsonProvider,
+                        () -> jsonb, () -> factory);
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BaselineComparatorTest {
+
+    @Test
+    void compare(@TempDir final Path work) throws IOException {
+        final Map<String, BaselineComparator.Score> baseline = BaselineComparator
+                .load(write(work.resolve("baseline.json"), result("avgt", 100, "registry"),
+                        result("thrpt", 1000, null)));
+        assertEquals(2, baseline.size());
+        assertTrue(baseline.containsKey("org.talend.Bench.run{coderType=registry}"));
+
+        final Map<String, BaselineComparator.Score> same = BaselineComparator
+                .load(write(work.resolve("same.json"), result("avgt", 105, "registry"), result("thrpt", 980, null)));
+        assertTrue(new BaselineComparator().compare(baseline, same, .1).isEmpty());
+
+        final Map<String, BaselineComparator.Score> slower = BaselineComparator
+                .load(write(work.resolve("slower.json"), result("avgt", 150, "registry"), result("thrpt", 500, null)));
+        final List<String> regressions = new BaselineComparator().compare(baseline, slower, .1);
+        assertEquals(2, regressions.size());
+    }
+
+    private Path write(final Path path, final String... results) throws IOException {
+        Files.write(path, ("[" + String.join(",", results) + "]").getBytes(UTF_8));
+        return path;
+    }
+
+    private String result(final String mode, final double score, final String coder) {
+        return "{\"benchmark\":\"org.talend.Bench.run\",\"mode\":\"" + mode + "\","
+                + (coder == null ? "" : "\"params\":{\"coderType\":\"" + coder + "\"},")
+                + "\"primaryMetric\":{\"score\":" + score + ",\"scoreUnit\":\"ns/op\"}}";
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.base;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Metadata of a component class: public methods per lifecycle marker and their unbound handles.
+ * It is computed once per class and since it is attached to the class (through a {@link ClassValue})
+ * it is released with the plugin classloader.
+ * It avoids to rescan the class each time a lifecycle instance is created (split, deserialization, ...).
+ */
+public final class ComponentMethods {
+
+    private static final ClassValue<ComponentMethods> METADATA = new ClassValue<ComponentMethods>() {
+
+        @Override
+        protected ComponentMethods computeValue(final Class<?> type) {
+            return new ComponentMethods(type);
+        }
+    };
+
+    private final Method[] methods;
+
+    private final ConcurrentMap<Class<? extends Annotation>, List<Method>> methodsByMarker =
+            new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<Method, MethodHandle> handles = new ConcurrentHashMap<>();
+
+    private ComponentMethods(final Class<?> type) {
+        this.methods = type.getMethods();
+    }
+
+    public static ComponentMethods of(final Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    public Stream<Method> find(final Class<? extends Annotation> marker) {
+        return methodsByMarker.computeIfAbsent(marker, this::doFind).stream();
+    }
+
+    public MethodInvoker invoker(final Method method, final Object instance) {
+        return new MethodInvoker(method, handles.computeIfAbsent(method, MethodInvoker::toHandle).bindTo(instance));
+    }
+
+    private List<Method> doFind(final Class<? extends Annotation> marker) {
+        return unmodifiableList(Stream.of(methods).filter(m -> m.isAnnotationPresent(marker)).peek(m -> {
+            if (!m.isAccessible()) {
+                m.setAccessible(true);
+            }
+        }).collect(toList()));
+    }
+}
@@ -31,6 +31,8 @@ import org.talend.sdk.component.runtime.serialization.ContainerFinder;
 // base class to handle postconstruct/predestroy
 public class LifecycleImpl extends Named implements Lifecycle {
 
+    protected static final Object[] NO_ARG = new Object[0];
+
     protected Object delegate;
 
     private transient ClassLoader loader;
@@ -50,7 +52,7 @@ public class LifecycleImpl extends Named implements Lifecycle {
     }
 
     protected Object[] evaluateParameters(final Class<? extends Annotation> marker, final Method method) {
-        return new Object[0];
+        return NO_ARG;
     }
 
     @Override
@@ -82,7 +84,10 @@ public class LifecycleImpl extends Named implements Lifecycle {
     protected Object doInvoke(final Method m, final Object... args) {
         final Thread thread = Thread.currentThread();
         final ClassLoader oldLoader = thread.getContextClassLoader();
-        thread.setContextClassLoader(findLoader());
+        final ClassLoader loader = findLoader();
+        if (oldLoader != loader) {
+            thread.setContextClassLoader(loader);
+        }
         try {
             return m.invoke(delegate, args);
         } catch (final IllegalAccessException e) {
@@ -90,27 +95,37 @@ public class LifecycleImpl extends Named implements Lifecycle {
         } catch (final InvocationTargetException e) {
             throw toRuntimeException(e);
         } finally {
-            thread.setContextClassLoader(oldLoader);
+            if (oldLoader != loader) {
+                thread.setContextClassLoader(oldLoader);
+            }
         }
     }
 
-    // mainly done by instance to avoid to rely on a registry maybe not initialized
-    // after serialization
-    protected Stream<Method> findMethods(final Class<? extends Annotation> marker) {
+    // hot path flavor, args array can be reused by the caller
+    protected Object doInvoke(final MethodInvoker invoker, final Object... args) {
         final Thread thread = Thread.currentThread();
         final ClassLoader oldLoader = thread.getContextClassLoader();
-        thread.setContextClassLoader(findLoader());
+        final ClassLoader loader = findLoader();
+        if (oldLoader == loader) {
+            return invoker.invoke(args);
+        }
+        thread.setContextClassLoader(loader);
         try {
-            return Stream.of(delegate.getClass().getMethods()).filter(m -> m.isAnnotationPresent(marker)).peek(m -> {
-                if (!m.isAccessible()) {
-                    m.setAccessible(true);
-                }
-            });
+            return invoker.invoke(args);
         } finally {
             thread.setContextClassLoader(oldLoader);
         }
     }
 
+    protected MethodInvoker toInvoker(final Method method) {
+        return ComponentMethods.of(delegate.getClass()).invoker(method, delegate);
+    }
+
+    // metadata are attached to the component class so they are available after serialization too
+    protected Stream<Method> findMethods(final Class<? extends Annotation> marker) {
+        return ComponentMethods.of(delegate.getClass()).find(marker);
+    }
+
     protected byte[] serializeDelegate() {
         return Serializer.toBytes(delegate);
     }
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.base;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.talend.sdk.component.runtime.base.lang.exception.InvocationExceptionWrapper.toRuntimeException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import lombok.Getter;
+
+/**
+ * Invoker of a component method bound once to its instance.
+ * It avoids the reflection ({@link Method#invoke(Object, Object...)}) on hot paths like
+ * {@code @ElementListener} or {@code @Producer} calls.
+ */
+public final class MethodInvoker {
+
+    @Getter
+    private final Method method;
+
+    private final MethodHandle handle;
+
+    MethodInvoker(final Method method, final MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+    }
+
+    public static MethodInvoker of(final Method method, final Object instance) {
+        return new MethodInvoker(method, toHandle(method).bindTo(instance));
+    }
+
+    // (Object instance, Object[] args)Object handle, not yet bound to an instance
+    static MethodHandle toHandle(final Method method) {
+        if (!method.isAccessible()) {
+            method.setAccessible(true);
+        }
+        try {
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(methodType(Object.class, Object.class, Object[].class));
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param args the arguments of the call, the array can be reused by the caller between calls.
+     * @return the value returned by the method (null for void methods).
+     */
+    public Object invoke(final Object[] args) {
+        try {
+            return handle.invokeExact(args);
+        } catch (final Throwable e) {
+            // keep the same exception mapping than the reflection based invocation
+            throw toRuntimeException(new InvocationTargetException(e));
+        }
+    }
+}
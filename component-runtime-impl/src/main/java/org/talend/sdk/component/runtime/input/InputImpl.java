@@ -21,7 +21,6 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.lang.reflect.Method;
 
 import javax.json.bind.Jsonb;
 
@@ -29,6 +28,7 @@ import org.talend.sdk.component.api.input.Producer;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.base.Delegated;
 import org.talend.sdk.component.runtime.base.LifecycleImpl;
+import org.talend.sdk.component.runtime.base.MethodInvoker;
 import org.talend.sdk.component.runtime.record.RecordConverters;
 import org.talend.sdk.component.runtime.serialization.ContainerFinder;
 import org.talend.sdk.component.runtime.serialization.EnhancedObjectInputStream;
@@ -38,7 +38,7 @@ import lombok.AllArgsConstructor;
 
 public class InputImpl extends LifecycleImpl implements Input, Delegated {
 
-    private transient Method next;
+    private transient MethodInvoker next;
 
     private transient RecordConverters converters;
 
@@ -79,11 +79,11 @@ public class InputImpl extends LifecycleImpl implements Input, Delegated {
     }
 
     protected Object readNext() {
-        return doInvoke(this.next);
+        return doInvoke(this.next, NO_ARG);
     }
 
     protected void init() {
-        next = findMethods(Producer.class).findFirst().get();
+        next = toInvoker(findMethods(Producer.class).findFirst().get());
         converters = new RecordConverters();
         registry = new RecordConverters.MappingMetaRegistry();
     }
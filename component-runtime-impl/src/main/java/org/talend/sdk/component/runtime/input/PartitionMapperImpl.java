@@ -36,6 +36,7 @@ import org.talend.sdk.component.api.input.Emitter;
 import org.talend.sdk.component.api.input.Split;
 import org.talend.sdk.component.runtime.base.Delegated;
 import org.talend.sdk.component.runtime.base.LifecycleImpl;
+import org.talend.sdk.component.runtime.base.MethodInvoker;
 import org.talend.sdk.component.runtime.serialization.ContainerFinder;
 import org.talend.sdk.component.runtime.serialization.EnhancedObjectInputStream;
 
@@ -45,17 +46,15 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class PartitionMapperImpl extends LifecycleImpl implements Mapper, Delegated {
 
-    private static final Object[] NO_ARG = new Object[0];
-
     private String inputName;
 
     private boolean stream;
 
-    private transient Method assessor;
+    private transient MethodInvoker assessor;
 
-    private transient Method split;
+    private transient MethodInvoker split;
 
-    private transient Method inputFactory;
+    private transient MethodInvoker inputFactory;
 
     private transient Function<Long, Object[]> splitArgSupplier;
 
@@ -83,7 +82,7 @@ public class PartitionMapperImpl extends LifecycleImpl implements Mapper, Delega
     public long assess() {
         lazyInit();
         if (assessor != null) {
-            return Number.class.cast(doInvoke(assessor)).longValue();
+            return Number.class.cast(doInvoke(assessor, NO_ARG)).longValue();
         }
         return 1;
     }
@@ -102,10 +101,7 @@ public class PartitionMapperImpl extends LifecycleImpl implements Mapper, Delega
     @Override
     public Input create() {
         lazyInit();
-        // note: we can surely mutualize/cache the reflection a bit here but let's wait
-        // to see it is useful before doing it,
-        // java 7/8 made enough progress to probably make it smooth OOTB
-        final Serializable input = Serializable.class.cast(doInvoke(inputFactory));
+        final Serializable input = Serializable.class.cast(doInvoke(inputFactory, NO_ARG));
         log.debug("[PartitionMapperImpl#create] isStream? {}.", isStream());
         if (isStream()) {
             return new StreamingInputImpl(rootName(), inputName, plugin(), input,
@@ -132,15 +128,16 @@ public class PartitionMapperImpl extends LifecycleImpl implements Mapper, Delega
     private void lazyInit() {
         if (split == null || inputFactory == null) {
             inputName = inputName == null || inputName.isEmpty() ? name() : inputName;
-            assessor = findMethods(Assessor.class).findFirst().orElse(null);
-            split = findMethods(Split.class).findFirst().get();
-            inputFactory = findMethods(Emitter.class).findFirst().get();
+            assessor = findMethods(Assessor.class).findFirst().map(this::toInvoker).orElse(null);
+            split = toInvoker(findMethods(Split.class).findFirst().get());
+            inputFactory = toInvoker(findMethods(Emitter.class).findFirst().get());
 
-            switch (split.getParameterCount()) {
+            final Method splitMethod = split.getMethod();
+            switch (splitMethod.getParameterCount()) {
             case 1:
-                if (int.class == split.getParameterTypes()[0]) {
+                if (int.class == splitMethod.getParameterTypes()[0]) {
                     splitArgSupplier = desiredSize -> new Object[] { desiredSize.intValue() };
-                } else if (long.class == split.getParameterTypes()[0]) {
+                } else if (long.class == splitMethod.getParameterTypes()[0]) {
                     splitArgSupplier = desiredSize -> new Object[] { desiredSize };
                 } else {
                     throw new IllegalArgumentException("@PartitionSize only supports int and long");
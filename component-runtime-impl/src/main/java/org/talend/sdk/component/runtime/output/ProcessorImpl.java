@@ -15,7 +15,6 @@
  */
 package org.talend.sdk.component.runtime.output;
 
-import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
@@ -28,7 +27,6 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.util.AbstractMap;
@@ -57,6 +55,7 @@ import org.talend.sdk.component.api.processor.Output;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.base.Delegated;
 import org.talend.sdk.component.runtime.base.LifecycleImpl;
+import org.talend.sdk.component.runtime.base.MethodInvoker;
 import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
 import org.talend.sdk.component.runtime.record.RecordConverters;
 import org.talend.sdk.component.runtime.serialization.ContainerFinder;
@@ -66,15 +65,18 @@ import lombok.AllArgsConstructor;
 
 public class ProcessorImpl extends LifecycleImpl implements Processor, Delegated {
 
-    private transient List<Method> beforeGroup;
+    private transient List<MethodInvoker> beforeGroup;
 
-    private transient List<Method> afterGroup;
+    private transient List<MethodInvoker> afterGroup;
 
-    private transient Method process;
+    private transient MethodInvoker process;
 
-    private transient List<BiFunction<InputFactory, OutputFactory, Object>> parameterBuilderProcess;
+    private transient BiFunction<InputFactory, OutputFactory, Object>[] parameterBuilderProcess;
 
-    private transient Map<Method, List<Function<OutputFactory, Object>>> parameterBuilderAfterGroup;
+    // reused for each record, processors are not called concurrently
+    private transient Object[] processArgs;
+
+    private transient Map<MethodInvoker, List<Function<OutputFactory, Object>>> parameterBuilderAfterGroup;
 
     private transient Jsonb jsonb;
 
@@ -113,34 +115,41 @@ public class ProcessorImpl extends LifecycleImpl implements Processor, Delegated
     @Override
     public void beforeGroup() {
         if (beforeGroup == null) {
-            beforeGroup = findMethods(BeforeGroup.class).collect(toList());
-            afterGroup = findMethods(AfterGroup.class).collect(toList());
-            process = findMethods(ElementListener.class).findFirst().orElse(null);
+            beforeGroup = findMethods(BeforeGroup.class).map(this::toInvoker).collect(toList());
+            afterGroup = findMethods(AfterGroup.class).map(this::toInvoker).collect(toList());
+            process = findMethods(ElementListener.class).findFirst().map(this::toInvoker).orElse(null);
 
             // IMPORTANT: ensure you call only once the create(....), see studio integration (mojo)
-            parameterBuilderProcess = process == null ? emptyList()
-                    : Stream.of(process.getParameters()).map(this::buildProcessParamBuilder).collect(toList());
+            @SuppressWarnings("unchecked") // generic array
+            final BiFunction<InputFactory, OutputFactory, Object>[] builders = process == null ? new BiFunction[0]
+                    : Stream
+                            .of(process.getMethod().getParameters())
+                            .map(this::buildProcessParamBuilder)
+                            .toArray(BiFunction[]::new);
+            parameterBuilderProcess = builders;
+            processArgs = parameterBuilderProcess.length == 0 ? NO_ARG : new Object[parameterBuilderProcess.length];
             parameterBuilderAfterGroup = afterGroup
                     .stream()
-                    .map(after -> new AbstractMap.SimpleEntry<>(after, Stream.of(after.getParameters()).map(param -> {
-                        if (isGroupBuffer(param.getParameterizedType())) {
-                            expectedRecordType = Class.class
-                                    .cast(ParameterizedType.class
-                                            .cast(param.getParameterizedType())
-                                            .getActualTypeArguments()[0]);
-                            return (Function<OutputFactory, Object>) o -> records;
-                        }
-                        return toOutputParamBuilder(param);
-                    }).collect(toList())))
+                    .map(after -> new AbstractMap.SimpleEntry<>(after,
+                            Stream.of(after.getMethod().getParameters()).map(param -> {
+                                if (isGroupBuffer(param.getParameterizedType())) {
+                                    expectedRecordType = Class.class
+                                            .cast(ParameterizedType.class
+                                                    .cast(param.getParameterizedType())
+                                                    .getActualTypeArguments()[0]);
+                                    return (Function<OutputFactory, Object>) o -> records;
+                                }
+                                return toOutputParamBuilder(param);
+                            }).collect(toList())))
                     .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
-            forwardReturn = process != null && process.getReturnType() != void.class;
+            forwardReturn = process != null && process.getMethod().getReturnType() != void.class;
 
             converter = new RecordConverters();
 
             mappings = new RecordConverters.MappingMetaRegistry();
         }
 
-        beforeGroup.forEach(this::doInvoke);
+        beforeGroup.forEach(it -> doInvoke(it, NO_ARG));
         if (process == null) { // collect records for @AfterGroup param
             records = new ArrayList<>();
         }
@@ -257,10 +266,10 @@ public class ProcessorImpl extends LifecycleImpl implements Processor, Delegated
             // todo: handle @Input there too? less likely it becomes useful
             records.add(doConvertInput(expectedRecordType, inputFactory.read(Branches.DEFAULT_BRANCH)));
         } else {
-            final Object[] args = parameterBuilderProcess
-                    .stream()
-                    .map(b -> b.apply(inputFactory, outputFactory))
-                    .toArray(Object[]::new);
+            final Object[] args = processArgs;
+            for (int i = 0; i < args.length; i++) {
+                args[i] = parameterBuilderProcess[i].apply(inputFactory, outputFactory);
+            }
             final Object out = doInvoke(process, args);
             if (forwardReturn) {
                 outputFactory.create(Branches.DEFAULT_BRANCH).emit(out);
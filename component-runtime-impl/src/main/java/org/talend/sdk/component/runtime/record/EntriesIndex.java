@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.record;
+
+import static java.util.stream.Collectors.toList;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.talend.sdk.component.api.record.Schema;
+
+/**
+ * Position of the entries of a schema ({@link Schema#getAllEntries()} order), it is the slot of their value in a
+ * {@link RecordImpl}.
+ */
+final class EntriesIndex {
+
+    // records of a flow share their schema instance so keep the last index of a foreign (not SchemaImpl) schema,
+    // weakly since the schema can come from a plugin which must be collectable once undeployed
+    private static volatile WeakReference<EntriesIndex> last = new WeakReference<>(null);
+
+    private final Schema schema;
+
+    private final Schema.Entry[] entries;
+
+    private final Map<String, Integer> positions;
+
+    EntriesIndex(final Schema schema, final List<Schema.Entry> entries) {
+        this.schema = schema;
+        this.entries = entries.toArray(new Schema.Entry[0]);
+        this.positions = new HashMap<>((int) (this.entries.length / .75f) + 1);
+        for (int i = 0; i < this.entries.length; i++) {
+            positions.put(this.entries[i].getName(), i);
+        }
+    }
+
+    static EntriesIndex of(final Schema schema) {
+        if (schema instanceof SchemaImpl) {
+            return ((SchemaImpl) schema).getEntriesIndex();
+        }
+        final EntriesIndex cached = last.get();
+        if (cached != null && cached.schema == schema) {
+            return cached;
+        }
+        final EntriesIndex index = new EntriesIndex(schema, schema.getAllEntries().collect(toList()));
+        last = new WeakReference<>(index);
+        return index;
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    int indexOf(final String name) {
+        final Integer position = positions.get(name);
+        return position == null ? -1 : position;
+    }
+
+    Schema.Entry getEntry(final int position) {
+        return entries[position];
+    }
+
+    /**
+     * @param values the values indexed with this index.
+     * @param target the index to move the values to.
+     * @return the values indexed with the target index.
+     */
+    Object[] remap(final Object[] values, final EntriesIndex target) {
+        if (target == this) {
+            return values.clone();
+        }
+        final Object[] remapped = new Object[target.size()];
+        for (int i = 0; i < entries.length; i++) {
+            if (values[i] != null) {
+                final int position = target.indexOf(entries[i].getName());
+                if (position >= 0) {
+                    remapped[position] = values[i];
+                }
+            }
+        }
+        return remapped;
+    }
+}
@@ -0,0 +1,327 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.record;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.beans.Introspector;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+/**
+ * Maps flat POJOs (string, int, long, double and boolean properties) to records and back with method handles on
+ * their accessors, instead of serializing them with JSON-B. It follows the JSON-B mapping of these classes
+ * (public fields and accessors of the fields, lexicographical order, null values skipped) so it is only created for
+ * the classes where it is unambiguous, the other ones keep the JSON-B mapping.
+ */
+final class PojoRecordMapper {
+
+    private final Property[] readers;
+
+    private final Property[] writers;
+
+    private final MethodHandle constructor;
+
+    private PojoRecordMapper(final Property[] readers, final Property[] writers, final MethodHandle constructor) {
+        this.readers = readers;
+        this.writers = writers;
+        this.constructor = constructor;
+    }
+
+    /**
+     * @param type the POJO class.
+     * @return the mapper of this class or null if it is not a flat POJO.
+     */
+    static PojoRecordMapper of(final Class<?> type) {
+        if (!isCandidate(type)) {
+            return null;
+        }
+        final Map<String, Field> fields = new HashMap<>();
+        for (final Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            if (hasJsonbAnnotation(field)) {
+                return null; // customized, let JSON-B handle it
+            }
+            fields.put(field.getName(), field);
+        }
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final Map<String, Property> readers = new TreeMap<>();
+        final Map<String, Property> writers = new TreeMap<>();
+        try {
+            for (final Field field : fields.values()) {
+                if (Modifier.isPublic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                    final Schema.Type fieldType = toType(field.getType());
+                    if (fieldType == null) {
+                        return null;
+                    }
+                    readers.put(field.getName(), new Property(field.getName(), fieldType,
+                            accessible(lookup, field, true), field.getType()));
+                    if (!Modifier.isFinal(field.getModifiers())) {
+                        writers.put(field.getName(), new Property(field.getName(), fieldType,
+                                accessible(lookup, field, false), field.getType()));
+                    }
+                }
+            }
+            for (final Method method : type.getMethods()) {
+                if (Modifier.isStatic(method.getModifiers()) || method.isBridge()
+                        || method.getDeclaringClass() == Object.class) {
+                    continue;
+                }
+                final String property = propertyName(method);
+                if (property == null) {
+                    continue;
+                }
+                final Field field = fields.get(property);
+                if (field == null || Modifier.isTransient(field.getModifiers()) || hasJsonbAnnotation(method)) {
+                    return null; // virtual or customized property, let JSON-B handle it
+                }
+                final boolean getter = method.getParameterCount() == 0;
+                final Class<?> propertyType = getter ? method.getReturnType() : method.getParameterTypes()[0];
+                final Schema.Type schemaType = toType(propertyType);
+                if (schemaType == null) {
+                    return null;
+                }
+                final Property accessor = new Property(property, schemaType, unreflect(lookup, method), propertyType);
+                (getter ? readers : writers).put(property, accessor);
+            }
+        } catch (final IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+        if (readers.isEmpty()) {
+            return null;
+        }
+        return new PojoRecordMapper(readers.values().toArray(new Property[0]),
+                writers.values().toArray(new Property[0]), findConstructor(lookup, type));
+    }
+
+    Record toRecord(final Object data, final RecordBuilderFactory factory) {
+        final Record.Builder builder = factory.newRecordBuilder();
+        for (final Property property : readers) {
+            final Object value = property.read(data);
+            if (value == null) {
+                continue;
+            }
+            switch (property.type) {
+            case STRING:
+                builder.withString(property.name, String.class.cast(value));
+                break;
+            case INT:
+                builder.withInt(property.name, Integer.class.cast(value));
+                break;
+            case LONG:
+                builder.withLong(property.name, Long.class.cast(value));
+                break;
+            case DOUBLE:
+                builder.withDouble(property.name, Double.class.cast(value));
+                break;
+            case BOOLEAN:
+                builder.withBoolean(property.name, Boolean.class.cast(value));
+                break;
+            default:
+                throw new IllegalStateException("Unsupported type: " + property.type);
+            }
+        }
+        return builder.build();
+    }
+
+    boolean canCreateInstances() {
+        return constructor != null;
+    }
+
+    Object toInstance(final Record record) {
+        final Object instance;
+        try {
+            instance = constructor.invoke();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+        final Schema schema = record.getSchema();
+        for (final Property property : writers) {
+            final Schema.Entry entry = schema.getEntry(property.name);
+            if (entry == null || entry.isMetadata()) {
+                continue;
+            }
+            final Object value = record.get(property.boxedType, property.name);
+            if (value != null) {
+                property.write(instance, value);
+            }
+        }
+        return instance;
+    }
+
+    private static boolean isCandidate(final Class<?> type) {
+        return !type.isInterface() && !type.isArray() && !type.isEnum() && !type.isPrimitive()
+                && !type.isAnonymousClass() && !Modifier.isAbstract(type.getModifiers())
+                // JSON-B orders the properties per class of the hierarchy
+                && type.getSuperclass() == Object.class
+                && !type.getName().startsWith("java.") && !type.getName().startsWith("javax.")
+                && !Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)
+                && !hasJsonbAnnotation(type);
+    }
+
+    private static boolean hasJsonbAnnotation(final AnnotatedElement element) {
+        return Stream
+                .of(element.getAnnotations())
+                .map(Annotation::annotationType)
+                .anyMatch(it -> it.getName().startsWith("javax.json.bind.annotation."));
+    }
+
+    private static String propertyName(final Method method) {
+        final String name = method.getName();
+        if (method.getParameterCount() == 0) {
+            if (name.startsWith("get") && name.length() > 3 && method.getReturnType() != void.class) {
+                return Introspector.decapitalize(name.substring(3));
+            }
+            if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+                return Introspector.decapitalize(name.substring(2));
+            }
+        } else if (method.getParameterCount() == 1 && name.startsWith("set") && name.length() > 3) {
+            return Introspector.decapitalize(name.substring(3));
+        }
+        return null;
+    }
+
+    private static Schema.Type toType(final Class<?> type) {
+        if (String.class == type) {
+            return Schema.Type.STRING;
+        }
+        if (int.class == type || Integer.class == type) {
+            return Schema.Type.INT;
+        }
+        if (long.class == type || Long.class == type) {
+            return Schema.Type.LONG;
+        }
+        if (double.class == type || Double.class == type) {
+            return Schema.Type.DOUBLE;
+        }
+        if (boolean.class == type || Boolean.class == type) {
+            return Schema.Type.BOOLEAN;
+        }
+        return null;
+    }
+
+    private static MethodHandle accessible(final MethodHandles.Lookup lookup, final Field field, final boolean getter)
+            throws IllegalAccessException {
+        makeAccessible(field);
+        return getter ? lookup.unreflectGetter(field) : lookup.unreflectSetter(field);
+    }
+
+    private static MethodHandle unreflect(final MethodHandles.Lookup lookup, final Method method)
+            throws IllegalAccessException {
+        makeAccessible(method);
+        return lookup.unreflect(method);
+    }
+
+    private static MethodHandle findConstructor(final MethodHandles.Lookup lookup, final Class<?> type) {
+        if (type.isMemberClass() && !Modifier.isStatic(type.getModifiers())) {
+            return null;
+        }
+        try {
+            final Constructor<?> constructor = type.getConstructor();
+            makeAccessible(constructor);
+            return lookup.unreflectConstructor(constructor).asType(methodType(Object.class));
+        } catch (final NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void makeAccessible(final AccessibleObject member) {
+        if (!member.isAccessible()) { // public member of a non public class
+            member.setAccessible(true);
+        }
+    }
+
+    private static final class Property {
+
+        private final String name;
+
+        private final Schema.Type type;
+
+        private final MethodHandle handle;
+
+        private final Class<?> boxedType;
+
+        private Property(final String name, final Schema.Type type, final MethodHandle handle,
+                final Class<?> propertyType) {
+            this.name = name;
+            this.type = type;
+            this.boxedType = box(propertyType);
+            this.handle = handle.type().parameterCount() == 1
+                    ? handle.asType(methodType(Object.class, Object.class))
+                    : handle.asType(methodType(void.class, Object.class, Object.class));
+        }
+
+        private Object read(final Object instance) {
+            try {
+                return handle.invokeExact(instance);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private void write(final Object instance, final Object value) {
+            try {
+                handle.invokeExact(instance, value);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static Class<?> box(final Class<?> type) {
+            if (int.class == type) {
+                return Integer.class;
+            }
+            if (long.class == type) {
+                return Long.class;
+            }
+            if (double.class == type) {
+                return Double.class;
+            }
+            if (boolean.class == type) {
+                return Boolean.class;
+            }
+            return type;
+        }
+    }
+}
@@ -59,7 +59,9 @@ import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.record.json.OutputRecordHolder;
 import org.talend.sdk.component.runtime.record.json.PojoJsonbProvider;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 
 public class RecordConverters implements Serializable {
 
@@ -83,6 +85,9 @@ public class RecordConverters implements Serializable {
         final Jsonb jsonb = jsonbProvider.get();
         if (!String.class.isInstance(data) && !data.getClass().isPrimitive()
                 && PojoJsonbProvider.class.isInstance(jsonb)) {
+            if (meta.getDirectMapping() != null) { // same record as the generator without the serialization
+                return meta.getDirectMapping().toRecord(data, recordBuilderProvider.get());
+            }
             final Jsonb pojoMapper = PojoJsonbProvider.class.cast(jsonb).get();
             final OutputRecordHolder holder = new OutputRecordHolder(data);
             try (final OutputRecordHolder stream = holder) {
@@ -271,6 +276,9 @@ public class RecordConverters implements Serializable {
                 if (mappingMeta.isLinearMapping()) {
                     return mappingMeta.newInstance(record, metadata);
                 }
+                if (mappingMeta.getDirectMapping() != null && mappingMeta.getDirectMapping().canCreateInstances()) {
+                    return mappingMeta.getDirectMapping().toInstance(record);
+                }
             }
             final JsonObject asJson = toJson(factorySupplier, providerSupplier, record);
             if (JsonObject.class == parameterType) {
@@ -472,9 +480,16 @@ public class RecordConverters implements Serializable {
 
         private Method visitRowStruct;
 
+        /**
+         * Method handle based mapping of flat POJOs, null if the class must be mapped with JSON-B.
+         */
+        @Getter(AccessLevel.PACKAGE)
+        private final PojoRecordMapper directMapping;
+
         public MappingMeta(final Class<?> type, final MappingMetaRegistry registry) {
             linearMapping = Stream.of(type.getInterfaces()).anyMatch(it -> it.getName().startsWith("routines.system."));
             rowStruct = type;
+            directMapping = linearMapping ? null : PojoRecordMapper.of(type);
         }
 
         public Object newInstance(final Record record) {
@@ -16,7 +16,6 @@
 package org.talend.sdk.component.runtime.record;
 
 import static java.util.Collections.emptyMap;
-import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.joining;
 import static org.talend.sdk.component.api.record.Schema.Type.ARRAY;
 import static org.talend.sdk.component.api.record.Schema.Type.BOOLEAN;
@@ -46,6 +45,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.json.Json;
 import javax.json.JsonObject;
@@ -70,20 +70,53 @@ public final class RecordImpl implements Record {
 
     private static final RecordConverters RECORD_CONVERTERS = new RecordConverters();
 
-    private final Map<String, Object> values;
+    // indexed by the position of the entry in the schema (EntriesIndex), no per record map
+    private final Object[] values;
 
     @Getter
     @JsonbTransient
     private final Schema schema;
 
-    private RecordImpl(final Map<String, Object> values, final Schema schema) {
+    @EqualsAndHashCode.Exclude
+    private final EntriesIndex index;
+
+    private RecordImpl(final Object[] values, final Schema schema, final EntriesIndex index) {
         this.values = values;
         this.schema = schema;
+        this.index = index;
     }
 
     @Override
     public <T> T get(final Class<T> expectedType, final String name) {
-        final Object value = values.get(name);
+        final int position = index.indexOf(name);
+        if (position < 0) {
+            return null;
+        }
+        return cast(expectedType, values[position], name);
+    }
+
+    /**
+     * @param name the entry name.
+     * @return the position of the entry value in this record or -1 if the schema does not have this entry.
+     */
+    public int indexOf(final String name) {
+        return index.indexOf(name);
+    }
+
+    /**
+     * Same as {@link #get(Class, String)} but from the position of the entry ({@link #indexOf(String)}), it avoids
+     * the entry lookup by name when reading a lot of records of the same schema.
+     *
+     * @param expectedType the expected value type.
+     * @param position the position of the entry value.
+     * @param <T> the expected value type.
+     * @return the value or null.
+     */
+    public <T> T get(final Class<T> expectedType, final int position) {
+        return cast(expectedType, values[position], index.getEntry(position).getName());
+    }
+
+    private <T> T cast(final Class<T> expectedType, final Object value, final String name) {
         // here mean get(Object.class, name) return origin store type, like DATETIME return long, is expected?
         if (value == null || expectedType.isInstance(value)) {
             return expectedType.cast(value);
@@ -114,19 +147,25 @@ public final class RecordImpl implements Record {
         final BuilderImpl builder = new BuilderImpl(newSchema);
         newSchema.getAllEntries()
                 .filter(e -> Objects.equals(schema.getEntry(e.getName()), e))
-                .forEach(e -> builder.with(e, values.get(e.getName())));
+                .forEach(e -> builder.with(e, get(Object.class, e.getName())));
         return builder;
     }
 
     // Entry creation can be optimized a bit but recent GC should not see it as a big deal
     public static class BuilderImpl implements Builder {
 
-        private final Map<String, Object> values = new HashMap<>(8);
+        // without provided schema: values by entry name
+        private final Map<String, Object> values;
 
         private final OrderedMap<Schema.Entry> entries;
 
         private final Schema providedSchema;
 
+        // with a provided schema: values by entry position
+        private final EntriesIndex index;
+
+        private final Object[] slots;
+
         private OrderState orderState;
 
         public BuilderImpl() {
@@ -136,10 +175,16 @@ public final class RecordImpl implements Record {
         public BuilderImpl(final Schema providedSchema) {
             this.providedSchema = providedSchema;
             if (this.providedSchema == null) {
+                this.values = new HashMap<>(8);
                 this.entries = new OrderedMap<>(Schema.Entry::getName, Collections.emptyList());
                 this.orderState = new OrderState(Collections.emptyList());
+                this.index = null;
+                this.slots = null;
             } else {
+                this.values = null;
                 this.entries = null;
+                this.index = EntriesIndex.of(this.providedSchema);
+                this.slots = new Object[this.index.size()];
             }
         }
 
@@ -160,13 +205,77 @@ public final class RecordImpl implements Record {
         private BuilderImpl(final List<Schema.Entry> entries, final Map<String, Object> values) {
             this.providedSchema = null;
             this.entries = new OrderedMap<>(Schema.Entry::getName, entries);
-            this.values.putAll(values);
+            this.values = new HashMap<>(values);
             this.orderState = null;
+            this.index = null;
+            this.slots = null;
         }
 
         @Override
         public Object getValue(final String name) {
-            return this.values.get(name);
+            if (this.slots == null) {
+                return this.values.get(name);
+            }
+            final int position = this.index.indexOf(name);
+            return position < 0 ? null : this.slots[position];
+        }
+
+        /**
+         * @param name the entry name.
+         * @return the position of the entry of the provided schema or -1 if the schema does not have this entry.
+         */
+        public int indexOf(final String name) {
+            if (this.index == null) {
+                throw new IllegalStateException("No provided schema, entries are not indexed");
+            }
+            return this.index.indexOf(name);
+        }
+
+        /**
+         * Same as {@link #with(Entry, Object)} but from the position of the entry in the provided schema
+         * ({@link #indexOf(String)}), it avoids the entry lookup by name when building a lot of records of the same
+         * schema.
+         *
+         * @param position the position of the entry.
+         * @param value the value.
+         * @return this builder.
+         */
+        public BuilderImpl with(final int position, final Object value) {
+            if (this.index == null) {
+                throw new IllegalStateException("No provided schema, entries are not indexed");
+            }
+            final Schema.Entry entry = this.index.getEntry(position);
+            if (entry.getType() == DATETIME) { // needs the conversion of the value
+                with(entry, value);
+                return this;
+            }
+            if (!entry.getType().isCompatible(value)) {
+                throw new IllegalArgumentException(String
+                        .format("Entry '%s' of type %s is not compatible with value of type '%s'", entry.getName(),
+                                entry.getType(), value.getClass().getName()));
+            }
+            if (value != null) {
+                this.slots[position] = value;
+            } else if (!entry.isNullable()) {
+                throw new IllegalArgumentException(entry.getName() + " is not nullable but got a null value");
+            }
+            if (this.orderState != null) {
+                this.orderState.update(entry);
+            }
+            return this;
+        }
+
+        private Map<String, Object> valuesByName() {
+            if (this.slots == null) {
+                return this.values;
+            }
+            final Map<String, Object> byName = new HashMap<>();
+            for (int i = 0; i < this.slots.length; i++) {
+                if (this.slots[i] != null) {
+                    byName.put(this.index.getEntry(i).getName(), this.slots[i]);
+                }
+            }
+            return byName;
         }
 
         @Override
@@ -223,8 +332,8 @@ public final class RecordImpl implements Record {
                 return this;
             }
 
-            final BuilderImpl builder =
-                    new BuilderImpl(this.providedSchema.getAllEntries().collect(Collectors.toList()), this.values);
+            final BuilderImpl builder = new BuilderImpl(
+                    this.providedSchema.getAllEntries().collect(Collectors.toList()), valuesByName());
             return builder.removeEntry(schemaEntry);
         }
 
@@ -254,15 +363,19 @@ public final class RecordImpl implements Record {
                 return this;
             }
 
-            final BuilderImpl builder =
-                    new BuilderImpl(this.providedSchema.getAllEntries().collect(Collectors.toList()),
-                            this.values);
+            final BuilderImpl builder = new BuilderImpl(
+                    this.providedSchema.getAllEntries().collect(Collectors.toList()), valuesByName());
             return builder.updateEntryByName(name, schemaEntry);
         }
 
         @Override
         public Builder updateEntryByName(final String name, final Entry schemaEntry,
                 final Function<Object, Object> valueCastFunction) {
+            if (this.providedSchema != null) {
+                final BuilderImpl builder = new BuilderImpl(
+                        this.providedSchema.getAllEntries().collect(Collectors.toList()), valuesByName());
+                return builder.updateEntryByName(name, schemaEntry, valueCastFunction);
+            }
             Object currentValue = this.values.get(name);
             this.values.put(name, valueCastFunction.apply(currentValue));
             return updateEntryByName(name, schemaEntry);
@@ -324,28 +437,33 @@ public final class RecordImpl implements Record {
         }
 
         public Record build() {
-            final Schema currentSchema;
             if (this.providedSchema != null) {
-                final String missing = this.providedSchema
-                        .getAllEntries()
-                        .filter(it -> !it.isNullable() && !values.containsKey(it.getName()))
-                        .map(Schema.Entry::getName)
+                final String missing = IntStream
+                        .range(0, this.slots.length)
+                        .filter(i -> this.slots[i] == null && !this.index.getEntry(i).isNullable())
+                        .mapToObj(i -> this.index.getEntry(i).getName())
                         .collect(joining(", "));
                 if (!missing.isEmpty()) {
                     throw new IllegalArgumentException("Missing entries: " + missing);
                 }
                 if (orderState != null && orderState.isOverride()) {
-                    currentSchema = this.providedSchema.toBuilder().build(this.orderState.buildComparator());
-                } else {
-                    currentSchema = this.providedSchema;
+                    final Schema currentSchema =
+                            this.providedSchema.toBuilder().build(this.orderState.buildComparator());
+                    final EntriesIndex currentIndex = EntriesIndex.of(currentSchema);
+                    return new RecordImpl(this.index.remap(this.slots, currentIndex), currentSchema, currentIndex);
                 }
-            } else {
-                final Schema.Builder builder = new SchemaImpl.BuilderImpl().withType(RECORD);
-                this.entries.forEachValue(builder::withEntry);
-                initOrderState();
-                currentSchema = builder.build(orderState.buildComparator());
+                return new RecordImpl(this.slots.clone(), this.providedSchema, this.index);
             }
-            return new RecordImpl(unmodifiableMap(values), currentSchema);
+            final Schema.Builder builder = new SchemaImpl.BuilderImpl().withType(RECORD);
+            this.entries.forEachValue(builder::withEntry);
+            initOrderState();
+            final Schema currentSchema = builder.build(orderState.buildComparator());
+            final EntriesIndex currentIndex = EntriesIndex.of(currentSchema);
+            final Object[] currentValues = new Object[currentIndex.size()];
+            for (int i = 0; i < currentValues.length; i++) {
+                currentValues[i] = this.values.get(currentIndex.getEntry(i).getName());
+            }
+            return new RecordImpl(currentValues, currentSchema, currentIndex);
         }
 
         // here the game is to add an entry method for each kind of type + its companion with Entry provider
@@ -531,8 +649,16 @@ public final class RecordImpl implements Record {
             } else {
                 realEntry = entry;
             }
+            final int position = this.index == null ? -1 : this.index.indexOf(realEntry.getName());
+            if (this.index != null && position < 0) {
+                throw new IllegalArgumentException("No entry '" + realEntry.getName() + "' expected in provided schema");
+            }
             if (value != null) {
-                values.put(realEntry.getName(), value);
+                if (this.slots == null) {
+                    values.put(realEntry.getName(), value);
+                } else {
+                    this.slots[position] = value;
+                }
             } else if (!realEntry.isNullable()) {
                 throw new IllegalArgumentException(realEntry.getName() + " is not nullable but got a null value");
             }
@@ -541,7 +667,7 @@ public final class RecordImpl implements Record {
                 this.entries.addValue(realEntry);
             }
             if (orderState == null) {
-                if (this.providedSchema != null && this.providedSchema.getEntryMap().containsKey(realEntry.getName())) {
+                if (position >= 0) {
                     // no need orderState, delay init it for performance, this is 99% cases for
                     // RecordBuilderFactoryImpl.newRecordBuilder(schema) usage
                 } else {
@@ -16,6 +16,7 @@
 package org.talend.sdk.component.runtime.record;
 
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
@@ -36,6 +37,7 @@ import org.talend.sdk.component.api.record.OrderedMap;
 import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.api.record.SchemaProperty;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -63,7 +65,16 @@ public class SchemaImpl implements Schema {
 
     @Getter
     @JsonbTransient
-    private Map<String, Entry> entryMap = new HashMap<>();
+    private final Map<String, Entry> entryMap;
+
+    @ToString.Exclude
+    @Getter(AccessLevel.PACKAGE)
+    @JsonbTransient
+    private final EntriesIndex entriesIndex;
+
+    @ToString.Exclude
+    @JsonbTransient
+    private final int hash;
 
     public static final String ENTRIES_ORDER_PROP = "talend.fields.order";
 
@@ -72,18 +83,29 @@ public class SchemaImpl implements Schema {
         this.elementSchema = builder.elementSchema;
         this.entries = unmodifiableList(builder.entries.streams().collect(toList()));
         this.metadataEntries = unmodifiableList(builder.metadataEntries.streams().collect(toList()));
-        this.props = builder.props;
-        entriesOrder = EntriesOrder.of(getFieldsOrder());
+        // not shared with the builder and read only since the instance can be interned
+        final Map<String, String> props = new LinkedHashMap<>(builder.props);
+        entriesOrder = EntriesOrder.of(getFieldsOrder(props));
+        this.props = unmodifiableMap(props);
+        final Map<String, Entry> entryMap = new HashMap<>();
         getAllEntries().forEach(e -> entryMap.put(e.getName(), e));
+        this.entryMap = unmodifiableMap(entryMap);
+        entriesIndex = new EntriesIndex(this, getAllEntries().collect(toList()));
+        hash = computeHashCode();
     }
 
     /**
      * Optimized hashcode method (do not enter inside field hashcode, just getName, ignore props fields).
+     * The schema is immutable so it is computed once.
      *
      * @return hashcode.
      */
     @Override
     public int hashCode() {
+        return hash;
+    }
+
+    private int computeHashCode() {
         final String e1 =
                 this.entries != null ? this.entries.stream().map(Entry::getName).collect(joining(",")) : "";
         final String m1 = this.metadataEntries != null
@@ -102,7 +124,7 @@ public class SchemaImpl implements Schema {
             return false;
         }
         final SchemaImpl other = (SchemaImpl) obj;
-        if (!other.canEqual(this)) {
+        if (other.hash != this.hash || !other.canEqual(this)) {
             return false;
         }
         return Objects.equals(this.type, other.type)
@@ -157,8 +179,8 @@ public class SchemaImpl implements Schema {
         return entriesOrder;
     }
 
-    private String getFieldsOrder() {
-        String fields = getProp(ENTRIES_ORDER_PROP);
+    private String getFieldsOrder(final Map<String, String> props) {
+        String fields = props.get(ENTRIES_ORDER_PROP);
         if (fields == null || fields.isEmpty()) {
             fields = getAllEntries().map(Entry::getName).collect(joining(","));
             props.put(ENTRIES_ORDER_PROP, fields);
@@ -315,7 +337,7 @@ public class SchemaImpl implements Schema {
             if (this.entriesOrder != null && !this.entriesOrder.isEmpty()) {
                 this.props.put(ENTRIES_ORDER_PROP, entriesOrder.stream().collect(joining(",")));
             }
-            return new SchemaImpl(this);
+            return SchemaInterner.intern(new SchemaImpl(this));
         }
 
         @Override
@@ -324,7 +346,7 @@ public class SchemaImpl implements Schema {
                     this.getAllEntries().sorted(order).map(Entry::getName).collect(joining(","));
             this.props.put(ENTRIES_ORDER_PROP, entriesOrderProp);
 
-            return new SchemaImpl(this);
+            return SchemaInterner.intern(new SchemaImpl(this));
         }
 
         private Schema.Entry getEntry(final String name) {
@@ -0,0 +1,98 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.record;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizes structurally equal schemas to a single instance (weakly referenced so unused schemas are still
+ * collected). Dynamic schema sources build the same schema for each record, sharing it saves the heap of the
+ * duplicates and lets the schema keyed caches hit on identity.
+ */
+final class SchemaInterner {
+
+    static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("talend.component.runtime.schema.interning", "true"));
+
+    private static final SchemaInterner INSTANCE = new SchemaInterner();
+
+    private final ConcurrentMap<Key, Key> schemas = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<SchemaImpl> collected = new ReferenceQueue<>();
+
+    static SchemaImpl intern(final SchemaImpl schema) {
+        return ENABLED ? INSTANCE.canonical(schema) : schema;
+    }
+
+    SchemaImpl canonical(final SchemaImpl schema) {
+        expunge();
+        final Key key = new Key(schema, collected);
+        while (true) {
+            final Key existing = schemas.putIfAbsent(key, key);
+            if (existing == null) {
+                return schema;
+            }
+            final SchemaImpl canonical = existing.get();
+            if (canonical != null) {
+                return canonical;
+            }
+            schemas.remove(existing, existing); // collected meanwhile
+        }
+    }
+
+    int size() {
+        expunge();
+        return schemas.size();
+    }
+
+    private void expunge() {
+        Reference<? extends SchemaImpl> ref;
+        while ((ref = collected.poll()) != null) {
+            schemas.remove(ref);
+        }
+    }
+
+    private static final class Key extends WeakReference<SchemaImpl> {
+
+        private final int hash;
+
+        private Key(final SchemaImpl schema, final ReferenceQueue<SchemaImpl> queue) {
+            super(schema, queue);
+            this.hash = schema.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key) || Key.class.cast(obj).hash != hash) {
+                return false;
+            }
+            final SchemaImpl schema = get();
+            return schema != null && schema.equals(Key.class.cast(obj).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -15,15 +15,14 @@
  */
 package org.talend.sdk.component.runtime.standalone;
 
-import java.lang.reflect.Method;
-
 import org.talend.sdk.component.api.standalone.RunAtDriver;
 import org.talend.sdk.component.runtime.base.Delegated;
 import org.talend.sdk.component.runtime.base.LifecycleImpl;
+import org.talend.sdk.component.runtime.base.MethodInvoker;
 
 public class DriverRunnerImpl extends LifecycleImpl implements DriverRunner, Delegated {
 
-    private transient Method runAtDriver;
+    private transient MethodInvoker runAtDriver;
 
     public DriverRunnerImpl(final String rootName, final String name, final String plugin, final Object delegate) {
         super(delegate, rootName, name, plugin);
@@ -36,9 +35,9 @@ public class DriverRunnerImpl extends LifecycleImpl implements DriverRunner, Del
     @Override
     public void runAtDriver() {
         if (runAtDriver == null) {
-            runAtDriver = findMethods(RunAtDriver.class).findFirst().get();
+            runAtDriver = toInvoker(findMethods(RunAtDriver.class).findFirst().get());
         }
-        doInvoke(runAtDriver);
+        doInvoke(runAtDriver, NO_ARG);
     }
 
     @Override
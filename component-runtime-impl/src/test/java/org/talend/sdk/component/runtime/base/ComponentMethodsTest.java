@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.base;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.junit.jupiter.api.Test;
+
+class ComponentMethodsTest {
+
+    @Test
+    void sameMetadataForAClass() {
+        assertSame(ComponentMethods.of(Component.class), ComponentMethods.of(Component.class));
+    }
+
+    @Test
+    void find() {
+        final ComponentMethods methods = ComponentMethods.of(Component.class);
+        final List<Method> postConstructs = methods.find(PostConstruct.class).collect(toList());
+        assertEquals(1, postConstructs.size());
+        assertEquals("init", postConstructs.get(0).getName());
+        assertSame(postConstructs.get(0), methods.find(PostConstruct.class).findFirst().get());
+        assertEquals(0, methods.find(PreDestroy.class).count());
+    }
+
+    @Test
+    void invokerIsBoundToTheInstance() {
+        final ComponentMethods methods = ComponentMethods.of(Component.class);
+        final Method init = methods.find(PostConstruct.class).findFirst().get();
+        final Component first = new Component();
+        final Component second = new Component();
+        methods.invoker(init, first).invoke(new Object[0]);
+        methods.invoker(init, second).invoke(new Object[0]);
+        methods.invoker(init, second).invoke(new Object[0]);
+        assertEquals(1, first.counter);
+        assertEquals(2, second.counter);
+    }
+
+    public static class Component {
+
+        private int counter;
+
+        @PostConstruct
+        public void init() {
+            counter++;
+        }
+    }
+}
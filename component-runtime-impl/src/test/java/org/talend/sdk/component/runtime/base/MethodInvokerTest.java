@@ -0,0 +1,90 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.base;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.exception.ComponentException;
+
+class MethodInvokerTest {
+
+    @Test
+    void invokeWithReusedArguments() throws NoSuchMethodException {
+        final Component component = new Component();
+        final MethodInvoker invoker =
+                MethodInvoker.of(Component.class.getMethod("concat", String.class, int.class), component);
+        final Object[] args = new Object[2];
+        for (int i = 0; i < 3; i++) {
+            args[0] = "value";
+            args[1] = i;
+            assertEquals("value" + i, invoker.invoke(args));
+        }
+    }
+
+    @Test
+    void invokeVoid() throws NoSuchMethodException {
+        final Component component = new Component();
+        final MethodInvoker invoker = MethodInvoker.of(Component.class.getMethod("increment"), component);
+        assertNull(invoker.invoke(new Object[0]));
+        assertNull(invoker.invoke(new Object[0]));
+        assertEquals(2, component.counter);
+    }
+
+    @Test
+    void runtimeExceptionIsPropagated() throws NoSuchMethodException {
+        final MethodInvoker invoker = MethodInvoker.of(Component.class.getMethod("failJava"), new Component());
+        final IllegalStateException error =
+                assertThrows(IllegalStateException.class, () -> invoker.invoke(new Object[0]));
+        assertEquals("java", error.getMessage());
+    }
+
+    @Test
+    void checkedExceptionIsWrapped() throws NoSuchMethodException {
+        final MethodInvoker invoker = MethodInvoker.of(Component.class.getMethod("failChecked"), new Component());
+        final ComponentException error = assertThrows(ComponentException.class, () -> invoker.invoke(new Object[0]));
+        assertEquals("(java.lang.Exception) checked", error.getMessage());
+    }
+
+    @Test
+    void method() throws NoSuchMethodException {
+        final MethodInvoker invoker = MethodInvoker.of(Component.class.getMethod("increment"), new Component());
+        assertEquals(Component.class.getMethod("increment"), invoker.getMethod());
+    }
+
+    public static class Component {
+
+        private int counter;
+
+        public String concat(final String value, final int index) {
+            return value + index;
+        }
+
+        public void increment() {
+            counter++;
+        }
+
+        public void failJava() {
+            throw new IllegalStateException("java");
+        }
+
+        public void failChecked() throws Exception {
+            throw new Exception("checked");
+        }
+    }
+}
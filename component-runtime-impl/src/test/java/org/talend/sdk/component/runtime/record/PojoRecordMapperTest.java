@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonObject;
+import javax.json.bind.Jsonb;
+import javax.json.bind.annotation.JsonbProperty;
+import javax.json.spi.JsonProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.json.OutputRecordHolder;
+import org.talend.sdk.component.runtime.record.json.PojoJsonbProvider;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+class PojoRecordMapperTest {
+
+    @RegisterExtension
+    public final PluralRecordExtension pluralRecordExtension = new PluralRecordExtension();
+
+    @Test
+    void eligibility() {
+        assertNotNull(PojoRecordMapper.of(Flat.class));
+        assertNotNull(PojoRecordMapper.of(PublicFields.class));
+        assertNull(PojoRecordMapper.of(Child.class));
+        assertNull(PojoRecordMapper.of(Nested.class));
+        assertNull(PojoRecordMapper.of(Customized.class));
+        assertNull(PojoRecordMapper.of(Computed.class));
+        assertNull(PojoRecordMapper.of(String.class));
+        assertNull(PojoRecordMapper.of(JsonObject.class));
+    }
+
+    @Test
+    void sameRecordAsJsonb(final RecordBuilderFactory factory, final Jsonb jsonb) {
+        final Flat flat = new Flat("bob", 42, 12L, null, true, null);
+        assertEquals(toRecordWithJsonb(jsonb, flat).toString(),
+                PojoRecordMapper.of(Flat.class).toRecord(flat, factory).toString());
+        assertEquals(toRecordWithJsonb(jsonb, flat).getSchema(),
+                PojoRecordMapper.of(Flat.class).toRecord(flat, factory).getSchema());
+
+        final PublicFields fields = new PublicFields();
+        fields.text = "text";
+        fields.number = 1.5;
+        assertEquals(toRecordWithJsonb(jsonb, fields).getSchema(),
+                PojoRecordMapper.of(PublicFields.class).toRecord(fields, factory).getSchema());
+    }
+
+    @Test
+    void converters(final JsonBuilderFactory jsonBuilderFactory, final JsonProvider jsonProvider,
+            final RecordBuilderFactory factory, final RecordConverters converter, final Jsonb jsonb) {
+        final RecordConverters.MappingMetaRegistry registry = new RecordConverters.MappingMetaRegistry();
+        final Flat flat = new Flat("bob", 42, 12L, 0.5, true, false);
+        final Record record = converter.toRecord(registry, flat, () -> jsonb, () -> factory);
+        assertNotNull(registry.find(Flat.class).getDirectMapping());
+        assertEquals(toRecordWithJsonb(jsonb, flat).toString(), record.toString());
+
+        final Object pojo = converter
+                .toType(registry, record, Flat.class, () -> jsonBuilderFactory, () -> jsonProvider, () -> jsonb,
+                        () -> factory);
+        assertEquals(flat, pojo);
+
+        final Record coerced = factory.newRecordBuilder().withLong("age", 7).withString("id", "5").build();
+        assertEquals(new Flat(null, 7, 5L, null, false, null), converter
+                .toType(registry, coerced, Flat.class, () -> jsonBuilderFactory, () -> jsonProvider, () -> jsonb,
+                        () -> factory));
+        assertSame(record, converter.toRecord(registry, record, () -> jsonb, () -> factory));
+    }
+
+    private Record toRecordWithJsonb(final Jsonb jsonb, final Object data) {
+        final OutputRecordHolder holder = new OutputRecordHolder(data);
+        try (final OutputRecordHolder stream = holder) {
+            PojoJsonbProvider.class.cast(jsonb).get().toJson(data, stream);
+        }
+        return holder.getRecord();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Flat {
+
+        private String name;
+
+        private int age;
+
+        private Long id;
+
+        private Double score;
+
+        private boolean active;
+
+        private Boolean flag;
+    }
+
+    public static class PublicFields {
+
+        public String text;
+
+        public double number;
+
+        private String hidden = "hidden";
+    }
+
+    @Data
+    public static class Parent {
+
+        private String name;
+    }
+
+    @Data
+    public static class Child extends Parent {
+
+        private int count;
+    }
+
+    @Data
+    public static class Nested {
+
+        private Flat flat;
+    }
+
+    @Data
+    public static class Customized {
+
+        @JsonbProperty("renamed")
+        private String name;
+    }
+
+    @Data
+    public static class Computed {
+
+        private String name;
+
+        public String getUpperName() {
+            return name.toUpperCase();
+        }
+    }
+}
@@ -55,6 +55,69 @@ import lombok.AllArgsConstructor;
 
 class RecordBuilderImplTest {
 
+    @Test
+    void indexedAccess() {
+        final Schema schema = new SchemaImpl.BuilderImpl()
+                .withType(Schema.Type.RECORD)
+                .withEntry(new SchemaImpl.EntryImpl.BuilderImpl()
+                        .withName("name")
+                        .withNullable(true)
+                        .withType(Schema.Type.STRING)
+                        .build())
+                .withEntry(new SchemaImpl.EntryImpl.BuilderImpl()
+                        .withName("age")
+                        .withNullable(false)
+                        .withType(Schema.Type.INT)
+                        .build())
+                .withEntry(new SchemaImpl.EntryImpl.BuilderImpl()
+                        .withName("date")
+                        .withNullable(true)
+                        .withType(Schema.Type.DATETIME)
+                        .build())
+                .build();
+        final RecordImpl.BuilderImpl builder = new RecordImpl.BuilderImpl(schema);
+        final int name = builder.indexOf("name");
+        final int age = builder.indexOf("age");
+        final int date = builder.indexOf("date");
+        assertEquals(-1, builder.indexOf("missing"));
+        assertThrows(IllegalArgumentException.class, () -> builder.with(age, "not an int"));
+        assertThrows(IllegalArgumentException.class, () -> builder.with(age, null));
+
+        final RecordImpl record = (RecordImpl) builder
+                .with(name, "Bob")
+                .with(age, 42)
+                .with(date, new Date(1000L))
+                .build();
+        assertEquals("Bob", record.getString("name"));
+        assertEquals(42, record.getInt("age"));
+        assertEquals(1000L, record.getDateTime("date").toInstant().toEpochMilli());
+        assertEquals("Bob", record.get(String.class, record.indexOf("name")));
+        assertEquals(42, record.get(Integer.class, record.indexOf("age")));
+        assertNull(record.get(String.class, "missing"));
+
+        // same values whatever the access
+        assertEquals(record, new RecordImpl.BuilderImpl(schema).withString("name", "Bob").withInt("age", 42)
+                .withDateTime("date", new Date(1000L)).build());
+        assertThrows(IllegalStateException.class, () -> new RecordImpl.BuilderImpl().with(0, "Bob"));
+    }
+
+    @Test
+    void indexedAccessWithOrderChange() {
+        final Schema schema = new SchemaImpl.BuilderImpl()
+                .withType(Schema.Type.RECORD)
+                .withEntry(newEntry("a", Type.STRING))
+                .withEntry(newEntry("b", Type.STRING))
+                .build();
+        final RecordImpl.BuilderImpl builder = new RecordImpl.BuilderImpl(schema);
+        builder.with(builder.indexOf("a"), "first");
+        builder.before("a");
+        builder.withString("b", "second");
+        final Record record = builder.build();
+        assertEquals("b,a", record.getSchema().naturalOrder().toFields());
+        assertEquals("first", record.getString("a"));
+        assertEquals("second", record.getString("b"));
+    }
+
     @Test
     void providedSchemaGetSchema() {
         final Schema schema = new SchemaImpl.BuilderImpl()
@@ -15,6 +15,7 @@
  */
 package org.talend.sdk.component.runtime.record;
 
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -85,12 +86,16 @@ class SchemaImplTest {
         final RecordBuilderFactory f = new RecordBuilderFactoryImpl("test");
         final Entry first = f.newEntryBuilder().withName("First").withType(Type.STRING).build();
         final Entry second = f.newEntryBuilder().withName("Second").withType(Type.STRING).build();
-        EqualsVerifier.simple()
+        EqualsVerifier.forClass(SchemaImpl.class)
                 .suppress(Warning.STRICT_HASHCODE) // Supress test hashcode use all fields used by equals (for legacy)
-                .forClass(SchemaImpl.class)
+                .suppress(Warning.STRICT_INHERITANCE)
                 .withPrefabValues(Schema.Entry.class, first, second)
-                .withIgnoredFields("entriesOrder", "entryMap")
+                .withIgnoredFields("entriesOrder", "entryMap", "entriesIndex")
+                .withCachedHashCode("hash", "computeHashCode",
+                        (SchemaImpl) f.newSchemaBuilder(Type.RECORD).withEntry(first).build())
                 .withPrefabValues(EntriesOrder.class, EntriesOrder.of("First"), EntriesOrder.of("Second"))
+                .withPrefabValues(EntriesIndex.class, new EntriesIndex(null, singletonList(first)),
+                        new EntriesIndex(null, singletonList(second)))
                 .verify();
     }
 
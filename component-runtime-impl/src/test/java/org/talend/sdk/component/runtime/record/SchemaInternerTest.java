@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+class SchemaInternerTest {
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    @Test
+    void builtSchemasAreShared() {
+        final Schema first = schema("name", Schema.Type.STRING);
+        final Schema second = schema("name", Schema.Type.STRING);
+        assertSame(first, second);
+        assertNotSame(first, schema("name", Schema.Type.INT));
+        assertNotSame(first, schema("other", Schema.Type.STRING));
+    }
+
+    @Test
+    void dynamicRecordsShareTheirSchema() {
+        final Schema first = factory.newRecordBuilder().withString("name", "a").withInt("age", 1).build().getSchema();
+        final Schema second = factory.newRecordBuilder().withString("name", "b").withInt("age", 2).build().getSchema();
+        assertSame(first, second);
+    }
+
+    @Test
+    void sharedSchemasAreReadOnly() {
+        final Schema schema = schema("name", Schema.Type.STRING);
+        assertThrows(UnsupportedOperationException.class, () -> schema.getProps().put("source", "other"));
+        assertThrows(UnsupportedOperationException.class, () -> schema.getEntryMap().remove("name"));
+        assertEquals("test", schema("name", Schema.Type.STRING).getProp("source"));
+    }
+
+    @Test
+    void canonical() {
+        final SchemaInterner interner = new SchemaInterner();
+        final SchemaImpl first = new SchemaImpl((SchemaImpl.BuilderImpl) new SchemaImpl.BuilderImpl()
+                .withType(Schema.Type.RECORD)
+                .withEntry(factory.newEntryBuilder().withName("name").withType(Schema.Type.STRING).build()));
+        final SchemaImpl second = new SchemaImpl((SchemaImpl.BuilderImpl) new SchemaImpl.BuilderImpl()
+                .withType(Schema.Type.RECORD)
+                .withEntry(factory.newEntryBuilder().withName("name").withType(Schema.Type.STRING).build()));
+        assertNotSame(first, second);
+        assertSame(first, interner.canonical(first));
+        assertSame(first, interner.canonical(second));
+        assertEquals(1, interner.size());
+    }
+
+    private Schema schema(final String name, final Schema.Type type) {
+        return factory
+                .newSchemaBuilder(Schema.Type.RECORD)
+                .withEntry(factory.newEntryBuilder().withName(name).withType(type).withNullable(true).build())
+                .withProp("source", "test")
+                .build();
+    }
+}
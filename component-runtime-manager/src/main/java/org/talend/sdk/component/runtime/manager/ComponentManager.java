@@ -162,6 +162,7 @@ import org.talend.sdk.component.runtime.manager.reflect.ParameterModelService;
 import org.talend.sdk.component.runtime.manager.reflect.ReflectionService;
 import org.talend.sdk.component.runtime.manager.reflect.parameterenricher.BaseParameterEnricher;
 import org.talend.sdk.component.runtime.manager.service.DefaultServiceProvider;
+import org.talend.sdk.component.runtime.manager.service.LocalCacheService;
 import org.talend.sdk.component.runtime.manager.service.MavenRepositoryDefaultResolver;
 import org.talend.sdk.component.runtime.manager.service.ServiceHelper;
 import org.talend.sdk.component.runtime.manager.service.api.ComponentInstantiator;
@@ -169,6 +170,7 @@ import org.talend.sdk.component.runtime.manager.service.record.RecordBuilderFact
 import org.talend.sdk.component.runtime.manager.spi.ContainerListenerExtension;
 import org.talend.sdk.component.runtime.manager.util.Lazy;
 import org.talend.sdk.component.runtime.manager.util.LazyMap;
+import org.talend.sdk.component.runtime.manager.xbean.IndexedAnnotationFinder;
 import org.talend.sdk.component.runtime.manager.xbean.KnownClassesFilter;
 import org.talend.sdk.component.runtime.manager.xbean.NestedJarArchive;
 import org.talend.sdk.component.runtime.manager.xbean.registry.EnrichedPropertyEditorRegistry;
@@ -204,9 +206,16 @@ public class ComponentManager implements AutoCloseable {
                     info("ComponentManager version: " + ComponentManagerVersion.VERSION);
                     info("Creating the contextual ComponentManager instance " + getIdentifiers());
 
-                    parallelIf(Boolean.getBoolean("talend.component.manager.plugins.parallel"),
-                            container.getDefinedNestedPlugin().stream().filter(p -> !hasPlugin(p)))
-                            .forEach(this::addPlugin);
+                    final List<String> plugins = container
+                            .getDefinedNestedPlugin()
+                            .stream()
+                            .filter(p -> !hasPlugin(p))
+                            .collect(toList());
+                    if (Boolean.getBoolean("talend.component.manager.plugins.parallel")) {
+                        addPlugins(plugins);
+                    } else {
+                        plugins.forEach(this::addPlugin);
+                    }
                     info("Components: " + availablePlugins());
                 }
 
@@ -300,6 +309,8 @@ public class ComponentManager implements AutoCloseable {
     @Getter
     protected final ContainerManager container;
 
+    private final PluginDeploymentScheduler deploymentScheduler;
+
     // tcomp (org.talend + javax.annotation + jsonp) + logging (slf4j) are/can be provided service
     // + tcomp "runtime" indeed (invisible from the components but required for the runtime
     private final Filter classesFilter;
@@ -472,6 +483,8 @@ public class ComponentManager implements AutoCloseable {
                         .orElseGet(() -> super.resolve(path));
             }
         };
+        this.deploymentScheduler =
+                new PluginDeploymentScheduler(this::deployPlugin, this.container::buildAutoIdFromName);
         this.container.registerListener(new Updater(dependenciesResource));
         if (!Boolean.getBoolean("talend.component.manager.jmx.skip")) {
             ofNullable(jmxNamePattern)
@@ -570,10 +583,6 @@ public class ComponentManager implements AutoCloseable {
         return SingletonHolder.CONTEXTUAL_INSTANCE;
     }
 
-    private static <T> Stream<T> parallelIf(final boolean condition, final Stream<T> stringStream) {
-        return condition ? stringStream.parallel() : stringStream;
-    }
-
     protected void info(final String msg) {
         switch (logInfoLevelMapping.intValue()) {
         case 500: // FINE
@@ -830,7 +839,34 @@ public class ComponentManager implements AutoCloseable {
         return container.find(plugin);
     }
 
-    public synchronized String addPlugin(final String pluginRootFile) {
+    /**
+     * Deploys a plugin if not already deployed. Concurrent deployments of the same plugin share the same deployment
+     * and do not block the lookups (nor the deployments of other plugins).
+     *
+     * @param pluginRootFile the plugin location.
+     * @return the plugin identifier.
+     */
+    public String addPlugin(final String pluginRootFile) {
+        final Optional<Container> pl = findPlugin(pluginRootFile);
+        if (pl.isPresent()) {
+            return pl.get().getId();
+        }
+        return deploymentScheduler.deploy(pluginRootFile);
+    }
+
+    /**
+     * Deploys the plugins concurrently on a bounded pool
+     * ({@code talend.component.manager.plugins.parallelism}, default to the number of processors).
+     *
+     * @param pluginRootFiles the plugin locations.
+     * @return the plugin identifiers, in the locations order.
+     */
+    public List<String> addPlugins(final Collection<String> pluginRootFiles) {
+        return deploymentScheduler.deployAll(pluginRootFiles);
+    }
+
+    private String deployPlugin(final String pluginRootFile) {
+        // an in-flight deployment of the same plugin can have completed since the first check
         final Optional<Container> pl = findPlugin(pluginRootFile);
         if (pl.isPresent()) {
             return pl.get().getId();
@@ -1110,88 +1146,31 @@ public class ComponentManager implements AutoCloseable {
             final OriginalId originalId = OriginalId.class.cast(container.get(OriginalId.class));
             final Map<java.lang.reflect.Type, Optional<Converter>> xbeanConverterCache = new ConcurrentHashMap<>();
 
-            final AnnotationFinder finder;
-            Archive archive = null;
-            try {
-                String alreadyScannedClasses = null;
-                Filter filter = KnownClassesFilter.INSTANCE;
-                try (final InputStream containerFilterConfig =
-                        container.getLoader().getResourceAsStream("TALEND-INF/scanning.properties")) {
-                    if (containerFilterConfig != null) {
-                        final Properties config = new Properties();
-                        config.load(containerFilterConfig);
-                        filter = createScanningFilter(config);
-                        alreadyScannedClasses = config.getProperty("classes.list");
-                    }
-                } catch (final IOException e) {
-                    log.debug(e.getMessage(), e);
+            String alreadyScannedClasses = null;
+            Filter filter = KnownClassesFilter.INSTANCE;
+            Properties config = null;
+            try (final InputStream containerFilterConfig =
+                    container.getLoader().getResourceAsStream("TALEND-INF/scanning.properties")) {
+                if (containerFilterConfig != null) {
+                    config = new Properties();
+                    config.load(containerFilterConfig);
+                    filter = createScanningFilter(config);
+                    alreadyScannedClasses = config.getProperty("classes.list");
                 }
+            } catch (final IOException e) {
+                log.debug(e.getMessage(), e);
+            }
 
-                AnnotationFinder optimizedFinder = null;
-                if (alreadyScannedClasses != null
-                        && !(alreadyScannedClasses = alreadyScannedClasses.trim()).isEmpty()) {
-                    final List<? extends Class<?>> classes =
-                            Stream.of(alreadyScannedClasses.split(",")).map(String::trim).map(it -> {
-                                try {
-                                    return loader.loadClass(it);
-                                } catch (final ClassNotFoundException e) {
-                                    throw new IllegalArgumentException(e);
-                                }
-                            }).collect(toList());
-                    if (KnownClassesFilter.INSTANCE == filter) {
-                        archive = new ClassesArchive(/* empty */);
-                        optimizedFinder = new AnnotationFinder(archive) {
-
-                            @Override
-                            public List<Class<?>> findAnnotatedClasses(final Class<? extends Annotation> marker) {
-                                return classes.stream().filter(c -> c.isAnnotationPresent(marker)).collect(toList());
-                            }
-
-                            @Override
-                            public List<Method> findAnnotatedMethods(final Class<? extends Annotation> annotation) {
-                                if (Request.class == annotation) { // optimized
-                                    return classes
-                                            .stream()
-                                            .filter(HttpClient.class::isAssignableFrom)
-                                            .flatMap(client -> Stream
-                                                    .of(client.getMethods())
-                                                    .filter(m -> m.isAnnotationPresent(annotation)))
-                                            .collect(toList());
-                                }
-                                return super.findAnnotatedMethods(annotation);
-                            }
-
-                            // finder.findAnnotatedMethods(Request.class)
-                        };
-                    }
-                } else {
-                    /*
-                     * container.findExistingClasspathFiles() - we just scan the root module for
-                     * now, no need to scan all the world
-                     */
-                    archive = toArchive(container.getRootModule(), originalId, loader);
-                }
-                finder = optimizedFinder == null ? new AnnotationFinder(new FilteredArchive(archive, filter)) {
-
-                    @Override
-                    protected boolean cleanOnNaked() {
-                        return true;
-                    }
+            // the build time index avoids to scan, it is only usable without custom classloader filtering,
+            // if stale the classes.list is stale too so the plugin is fully scanned
+            final IndexedAnnotationFinder indexedFinder = config != null && KnownClassesFilter.INSTANCE == filter
+                    ? IndexedAnnotationFinder
+                            .of(config, loader, lazy(() -> createFinder(container, originalId, loader,
+                                    KnownClassesFilter.INSTANCE, null)))
+                    : null;
+            final AnnotationFinder finder = indexedFinder != null ? indexedFinder
+                    : createFinder(container, originalId, loader, filter, alreadyScannedClasses);
 
-                    @Override
-                    protected boolean isTracked(final String annotationType) {
-                        return supportedAnnotations.contains(annotationType);
-                    }
-                } : optimizedFinder;
-            } finally {
-                if (AutoCloseable.class.isInstance(archive)) {
-                    try {
-                        AutoCloseable.class.cast(archive).close();
-                    } catch (final Exception e) {
-                        log.warn(e.getMessage());
-                    }
-                }
-            }
             final ContainerComponentRegistry registry = new ContainerComponentRegistry();
             container.set(ContainerComponentRegistry.class, registry);
 
@@ -1306,7 +1285,79 @@ public class ComponentManager implements AutoCloseable {
                         .flatMap(a -> finder.findAnnotatedClasses(a).stream())
                         .filter(t -> Modifier.isPublic(t.getModifiers()))
                         .forEach(type -> onComponent(container, registry, services, allServices, componentDefaults,
-                                componentContexts, type, xbeanConverterCache));
+                                componentContexts, type, xbeanConverterCache,
+                                indexedFinder != null && indexedFinder.isValidated(type)));
+            }
+        }
+
+        private AnnotationFinder createFinder(final Container container, final OriginalId originalId,
+                final ConfigurableClassLoader loader, final Filter filter, final String scannedClasses) {
+            Archive archive = null;
+            try {
+                final String alreadyScannedClasses = scannedClasses == null ? null : scannedClasses.trim();
+                AnnotationFinder optimizedFinder = null;
+                if (alreadyScannedClasses != null && !alreadyScannedClasses.isEmpty()) {
+                    final List<? extends Class<?>> classes =
+                            Stream.of(alreadyScannedClasses.split(",")).map(String::trim).map(it -> {
+                                try {
+                                    return loader.loadClass(it);
+                                } catch (final ClassNotFoundException e) {
+                                    throw new IllegalArgumentException(e);
+                                }
+                            }).collect(toList());
+                    if (KnownClassesFilter.INSTANCE == filter) {
+                        archive = new ClassesArchive(/* empty */);
+                        optimizedFinder = new AnnotationFinder(archive) {
+
+                            @Override
+                            public List<Class<?>> findAnnotatedClasses(final Class<? extends Annotation> marker) {
+                                return classes.stream().filter(c -> c.isAnnotationPresent(marker)).collect(toList());
+                            }
+
+                            @Override
+                            public List<Method> findAnnotatedMethods(final Class<? extends Annotation> annotation) {
+                                if (Request.class == annotation) { // optimized
+                                    return classes
+                                            .stream()
+                                            .filter(HttpClient.class::isAssignableFrom)
+                                            .flatMap(client -> Stream
+                                                    .of(client.getMethods())
+                                                    .filter(m -> m.isAnnotationPresent(annotation)))
+                                            .collect(toList());
+                                }
+                                return super.findAnnotatedMethods(annotation);
+                            }
+
+                            // finder.findAnnotatedMethods(Request.class)
+                        };
+                    }
+                } else {
+                    /*
+                     * container.findExistingClasspathFiles() - we just scan the root module for
+                     * now, no need to scan all the world
+                     */
+                    archive = toArchive(container.getRootModule(), originalId, loader);
+                }
+                return optimizedFinder == null ? new AnnotationFinder(new FilteredArchive(archive, filter)) {
+
+                    @Override
+                    protected boolean cleanOnNaked() {
+                        return true;
+                    }
+
+                    @Override
+                    protected boolean isTracked(final String annotationType) {
+                        return supportedAnnotations.contains(annotationType);
+                    }
+                } : optimizedFinder;
+            } finally {
+                if (AutoCloseable.class.isInstance(archive)) {
+                    try {
+                        AutoCloseable.class.cast(archive).close();
+                    } catch (final Exception e) {
+                        log.warn(e.getMessage());
+                    }
+                }
             }
         }
 
@@ -1337,7 +1388,8 @@ public class ComponentManager implements AutoCloseable {
         private void onComponent(final Container container, final ContainerComponentRegistry registry,
                 final Map<Class<?>, Object> services, final AllServices allServices,
                 final Map<String, AnnotatedElement> componentDefaults, final ComponentContexts componentContexts,
-                final Class<?> type, final Map<java.lang.reflect.Type, Optional<Converter>> xbeanConverterCache) {
+                final Class<?> type, final Map<java.lang.reflect.Type, Optional<Converter>> xbeanConverterCache,
+                final boolean validatedAtBuildTime) {
             final Components components = findComponentsConfig(componentDefaults, type, container.getLoader(),
                     Components.class, DEFAULT_COMPONENT);
 
@@ -1363,7 +1415,9 @@ public class ComponentManager implements AutoCloseable {
             final ClassLoader old = thread.getContextClassLoader();
             thread.setContextClassLoader(container.getLoader());
             try {
-                visitor.visit(type, builder, Mode.mode != Mode.UNSAFE && !context.isNoValidation());
+                visitor
+                        .visit(type, builder,
+                                Mode.mode != Mode.UNSAFE && !context.isNoValidation() && !validatedAtBuildTime);
             } finally {
                 thread.setContextClassLoader(old);
             }
@@ -1629,6 +1683,15 @@ public class ComponentManager implements AutoCloseable {
                         .forEach(s -> doInvoke(container.getId(), s.getInstance(), PreDestroy.class));
                 registry.getServices().clear();
             });
+            // framework services are not in the registry, the cache must release its entries, expiry task and MBean
+            ofNullable(container.get(AllServices.class))
+                    .ifPresent(s -> s
+                            .getServices()
+                            .values()
+                            .stream()
+                            .filter(LocalCacheService.class::isInstance)
+                            .map(LocalCacheService.class::cast)
+                            .forEach(LocalCacheService::release));
             ofNullable(container.get(AllServices.class))
                     .map(s -> s.getServices().get(Jsonb.class))
                     .map(Jsonb.class::cast)
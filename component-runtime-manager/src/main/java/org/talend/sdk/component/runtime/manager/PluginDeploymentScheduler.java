@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager;
+
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Deploys plugins concurrently: a batch of plugins is deployed on a bounded pool
+ * ({@code talend.component.manager.plugins.parallelism}, default to the number of processors)
+ * and concurrent deployments of the same plugin share a single deployment.
+ * The containers are registered in the (concurrent) container manager so lookups never wait for a deployment.
+ */
+@RequiredArgsConstructor
+class PluginDeploymentScheduler {
+
+    private final Function<String, String> deployer;
+
+    private final Function<String, String> keyFactory;
+
+    private final ConcurrentMap<String, CompletableFuture<String>> deployments = new ConcurrentHashMap<>();
+
+    /**
+     * Deploys a plugin or waits for the in-flight deployment of the same plugin.
+     *
+     * @param plugin the plugin to deploy.
+     * @return the container identifier.
+     */
+    String deploy(final String plugin) {
+        final String key = keyFactory.apply(plugin);
+        final CompletableFuture<String> deployment = new CompletableFuture<>();
+        final CompletableFuture<String> existing = deployments.putIfAbsent(key, deployment);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (final CompletionException e) {
+                throw rethrow(e.getCause());
+            }
+        }
+        try {
+            final String id = deployer.apply(plugin);
+            deployment.complete(id);
+            return id;
+        } catch (final RuntimeException | Error e) {
+            deployment.completeExceptionally(e);
+            throw e;
+        } finally {
+            deployments.remove(key, deployment);
+        }
+    }
+
+    /**
+     * Deploys all the plugins on a bounded pool and waits for them.
+     *
+     * @param plugins the plugins to deploy.
+     * @return the container identifiers, in the plugins order.
+     */
+    List<String> deployAll(final Collection<String> plugins) {
+        final int parallelism = Math
+                .min(plugins.size(), Integer
+                        .getInteger("talend.component.manager.plugins.parallelism",
+                                Runtime.getRuntime().availableProcessors()));
+        if (parallelism <= 1) {
+            return plugins.stream().map(this::deploy).collect(toList());
+        }
+
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ExecutorService pool = Executors.newFixedThreadPool(parallelism, r -> {
+            final Thread thread = new Thread(r, PluginDeploymentScheduler.class.getName() + "-" + hashCode() + "-"
+                    + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<String>> futures =
+                    plugins.stream().map(plugin -> pool.submit(() -> deploy(plugin))).collect(toList());
+            final List<String> ids = new ArrayList<>(futures.size());
+            Throwable error = null;
+            for (final Future<String> future : futures) {
+                try {
+                    ids.add(future.get());
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    error = addError(error, e);
+                } catch (final ExecutionException e) {
+                    error = addError(error, e.getCause());
+                }
+            }
+            if (error != null) {
+                throw rethrow(error);
+            }
+            return ids;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Throwable addError(final Throwable current, final Throwable error) {
+        if (current == null) {
+            return error;
+        }
+        current.addSuppressed(error);
+        return current;
+    }
+
+    private RuntimeException rethrow(final Throwable error) {
+        if (RuntimeException.class.isInstance(error)) {
+            throw RuntimeException.class.cast(error);
+        }
+        if (Error.class.isInstance(error)) {
+            throw Error.class.cast(error);
+        }
+        throw new IllegalStateException(error);
+    }
+}
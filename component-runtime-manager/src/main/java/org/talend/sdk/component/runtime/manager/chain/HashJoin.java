@@ -0,0 +1,259 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.chain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streaming hash join of several branches on the keys computed by a {@link GroupKeyProvider}.
+ * A record waits in its branch buffer until all the other branches have a record with the same key,
+ * then one record per branch is taken (in arrival order) to build a match.
+ *
+ * Each branch keeps at most {@code maxBufferedRecords} records in memory, next ones are spilled to a temporary file
+ * (only the keys stay in memory) until they are matched. The file is reset as soon as all its records are consumed
+ * and deleted when the join is closed. A record which can't be spilled and keys over {@code maxPendingKeys}
+ * (all branches included) fail the join instead of growing the memory without limit.
+ *
+ * This class is not thread safe, it is intended to be used by the thread running the joining component.
+ */
+@Slf4j
+public class HashJoin implements AutoCloseable {
+
+    private final Map<String, Branch> branches = new LinkedHashMap<>();
+
+    private final Deque<Map<String, Record>> matches = new ArrayDeque<>();
+
+    private final int maxBufferedRecords;
+
+    private final int maxPendingKeys;
+
+    private final RecordSpillCodec codec;
+
+    @Getter
+    private long matchCount;
+
+    @Getter
+    private long spilledRecordCount;
+
+    @Getter
+    private long unmatchedKeyCount;
+
+    public HashJoin(final Collection<String> branchNames, final int maxBufferedRecords, final int maxPendingKeys,
+            final RecordBuilderFactory factory) {
+        if (branchNames.size() < 2) {
+            throw new IllegalArgumentException("A join needs at least two branches: " + branchNames);
+        }
+        this.maxBufferedRecords = maxBufferedRecords;
+        this.maxPendingKeys = maxPendingKeys;
+        this.codec = new RecordSpillCodec(factory);
+        branchNames.forEach(name -> branches.put(name, new Branch(name)));
+    }
+
+    /**
+     * Adds a record to the join, if it completes a match it is available through {@link #poll()}.
+     *
+     * @param branch the branch the record comes from.
+     * @param key the join key of the record.
+     * @param record the record.
+     */
+    public void add(final String branch, final String key, final Record record) {
+        final Branch current = branches.get(branch);
+        if (current == null) {
+            throw new IllegalArgumentException("Unknown branch '" + branch + "', available: " + branches.keySet());
+        }
+        for (final Branch other : branches.values()) {
+            if (other != current && !other.hasKey(key)) {
+                current.add(key, record);
+                return;
+            }
+        }
+        final Map<String, Record> match = new HashMap<>(branches.size() + 1, 1);
+        branches.values().forEach(it -> match.put(it.name, it == current ? record : it.poll(key)));
+        matches.add(match);
+        matchCount++;
+    }
+
+    /**
+     * @return next match (record per branch name) or null if there is none.
+     */
+    public Map<String, Record> poll() {
+        return matches.poll();
+    }
+
+    /**
+     * @return the number of records waiting for a match, all branches included.
+     */
+    public long getUnmatchedRecordCount() {
+        return branches.values().stream().mapToLong(b -> b.size).sum();
+    }
+
+    @Override
+    public void close() {
+        branches.values().forEach(Branch::close);
+    }
+
+    @RequiredArgsConstructor
+    private static class SpilledRecord {
+
+        private final long offset;
+
+        private final int length;
+    }
+
+    @RequiredArgsConstructor
+    private class Branch {
+
+        private final String name;
+
+        // values are Record or SpilledRecord
+        private final Map<String, Deque<Object>> pending = new HashMap<>();
+
+        private long size;
+
+        private long inMemory;
+
+        private long spilled;
+
+        private RandomAccessFile spill;
+
+        private File spillFile;
+
+        private ByteArrayOutputStream buffer;
+
+        private boolean hasKey(final String key) {
+            return pending.containsKey(key);
+        }
+
+        private void add(final String key, final Record record) {
+            Deque<Object> values = pending.get(key);
+            if (values == null) {
+                if (unmatchedKeyCount >= maxPendingKeys) {
+                    throw new IllegalStateException("Join has more than " + maxPendingKeys
+                            + " unmatched keys, can't add key '" + key + "' of branch '" + name + "'");
+                }
+                values = new ArrayDeque<>();
+                pending.put(key, values);
+                unmatchedKeyCount++;
+            }
+            if (inMemory >= maxBufferedRecords) {
+                if (!codec.isSupported(record)) {
+                    throw new IllegalStateException("Join branch '" + name + "' has more than " + maxBufferedRecords
+                            + " records in memory and can't spill a record with unsupported values"
+                            + " (or with more than " + RecordSpillCodec.MAX_SCHEMAS + " schemas)");
+                }
+                values.add(spill(record));
+            } else {
+                values.add(record);
+                inMemory++;
+            }
+            size++;
+        }
+
+        private Record poll(final String key) {
+            final Deque<Object> values = pending.get(key);
+            final Object value = values.poll();
+            if (values.isEmpty()) {
+                pending.remove(key);
+                unmatchedKeyCount--;
+            }
+            size--;
+            if (value instanceof SpilledRecord) {
+                final Record record = load(SpilledRecord.class.cast(value));
+                if (--spilled == 0) {
+                    reset();
+                    if (branches.values().stream().allMatch(b -> b.spilled == 0)) {
+                        codec.clear();
+                    }
+                }
+                return record;
+            }
+            inMemory--;
+            return Record.class.cast(value);
+        }
+
+        private SpilledRecord spill(final Record record) {
+            try {
+                if (spill == null) {
+                    spillFile = File.createTempFile("talend-component-join-" + name + "-", ".spill");
+                    spill = new RandomAccessFile(spillFile, "rw");
+                    buffer = new ByteArrayOutputStream();
+                }
+                buffer.reset();
+                codec.write(record, new DataOutputStream(buffer));
+                final long offset = spill.length();
+                spill.seek(offset);
+                spill.write(buffer.toByteArray());
+                spilledRecordCount++;
+                spilled++;
+                return new SpilledRecord(offset, buffer.size());
+            } catch (final IOException e) {
+                throw new IllegalStateException("Can't spill join record of branch '" + name + "'", e);
+            }
+        }
+
+        private Record load(final SpilledRecord spilled) {
+            try {
+                final byte[] bytes = new byte[spilled.length];
+                spill.seek(spilled.offset);
+                spill.readFully(bytes);
+                return codec.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+            } catch (final IOException e) {
+                throw new IllegalStateException("Can't read spilled join record of branch '" + name + "'", e);
+            }
+        }
+
+        private void reset() {
+            try {
+                spill.setLength(0);
+            } catch (final IOException e) {
+                throw new IllegalStateException("Can't reset join spill file of branch '" + name + "'", e);
+            }
+        }
+
+        private void close() {
+            if (spill == null) {
+                return;
+            }
+            try {
+                spill.close();
+            } catch (final IOException e) {
+                log.debug(e.getMessage(), e);
+            }
+            if (!spillFile.delete()) {
+                log.debug("Can't delete {}", spillFile);
+            }
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.chain;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Binary codec used to spill records to disk.
+ * Only the values are written, schemas stay in memory (they are shared by all the records) and are referenced by
+ * index. At most {@link #MAX_SCHEMAS} schemas are kept, records with another schema are not supported until
+ * {@link #clear()} is called (when no spilled record references them anymore).
+ */
+@RequiredArgsConstructor
+class RecordSpillCodec {
+
+    private static final byte NULL = 0;
+
+    private static final byte STRING = 1;
+
+    private static final byte INT = 2;
+
+    private static final byte LONG = 3;
+
+    private static final byte FLOAT = 4;
+
+    private static final byte DOUBLE = 5;
+
+    private static final byte BOOLEAN = 6;
+
+    private static final byte BYTES = 7;
+
+    private static final byte DECIMAL = 8;
+
+    private static final byte ZONED_DATETIME = 9;
+
+    private static final byte INSTANT = 10;
+
+    private static final byte DATE = 11;
+
+    private static final byte RECORD = 12;
+
+    private static final byte COLLECTION = 13;
+
+    static final int MAX_SCHEMAS = 1024;
+
+    private final RecordBuilderFactory factory;
+
+    private final List<Schema> schemas = new ArrayList<>();
+
+    private final Map<Schema, Integer> schemaIndices = new IdentityHashMap<>();
+
+    /**
+     * @param record the record to check.
+     * @return true if all the values of the record can be written by this codec.
+     */
+    boolean isSupported(final Record record) {
+        if (!schemaIndices.containsKey(record.getSchema()) && schemas.size() >= MAX_SCHEMAS) {
+            return false;
+        }
+        return record.getSchema().getAllEntries().allMatch(e -> isSupported(record.get(Object.class, e.getName())));
+    }
+
+    void write(final Record record, final DataOutput output) throws IOException {
+        final Schema schema = record.getSchema();
+        output.writeInt(schemaIndices.computeIfAbsent(schema, s -> {
+            schemas.add(s);
+            return schemas.size() - 1;
+        }));
+        for (final Schema.Entry entry : (Iterable<Schema.Entry>) schema.getAllEntries()::iterator) {
+            writeValue(record.get(Object.class, entry.getName()), output);
+        }
+    }
+
+    /**
+     * Forgets the known schemas, must only be called when no spilled record remains.
+     */
+    void clear() {
+        schemas.clear();
+        schemaIndices.clear();
+    }
+
+    Record read(final DataInput input) throws IOException {
+        final Schema schema = schemas.get(input.readInt());
+        final Record.Builder builder = factory.newRecordBuilder(schema);
+        for (final Schema.Entry entry : (Iterable<Schema.Entry>) schema.getAllEntries()::iterator) {
+            final Object value = readValue(input);
+            if (value != null) {
+                builder.with(entry, value);
+            }
+        }
+        return builder.build();
+    }
+
+    private boolean isSupported(final Object value) {
+        if (value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Float || value instanceof Double || value instanceof Boolean
+                || value instanceof byte[] || value instanceof BigDecimal || value instanceof ZonedDateTime
+                || value instanceof Instant || value instanceof Date) {
+            return true;
+        }
+        if (value instanceof Record) {
+            return isSupported(Record.class.cast(value));
+        }
+        if (value instanceof Collection) {
+            return Collection.class.cast(value).stream().allMatch(this::isSupported);
+        }
+        return false;
+    }
+
+    private void writeValue(final Object value, final DataOutput output) throws IOException {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            writeBytes(String.class.cast(value).getBytes(UTF_8), output);
+        } else if (value instanceof Integer) {
+            output.writeByte(INT);
+            output.writeInt(Integer.class.cast(value));
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong(Long.class.cast(value));
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeFloat(Float.class.cast(value));
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeDouble(Double.class.cast(value));
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean(Boolean.class.cast(value));
+        } else if (value instanceof byte[]) {
+            output.writeByte(BYTES);
+            writeBytes(byte[].class.cast(value), output);
+        } else if (value instanceof BigDecimal) {
+            final BigDecimal decimal = BigDecimal.class.cast(value);
+            output.writeByte(DECIMAL);
+            output.writeInt(decimal.scale());
+            writeBytes(decimal.unscaledValue().toByteArray(), output);
+        } else if (value instanceof ZonedDateTime) {
+            final ZonedDateTime dateTime = ZonedDateTime.class.cast(value);
+            output.writeByte(ZONED_DATETIME);
+            output.writeLong(dateTime.toInstant().getEpochSecond());
+            output.writeInt(dateTime.getNano());
+            output.writeUTF(dateTime.getZone().getId());
+        } else if (value instanceof Instant) {
+            final Instant instant = Instant.class.cast(value);
+            output.writeByte(INSTANT);
+            output.writeLong(instant.getEpochSecond());
+            output.writeInt(instant.getNano());
+        } else if (value instanceof Date) {
+            output.writeByte(DATE);
+            output.writeLong(Date.class.cast(value).getTime());
+        } else if (value instanceof Record) {
+            output.writeByte(RECORD);
+            write(Record.class.cast(value), output);
+        } else if (value instanceof Collection) {
+            final Collection<?> collection = Collection.class.cast(value);
+            output.writeByte(COLLECTION);
+            output.writeInt(collection.size());
+            for (final Object item : collection) {
+                writeValue(item, output);
+            }
+        } else {
+            throw new IllegalArgumentException("Unsupported value: " + value.getClass());
+        }
+    }
+
+    private Object readValue(final DataInput input) throws IOException {
+        final byte type = input.readByte();
+        switch (type) {
+        case NULL:
+            return null;
+        case STRING:
+            return new String(readBytes(input), UTF_8);
+        case INT:
+            return input.readInt();
+        case LONG:
+            return input.readLong();
+        case FLOAT:
+            return input.readFloat();
+        case DOUBLE:
+            return input.readDouble();
+        case BOOLEAN:
+            return input.readBoolean();
+        case BYTES:
+            return readBytes(input);
+        case DECIMAL:
+            final int scale = input.readInt();
+            return new BigDecimal(new BigInteger(readBytes(input)), scale);
+        case ZONED_DATETIME:
+            final Instant instant = Instant.ofEpochSecond(input.readLong(), input.readInt());
+            return ZonedDateTime.ofInstant(instant, ZoneId.of(input.readUTF()));
+        case INSTANT:
+            return Instant.ofEpochSecond(input.readLong(), input.readInt());
+        case DATE:
+            return new Date(input.readLong());
+        case RECORD:
+            return read(input);
+        case COLLECTION:
+            final int size = input.readInt();
+            final List<Object> collection = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                collection.add(readValue(input));
+            }
+            return collection;
+        default:
+            throw new IllegalStateException("Unknown spilled value type: " + type);
+        }
+    }
+
+    private void writeBytes(final byte[] bytes, final DataOutput output) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private byte[] readBytes(final DataInput input) throws IOException {
+        final byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return bytes;
+    }
+}
@@ -33,9 +33,11 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -57,6 +59,7 @@ import org.talend.sdk.component.runtime.manager.ComponentManager;
 import org.talend.sdk.component.runtime.manager.chain.AutoChunkProcessor;
 import org.talend.sdk.component.runtime.manager.chain.ChainedMapper;
 import org.talend.sdk.component.runtime.manager.chain.GroupKeyProvider;
+import org.talend.sdk.component.runtime.manager.chain.HashJoin;
 import org.talend.sdk.component.runtime.manager.chain.Job;
 import org.talend.sdk.component.runtime.output.InputFactory;
 import org.talend.sdk.component.runtime.output.OutputFactory;
@@ -255,7 +258,9 @@ public class JobImpl implements Job {
                 runner = newRunner(Class.class.cast(o));
             } else if (String.class.isInstance(o)) {
                 final String name = String.class.cast(o).trim();
-                if (!"standalone".equalsIgnoreCase(name) && !"default".equalsIgnoreCase(name)
+                if ("pipelined".equalsIgnoreCase(name)) {
+                    runner = new PipelinedJobExecutor(this);
+                } else if (!"standalone".equalsIgnoreCase(name) && !"default".equalsIgnoreCase(name)
                         && !"local".equalsIgnoreCase(name)) {
                     if ("beam".equalsIgnoreCase(name)) {
                         try {
@@ -322,50 +327,64 @@ public class JobImpl implements Job {
             }
         }
 
+        long getMaxRecords() {
+            return Long.parseLong(String.valueOf(getJobProperties().getOrDefault("streaming.maxRecords", "-1")));
+        }
+
+        InputRunner newInputRunner(final Component component, final long maxRecords) {
+            final Mapper mapper = manager
+                    .findMapper(component.getNode().getFamily(), component.getNode().getComponent(),
+                            component.getNode().getVersion(), component.getNode().getConfiguration())
+                    .orElseThrow(() -> new IllegalStateException("No mapper found for: " + component.getNode()));
+            return new InputRunner(mapper, maxRecords);
+        }
+
+        AutoChunkProcessor newProcessor(final Component component) {
+            final Processor processor = manager
+                    .findProcessor(component.getNode().getFamily(), component.getNode().getComponent(),
+                            component.getNode().getVersion(), component.getNode().getConfiguration())
+                    .orElseThrow(() -> new IllegalStateException("No processor found for:" + component.getNode()));
+            final AtomicInteger maxBatchSize = new AtomicInteger(1);
+            if (ProcessorImpl.class.isInstance(processor)) {
+                ProcessorImpl.class
+                        .cast(processor)
+                        .getInternalConfiguration()
+                        .entrySet()
+                        .stream()
+                        .filter(it -> it.getKey().endsWith("$maxBatchSize") && it.getValue() != null
+                                && !it.getValue().trim().isEmpty())
+                        .findFirst()
+                        .ifPresent(val -> {
+                            try {
+                                maxBatchSize.set(Integer.parseInt(val.getValue().trim()));
+                            } catch (final NumberFormatException nfe) {
+                                throw new IllegalArgumentException("Invalid configuratoin: " + val);
+                            }
+                        });
+            }
+            return new AutoChunkProcessor(maxBatchSize.get(), processor);
+        }
+
+        Map<Class<?>, Object> getServices(final String plugin) {
+            return getManager().findPlugin(plugin).get().get(ComponentManager.AllServices.class).getServices();
+        }
+
         private void localRun() {
-            final long maxRecords =
-                    Long.parseLong(String.valueOf(getJobProperties().getOrDefault("streaming.maxRecords", "-1")));
-            final Map<String, InputRunner> inputs =
-                    levels.values().stream().flatMap(Collection::stream).filter(Component::isSource).map(n -> {
-                        final Mapper mapper = manager
-                                .findMapper(n.getNode().getFamily(), n.getNode().getComponent(),
-                                        n.getNode().getVersion(), n.getNode().getConfiguration())
-                                .orElseThrow(() -> new IllegalStateException("No mapper found for: " + n.getNode()));
-                        return new AbstractMap.SimpleEntry<>(n.getId(), new InputRunner(mapper, maxRecords));
-                    }).collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
+            final long maxRecords = getMaxRecords();
+            final Map<String, InputRunner> inputs = levels
+                    .values()
+                    .stream()
+                    .flatMap(Collection::stream)
+                    .filter(Component::isSource)
+                    .map(n -> new AbstractMap.SimpleEntry<>(n.getId(), newInputRunner(n, maxRecords)))
+                    .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
 
             final Map<String, AutoChunkProcessor> processors = levels
                     .values()
                     .stream()
                     .flatMap(Collection::stream)
                     .filter(component -> !component.isSource())
-                    .map(component -> {
-                        final Processor processor = manager
-                                .findProcessor(component.getNode().getFamily(), component.getNode().getComponent(),
-                                        component.getNode().getVersion(), component.getNode().getConfiguration())
-                                .orElseThrow(() -> new IllegalStateException(
-                                        "No processor found for:" + component.getNode()));
-                        final AtomicInteger maxBatchSize = new AtomicInteger(1);
-                        if (ProcessorImpl.class.isInstance(processor)) {
-                            ProcessorImpl.class
-                                    .cast(processor)
-                                    .getInternalConfiguration()
-                                    .entrySet()
-                                    .stream()
-                                    .filter(it -> it.getKey().endsWith("$maxBatchSize") && it.getValue() != null
-                                            && !it.getValue().trim().isEmpty())
-                                    .findFirst()
-                                    .ifPresent(val -> {
-                                        try {
-                                            maxBatchSize.set(Integer.parseInt(val.getValue().trim()));
-                                        } catch (final NumberFormatException nfe) {
-                                            throw new IllegalArgumentException("Invalid configuratoin: " + val);
-                                        }
-                                    });
-                        }
-                        return new AbstractMap.SimpleEntry<>(component.getId(),
-                                new AutoChunkProcessor(maxBatchSize.get(), processor));
-                    })
+                    .map(component -> new AbstractMap.SimpleEntry<>(component.getId(), newProcessor(component)))
                     .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
 
             final RecordConverters.MappingMetaRegistry registry = new RecordConverters.MappingMetaRegistry();
@@ -379,9 +398,10 @@ public class JobImpl implements Job {
                         .map(component -> new AbstractMap.SimpleEntry<>(component.getId(), new AtomicBoolean(true)))
                         .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
                 processors.values().forEach(Lifecycle::start); // start processor
-                final Map<String, Map<String, Map<String, Collection<Record>>>> flowData = new HashMap<>();
-                final AtomicBoolean running = new AtomicBoolean(true);
+                final Map<String, Map<String, NavigableMap<String, Collection<Record>>>> flowData = new HashMap<>();
+                final AtomicBoolean progress = new AtomicBoolean();
                 do {
+                    progress.set(false);
                     levels.forEach((level, components) -> components.forEach((Component component) -> {
                         if (component.isSource()) {
                             final InputRunner source = inputs.get(component.getId());
@@ -390,6 +410,7 @@ public class JobImpl implements Job {
                                 sourcesWithData.get(component.getId()).set(false);
                                 return;
                             }
+                            progress.set(true);
                             final String key = getKeyProvider(component.getId())
                                     .apply(new GroupContextImpl(data, component.getId(), "__default__"));
                             flowData.computeIfAbsent(component.getId(), s -> new HashMap<>());
@@ -403,53 +424,49 @@ public class JobImpl implements Job {
                             final List<Edge> connections =
                                     getConnections(getEdges(), component, e -> e.getTo().getNode());
                             final DataInputFactory dataInputFactory = new DataInputFactory();
+                            final AutoChunkProcessor processor = processors.get(component.getId());
                             if (connections.size() == 1) {
                                 final Edge edge = connections.get(0);
                                 final String fromId = edge.getFrom().getNode().getId();
                                 final String fromBranch = edge.getFrom().getBranch();
                                 final String toBranch = edge.getTo().getBranch();
 
-                                final Map<String, Map<String, Collection<Record>>> idData = flowData.get(fromId);
+                                final Map<String, NavigableMap<String, Collection<Record>>> idData =
+                                        flowData.get(fromId);
                                 final Record data = idData == null ? null : pollFirst(idData.get(fromBranch));
                                 if (data != null) {
                                     dataInputFactory.withInput(toBranch, singletonList(data));
                                 }
                             } else { // need grouping
-                                final Map<String, Map<String, Collection<Record>>> availableDataForStep =
+                                final Map<String, NavigableMap<String, Collection<Record>>> availableDataForStep =
                                         new HashMap<>();
                                 connections.forEach(edge -> {
                                     final String fromId = edge.getFrom().getNode().getId();
                                     final String fromBranch = edge.getFrom().getBranch();
                                     final String toBranch = edge.getTo().getBranch();
-                                    final Map<String, Collection<Record>> data =
+                                    final NavigableMap<String, Collection<Record>> data =
                                             flowData.get(fromId) == null ? null : flowData.get(fromId).get(fromBranch);
                                     if (data != null && !data.isEmpty()) {
                                         availableDataForStep.put(toBranch, data);
                                     }
                                 });
 
-                                final Map<String, String> joined = joinWithFusionSort(availableDataForStep);
-                                if (!joined.isEmpty() && connections.size() == joined.size()) {
-                                    joined.forEach((k, v) -> {
-                                        final Collection data = availableDataForStep.get(k).remove(v);
-                                        dataInputFactory.withInput(k, data);
-                                    });
+                                if (connections.size() == availableDataForStep.size()) {
+                                    final String key = findFirstCommonKey(availableDataForStep.values());
+                                    if (key != null) {
+                                        availableDataForStep
+                                                .forEach((branch, data) -> dataInputFactory
+                                                        .withInput(branch, data.remove(key)));
+                                    }
                                 }
                             }
                             if (dataInputFactory.inputs.isEmpty()) {
-                                if (level.equals(levels.size() - 1)
-                                        && sourcesWithData.entrySet().stream().noneMatch(e -> e.getValue().get())) {
-                                    running.set(false);
-                                }
                                 return;
                             }
-                            final AutoChunkProcessor processor = processors.get(component.getId());
+                            progress.set(true);
 
-                            final DataOutputFactory dataOutputFactory = new DataOutputFactory(getManager()
-                                    .findPlugin(processor.plugin())
-                                    .get()
-                                    .get(ComponentManager.AllServices.class)
-                                    .getServices(), registry);
+                            final DataOutputFactory dataOutputFactory =
+                                    new DataOutputFactory(getServices(processor.plugin()), registry);
                             processor.onElement(dataInputFactory, dataOutputFactory);
                             dataOutputFactory.getOutputs().forEach((branch, data) -> data.forEach(item -> {
                                 final String key = getKeyProvider(component.getId())
@@ -465,7 +482,8 @@ public class JobImpl implements Job {
                             outs.set(dataOutputFactory);
                         }
                     }));
-                } while (running.get());
+                    // stop when sources are exhausted and no component can consume anything anymore
+                } while (progress.get() || sourcesWithData.values().stream().anyMatch(AtomicBoolean::get));
             } finally {
                 if (outs.get() != null) {
                     processors.values().forEach(p -> p.flush(outs.get()));
@@ -481,26 +499,53 @@ public class JobImpl implements Job {
             }
         }
 
-        private Map<String, String>
-                joinWithFusionSort(final Map<String, Map<String, Collection<Record>>> dataByBranch) {
-            final Map<String, String> join = new HashMap<>();
-            dataByBranch.forEach((branch1, records1) -> {
-                dataByBranch.forEach((branch2, records2) -> {
-                    if (!branch1.equals(branch2)) {
-                        for (final String key1 : records1.keySet()) {
-                            for (final String key2 : records2.keySet()) {
-                                if (key1.equals(key2)) {
-                                    join.putIfAbsent(branch1, key1);
-                                    join.putIfAbsent(branch2, key2);
-                                } else if (key1.compareTo(key2) < 0) {
-                                    break;// see fusion sort
-                                }
-                            }
-                        }
+        /**
+         * @param dataByBranch the records waiting in each input branch, sorted by key.
+         * @return the smallest key available in all the branches or null if there is none.
+         */
+        private String findFirstCommonKey(final Collection<NavigableMap<String, Collection<Record>>> dataByBranch) {
+            String candidate = null;
+            for (final NavigableMap<String, Collection<Record>> data : dataByBranch) {
+                final String first = data.firstKey();
+                if (candidate == null || first.compareTo(candidate) > 0) {
+                    candidate = first;
+                }
+            }
+            boolean aligned = false;
+            while (!aligned) { // jump each branch to the candidate until they all have it, see fusion sort
+                aligned = true;
+                for (final NavigableMap<String, Collection<Record>> data : dataByBranch) {
+                    final String key = data.ceilingKey(candidate);
+                    if (key == null) {
+                        return null;
                     }
-                });
-            });
-            return join;
+                    if (!key.equals(candidate)) {
+                        candidate = key;
+                        aligned = false;
+                    }
+                }
+            }
+            return candidate;
+        }
+
+        HashJoin newJoin(final List<Edge> connections, final String plugin) {
+            final int maxBufferedRecords = Integer
+                    .parseInt(String.valueOf(getJobProperties().getOrDefault("join.maxBufferedRecords", "100000")));
+            final int maxPendingKeys = Integer
+                    .parseInt(String.valueOf(getJobProperties().getOrDefault("join.maxPendingKeys", "1000000")));
+            return new HashJoin(connections.stream().map(e -> e.getTo().getBranch()).collect(toList()),
+                    maxBufferedRecords, maxPendingKeys,
+                    RecordBuilderFactory.class.cast(getServices(plugin).get(RecordBuilderFactory.class)));
+        }
+
+        void closeJoin(final String componentId, final HashJoin join) {
+            if (join.getUnmatchedKeyCount() > 0) {
+                log
+                        .info("Join of '{}': {} matches, {} unmatched keys ({} records), {} records spilled",
+                                componentId, join.getMatchCount(), join.getUnmatchedKeyCount(),
+                                join.getUnmatchedRecordCount(), join.getSpilledRecordCount());
+            }
+            join.close();
         }
 
         private Record pollFirst(final Map<String, Collection<Record>> data) {
@@ -522,7 +567,7 @@ public class JobImpl implements Job {
             return null;
         }
 
-        private List<Job.Edge> getConnections(final List<Job.Edge> edges, final Job.Component step,
+        List<Job.Edge> getConnections(final List<Job.Edge> edges, final Job.Component step,
                 final Function<Edge, Component> direction) {
             return edges.stream().filter(edge -> direction.apply(edge).equals(step)).collect(toList());
         }
@@ -550,7 +595,7 @@ public class JobImpl implements Job {
     }
 
     @Data
-    private static class GroupContextImpl implements GroupKeyProvider.GroupContext {
+    static class GroupContextImpl implements GroupKeyProvider.GroupContext {
 
         private final Record data;
 
@@ -561,7 +606,7 @@ public class JobImpl implements Job {
 
     public static class LocalSequenceHolder {
 
-        private static final Map<String, AtomicLong> GENERATORS = new HashMap<>();
+        private static final Map<String, AtomicLong> GENERATORS = new ConcurrentHashMap<>();
 
         public static GroupKeyProvider cleanAndGet(final String name) {
             GENERATORS.put(name, new AtomicLong(0));
@@ -574,7 +619,7 @@ public class JobImpl implements Job {
     }
 
     @Slf4j
-    private static class InputRunner {
+    static class InputRunner {
 
         private final Mapper chainedMapper;
 
@@ -645,7 +690,7 @@ public class JobImpl implements Job {
     }
 
     @Data
-    private static class DataOutputFactory implements OutputFactory {
+    static class DataOutputFactory implements OutputFactory {
 
         private final Map<Class<?>, Object> services;
 
@@ -677,9 +722,9 @@ public class JobImpl implements Job {
         }
     }
 
-    private static class DataInputFactory implements InputFactory {
+    static class DataInputFactory implements InputFactory {
 
-        private final Map<String, Iterator<Object>> inputs = new HashMap<>();
+        private final Map<String, Iterator<?>> inputs = new HashMap<>();
 
         private volatile Jsonb jsonb;
 
@@ -687,7 +732,7 @@ public class JobImpl implements Job {
 
         private volatile RecordConverters.MappingMetaRegistry registry;
 
-        private DataInputFactory withInput(final String branch, final Collection<Object> branchData) {
+        DataInputFactory withInput(final String branch, final Collection<?> branchData) {
             inputs.put(branch, branchData.iterator());
             return this;
         }
@@ -0,0 +1,356 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.chain.internal;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.runtime.manager.chain.AutoChunkProcessor;
+import org.talend.sdk.component.runtime.manager.chain.GroupKeyProvider;
+import org.talend.sdk.component.runtime.manager.chain.HashJoin;
+import org.talend.sdk.component.runtime.manager.chain.Job;
+import org.talend.sdk.component.runtime.record.RecordConverters;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Local executor running each component of the job on its own thread.
+ * Components are connected by bounded queues (one per edge) carrying batches of records,
+ * a full queue blocks the upstream component (backpressure). Components with several inputs use a {@link HashJoin}.
+ *
+ * It is selected setting {@code ExecutorBuilder} job property to {@code pipelined}.
+ * Supported job properties:
+ * <ul>
+ * <li>pipelined.batchSize: max number of records handed off at once to the next component (default 256),</li>
+ * <li>pipelined.queueCapacity: number of batches an edge can buffer (default 16),</li>
+ * <li>join.maxBufferedRecords: records a join keeps in memory per branch before spilling to disk (default 100000),
+ * </li>
+ * <li>join.maxPendingKeys: unmatched keys a join accepts before failing, all branches included (default 1000000),
+ * </li>
+ * <li>streaming.maxRecords: same as the default local executor.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class PipelinedJobExecutor implements Job.ExecutorBuilder {
+
+    private static final String DEFAULT_BRANCH = "__default__";
+
+    private final JobImpl.JobExecutor job;
+
+    @Override
+    public Job.ExecutorBuilder property(final String name, final Object value) {
+        job.property(name, value);
+        return this;
+    }
+
+    @Override
+    public void run() {
+        final int batchSize = intProperty("pipelined.batchSize", 256);
+        final int queueCapacity = intProperty("pipelined.queueCapacity", 16);
+        final long maxRecords = job.getMaxRecords();
+
+        final List<Job.Component> components = job
+                .getLevels()
+                .values()
+                .stream()
+                .flatMap(Collection::stream)
+                .collect(toList());
+        final Map<Job.Edge, SpscBoundedQueue<Batch>> queues = new HashMap<>();
+        job.getEdges().forEach(edge -> queues.put(edge, new SpscBoundedQueue<>(queueCapacity)));
+        final Map<Job.Component, List<Job.Edge>> incomings =
+                job.getEdges().stream().collect(groupingBy(e -> e.getTo().getNode()));
+
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Context context = new Context(batchSize, failure);
+        final List<Runnable> stages = components.stream().map(component -> {
+            final Map<String, List<SpscBoundedQueue<Batch>>> outputs = job
+                    .getConnections(job.getEdges(), component, e -> e.getFrom().getNode())
+                    .stream()
+                    .collect(groupingBy(e -> e.getFrom().getBranch(), mapping(queues::get, toList())));
+            // keys are only needed when a downstream component joins several branches
+            final boolean keyed = job
+                    .getConnections(job.getEdges(), component, e -> e.getFrom().getNode())
+                    .stream()
+                    .anyMatch(e -> incomings.get(e.getTo().getNode()).size() > 1);
+            final Router router = new Router(component.getId(), outputs,
+                    keyed ? job.getKeyProvider(component.getId()) : null, context);
+            if (component.isSource()) {
+                return (Runnable) () -> runSource(component, maxRecords, router, context);
+            }
+            final List<Inbound> inbounds = incomings
+                    .get(component)
+                    .stream()
+                    .map(e -> new Inbound(e.getTo().getBranch(), queues.get(e)))
+                    .collect(toList());
+            return (Runnable) () -> runProcessor(component, inbounds, router, context);
+        }).collect(toList());
+
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ExecutorService pool = Executors.newFixedThreadPool(stages.size(), r -> {
+            final Thread thread = new Thread(r,
+                    PipelinedJobExecutor.class.getName() + "-" + hashCode() + "-" + threadCounter.incrementAndGet());
+            thread.setPriority(Thread.NORM_PRIORITY);
+            return thread;
+        });
+        try {
+            final List<Future<?>> futures = stages.stream().map(stage -> pool.submit(() -> {
+                try {
+                    stage.run();
+                } catch (final RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                }
+            })).collect(toList());
+            for (final Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    failure.compareAndSet(null, e);
+                } catch (final ExecutionException e) {
+                    failure.compareAndSet(null, e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+            components.stream().map(Job.Component::getId).forEach(JobImpl.LocalSequenceHolder::clean);
+        }
+
+        final Throwable error = failure.get();
+        if (RuntimeException.class.isInstance(error)) {
+            throw RuntimeException.class.cast(error);
+        }
+        if (Error.class.isInstance(error)) {
+            throw Error.class.cast(error);
+        }
+        if (error != null) {
+            throw new IllegalStateException(error);
+        }
+    }
+
+    private void runSource(final Job.Component component, final long maxRecords, final Router router,
+            final Context context) {
+        final JobImpl.InputRunner input = job.newInputRunner(component, maxRecords);
+        try {
+            Record record;
+            while (!context.isAborted() && (record = input.next()) != null) {
+                router.add(DEFAULT_BRANCH, record);
+            }
+            router.end();
+        } finally {
+            input.stop();
+        }
+    }
+
+    private void runProcessor(final Job.Component component, final List<Inbound> inbounds, final Router router,
+            final Context context) {
+        final AutoChunkProcessor processor = job.newProcessor(component);
+        final JobImpl.DataOutputFactory outputs = new JobImpl.DataOutputFactory(job.getServices(processor.plugin()),
+                new RecordConverters.MappingMetaRegistry());
+        final JobImpl.DataInputFactory inputs = new JobImpl.DataInputFactory();
+        final HashJoin join = inbounds.size() == 1 ? null
+                : job.newJoin(job.getConnections(job.getEdges(), component, e -> e.getTo().getNode()),
+                        processor.plugin());
+
+        processor.start();
+        try {
+            int open = inbounds.size();
+            int waits = 0;
+            while (open > 0) {
+                if (context.isAborted()) {
+                    return;
+                }
+                boolean progress = false;
+                for (final Inbound inbound : inbounds) {
+                    if (inbound.done) {
+                        continue;
+                    }
+                    final Batch batch = inbound.queue.poll();
+                    if (batch == null) {
+                        continue;
+                    }
+                    progress = true;
+                    if (batch == Batch.END) {
+                        inbound.done = true;
+                        open--;
+                        continue;
+                    }
+                    for (int i = 0; i < batch.records.size(); i++) {
+                        final Record record = batch.records.get(i);
+                        if (join == null) {
+                            inputs.withInput(inbound.branch, singletonList(record));
+                            onElement(processor, inputs, outputs, router);
+                        } else {
+                            join.add(inbound.branch, batch.keys.get(i), record);
+                            Map<String, Record> match;
+                            while ((match = join.poll()) != null) {
+                                match.forEach((branch, data) -> inputs.withInput(branch, singletonList(data)));
+                                onElement(processor, inputs, outputs, router);
+                            }
+                        }
+                    }
+                    router.flush();
+                }
+                if (progress) {
+                    waits = 0;
+                } else {
+                    SpscBoundedQueue.idle(waits++);
+                }
+            }
+            processor.flush(outputs);
+            route(outputs, router);
+            router.end();
+        } finally {
+            try {
+                processor.stop();
+            } finally {
+                if (join != null) {
+                    job.closeJoin(component.getId(), join);
+                }
+            }
+        }
+    }
+
+    private void onElement(final AutoChunkProcessor processor, final JobImpl.DataInputFactory inputs,
+            final JobImpl.DataOutputFactory outputs, final Router router) {
+        processor.onElement(inputs, outputs);
+        route(outputs, router);
+    }
+
+    private void route(final JobImpl.DataOutputFactory outputs, final Router router) {
+        outputs.getOutputs().forEach((branch, data) -> {
+            if (!data.isEmpty()) {
+                data.forEach(item -> router.add(branch, item));
+                data.clear();
+            }
+        });
+    }
+
+    private int intProperty(final String name, final int defaultValue) {
+        final Object value = job.getJobProperties().get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        final int parsed = Integer.parseInt(String.valueOf(value).trim());
+        if (parsed <= 0) {
+            throw new IllegalArgumentException("Invalid " + name + ": " + value);
+        }
+        return parsed;
+    }
+
+    @RequiredArgsConstructor
+    private static class Context {
+
+        private final int batchSize;
+
+        private final AtomicReference<Throwable> failure;
+
+        private boolean isAborted() {
+            return failure.get() != null;
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class Inbound {
+
+        private final String branch;
+
+        private final SpscBoundedQueue<Batch> queue;
+
+        private boolean done;
+    }
+
+    private static class Batch {
+
+        private static final Batch END = new Batch(false, 0);
+
+        private final List<Record> records;
+
+        private final List<String> keys;
+
+        private Batch(final boolean keyed, final int size) {
+            this.records = new ArrayList<>(size);
+            this.keys = keyed ? new ArrayList<>(size) : null;
+        }
+    }
+
+    /**
+     * Accumulates the outputs of a component per branch and hands them off by batch to the downstream queues.
+     */
+    @RequiredArgsConstructor
+    private static class Router {
+
+        private final String componentId;
+
+        private final Map<String, List<SpscBoundedQueue<Batch>>> outputs;
+
+        private final GroupKeyProvider keyProvider;
+
+        private final Context context;
+
+        private final Map<String, Batch> batches = new HashMap<>();
+
+        private void add(final String branch, final Record record) {
+            if (!outputs.containsKey(branch)) {
+                return;
+            }
+            // computed for routed records only, the default key is a sequence
+            final String key = keyProvider == null ? null
+                    : keyProvider.apply(new JobImpl.GroupContextImpl(record, componentId, branch));
+            final Batch batch =
+                    batches.computeIfAbsent(branch, b -> new Batch(keyProvider != null, context.batchSize));
+            batch.records.add(record);
+            if (batch.keys != null) {
+                batch.keys.add(key);
+            }
+            if (batch.records.size() >= context.batchSize) {
+                send(branch, batches.remove(branch));
+            }
+        }
+
+        private void flush() {
+            if (batches.isEmpty()) {
+                return;
+            }
+            batches.forEach(this::send);
+            batches.clear();
+        }
+
+        private void end() {
+            flush();
+            outputs.forEach((branch, queues) -> queues.forEach(q -> q.put(Batch.END, context::isAborted)));
+        }
+
+        private void send(final String branch, final Batch batch) {
+            // batches are read only once sent so they can be shared by the downstream components
+            outputs.get(branch).forEach(queue -> queue.put(batch, context::isAborted));
+        }
+    }
+}
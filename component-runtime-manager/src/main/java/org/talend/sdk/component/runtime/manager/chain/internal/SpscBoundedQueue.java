@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.chain.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bounded lock free ring buffer for a single producer and a single consumer (one edge of a job).
+ * A full queue makes the producer wait (backpressure) with a spin then park backoff.
+ *
+ * @param <T> the type of the elements.
+ */
+class SpscBoundedQueue<T> {
+
+    private static final int SPINS = 64;
+
+    private static final long MAX_PARK_NANOS = 1_000_000L;
+
+    private final Object[] buffer;
+
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong(); // next index to read, written by the consumer only
+
+    private final AtomicLong tail = new AtomicLong(); // next index to write, written by the producer only
+
+    SpscBoundedQueue(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+
+    boolean offer(final T value) {
+        final long currentTail = tail.get();
+        if (currentTail - head.get() == buffer.length) {
+            return false;
+        }
+        buffer[(int) (currentTail & mask)] = value;
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    T poll() {
+        final long currentHead = head.get();
+        if (currentHead == tail.get()) {
+            return null;
+        }
+        final int index = (int) (currentHead & mask);
+        @SuppressWarnings("unchecked") // only T instances are stored
+        final T value = (T) buffer[index];
+        buffer[index] = null;
+        head.lazySet(currentHead + 1);
+        return value;
+    }
+
+    /**
+     * @param value the value to enqueue.
+     * @param aborted tested while waiting, if it returns true the value is dropped.
+     * @return true if the value was enqueued, false if aborted.
+     */
+    boolean put(final T value, final BooleanSupplier aborted) {
+        int waits = 0;
+        while (!offer(value)) {
+            if (aborted.getAsBoolean()) {
+                return false;
+            }
+            idle(waits++);
+        }
+        return true;
+    }
+
+    static void idle(final int waits) {
+        if (waits < SPINS) { // busy spin first, handoffs are generally fast
+            return;
+        }
+        if (waits < SPINS * 2) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, 1_000L << Math.min(20, waits - SPINS * 2)));
+        }
+    }
+}
@@ -18,6 +18,10 @@ package org.talend.sdk.component.runtime.manager.interceptor;
 import static java.util.stream.Collectors.joining;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
@@ -26,6 +30,7 @@ import java.util.stream.Stream;
 import org.talend.sdk.component.api.service.cache.Cached;
 import org.talend.sdk.component.api.service.cache.LocalCache;
 import org.talend.sdk.component.api.service.interceptor.InterceptorHandler;
+import org.talend.sdk.component.runtime.manager.service.LocalCacheService;
 
 public class CacheHandler implements InterceptorHandler {
 
@@ -33,7 +38,7 @@ public class CacheHandler implements InterceptorHandler {
 
     private final LocalCache cache;
 
-    private final ConcurrentMap<Method, Long> timeouts = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Method, Cached> configurations = new ConcurrentHashMap<>();
 
     public CacheHandler(final BiFunction<Method, Object[], Object> invoker, final LocalCache cache) {
         this.invoker = invoker;
@@ -42,19 +47,74 @@ public class CacheHandler implements InterceptorHandler {
 
     @Override
     public Object invoke(final Method method, final Object[] args) {
-        final String key = toKey(method, args);
-        final long timeout = timeouts.computeIfAbsent(method, m -> findAnnotation(m, Cached.class).get().timeout());
-        return cache.computeIfAbsent(Object.class, key, timeout, () -> invoker.apply(method, args));
+        final Cached config = configurations.computeIfAbsent(method, m -> findAnnotation(m, Cached.class).get());
+        final CacheKey key = new CacheKey(method, args);
+        if (LocalCacheService.class.isInstance(cache)) { // structural key and concurrent misses coalescing
+            return LocalCacheService.class
+                    .cast(cache)
+                    .load(Object.class, key, value -> timeout(config, value), () -> invoker.apply(method, args));
+        }
+        return cache.computeIfAbsent(Object.class, key.toString(), config.timeout(), () -> invoker.apply(method, args));
     }
 
-    // assumes toString() and hashCode() of params are representative
-    private String toKey(final Method method, final Object[] args) {
-        return method.getDeclaringClass().getName() + "#" + method.getName() + "("
-                + (args == null ? ""
-                        : Stream
-                                .of(args)
-                                .map(s -> String.valueOf(s) + "/" + (s == null ? 0 : s.hashCode()))
-                                .collect(joining(",")))
-                + ")";
+    private long timeout(final Cached config, final Object value) {
+        if (config.negativeTimeout() > 0 && isNegative(value)) {
+            return config.negativeTimeout();
+        }
+        return config.timeout();
+    }
+
+    private boolean isNegative(final Object value) {
+        return value == null || (Optional.class.isInstance(value) && !Optional.class.cast(value).isPresent())
+                || (Collection.class.isInstance(value) && Collection.class.cast(value).isEmpty())
+                || (Map.class.isInstance(value) && Map.class.cast(value).isEmpty());
+    }
+
+    /**
+     * Key of a cached invocation: the method and its parameters compared with their {@code equals}
+     * (parameters without one are compared by identity as before with their default hashCode),
+     * the hash is computed once.
+     */
+    static final class CacheKey {
+
+        private final Method method;
+
+        private final Object[] args;
+
+        private final int hash;
+
+        CacheKey(final Method method, final Object[] args) {
+            this.method = method;
+            this.args = args == null ? new Object[0] : args;
+            this.hash = 31 * method.hashCode() + Arrays.deepHashCode(this.args);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final CacheKey that = CacheKey.class.cast(o);
+            return hash == that.hash && method.equals(that.method) && Arrays.deepEquals(args, that.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        // assumes toString() and hashCode() of params are representative, only used for other LocalCache
+        @Override
+        public String toString() {
+            return method.getDeclaringClass().getName() + "#" + method.getName() + "("
+                    + Stream
+                            .of(args)
+                            .map(s -> String.valueOf(s) + "/" + (s == null ? 0 : s.hashCode()))
+                            .collect(joining(","))
+                    + ")";
+        }
     }
 }
@@ -175,7 +175,7 @@ public class DefaultServiceProvider {
             final LocalCacheService service =
                     new LocalCacheService(id, System::currentTimeMillis, this.executorService);
             Injector.class.cast(services.get().get(Injector.class)).inject(service);
-            return service;
+            return service.registerJmx();
         }
         if (Injector.class == api) {
             return new InjectorImpl(id, reflections, proxyGenerator, services.get());
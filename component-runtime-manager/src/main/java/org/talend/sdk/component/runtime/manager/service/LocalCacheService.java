@@ -15,24 +15,38 @@
  */
 package org.talend.sdk.component.runtime.manager.service;
 
+import static java.util.Optional.ofNullable;
+
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.util.List;
-import java.util.Map.Entry;
+import java.lang.management.ManagementFactory;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.ToLongFunction;
 
 import javax.annotation.PreDestroy;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
 
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.service.cache.LocalCache;
@@ -40,18 +54,34 @@ import org.talend.sdk.component.api.service.configuration.Configuration;
 import org.talend.sdk.component.runtime.serialization.SerializableService;
 
 import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Implementation of LocalCache with in memory concurrent map.
+ *
+ * Timeouts are handled by a timer wheel (one periodic task per cache, see {@link LocalCacheTimerWheel})
+ * and checked again on read, the size (and optionally estimated weight) bound evicts
+ * the least recently (LRU) or least frequently (LFU) used entries.
  */
+@Slf4j
 public class LocalCacheService implements LocalCache, Serializable {
 
+    private static final long DEFAULT_EXPIRATION_TICK = 100;
+
+    private static final int ORDER_SEGMENTS = 16;
+
+    // LFU compares the hits of the least recently used entries of each segment
+    private static final int LFU_CANDIDATES = 8;
+
     /** plugin name for this cache */
     private final String plugin;
 
     private final Supplier<Long> timer;
 
-    private final ConcurrentMap<String, ElementImpl> cache = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, ElementImpl> cache = new ConcurrentHashMap<>();
+
+    // timed out entries whose predicate refused the removal when the wheel expired them, see clean()
+    private final transient Set<Object> refusedExpirations = ConcurrentHashMap.newKeySet();
 
     @Configuration("talend.component.manager.services.cache.eviction")
     private Supplier<CacheConfiguration> configuration;
@@ -59,6 +89,21 @@ public class LocalCacheService implements LocalCache, Serializable {
     // scheduler we use to evict tokens
     private transient Supplier<ScheduledExecutorService> threadServiceGetter;
 
+    private final transient AccessOrder accessOrder = new AccessOrder();
+
+    private final transient AtomicLong accessSequence = new AtomicLong();
+
+    private final transient AtomicLong weight = new AtomicLong();
+
+    private final transient Statistics statistics = new Statistics();
+
+    private transient volatile LocalCacheTimerWheel wheel;
+
+    private transient volatile ObjectName jmxName;
+
+    // in flight load() computations, to not compute the same key concurrently
+    private final transient ConcurrentMap<Object, Loading> loadings = new ConcurrentHashMap<>();
+
     public LocalCacheService(final String plugin, final Supplier<Long> timer,
             final Supplier<ScheduledExecutorService> threadServiceGetter) {
         this.plugin = plugin;
@@ -75,11 +120,9 @@ public class LocalCacheService implements LocalCache, Serializable {
     public void evict(final String key) {
         final String realKey = internalKey(key);
 
-        // use compute to be able to call release.
-        cache.compute(realKey, (String oldKey, ElementImpl oldElement) -> {
-            if (oldElement != null && oldElement.canBeEvict()) {
-                // ok to evict, so do release.
-                oldElement.release();
+        cache.computeIfPresent(realKey, (Object oldKey, ElementImpl oldElement) -> {
+            if (oldElement.canBeEvict()) {
+                onRemoval(oldKey, oldElement);
                 return null;
             }
             return oldElement;
@@ -90,42 +133,109 @@ public class LocalCacheService implements LocalCache, Serializable {
     public void evictIfValue(final String key, final Object expected) {
         final String realKey = internalKey(key);
 
-        // use compute to be able to call release.
-        cache.compute(realKey, (String oldKey, ElementImpl oldElement) -> {
-            if (oldElement != null && (Objects.equals(oldElement.getValue(), expected) || oldElement.canBeEvict())) {
-                // ok to evit, so do release.
-                oldElement.release();
+        cache.computeIfPresent(realKey, (Object oldKey, ElementImpl oldElement) -> {
+            if (Objects.equals(oldElement.getValue(), expected) || oldElement.canBeEvict()) {
+                onRemoval(oldKey, oldElement);
                 return null;
             }
             return oldElement;
         });
-
     }
 
     @Override
     public <T> T computeIfAbsent(final Class<T> expectedClass, final String key, final Predicate<Element> toRemove,
             final long timeoutMs, final Supplier<T> value) {
+        return store(internalKey(key), toRemove, timeoutMs, value, this.getConfig()).getValue(expectedClass);
+    }
 
-        final Integer maxSize = this.getConfigValue(CacheConfiguration::getDefaultMaxSize, -1);
-        if (maxSize > 0 && this.cache.size() >= maxSize) {
-            this.clean(); // clean before add one element.
-            if (this.cache.size() >= maxSize) {
-                synchronized (this.cache) {
-                    while (this.cache.size() >= maxSize) {
-                        final String keyToRemove = this.cache.keySet().iterator().next();
-                        this.cache.remove(keyToRemove);
-                    }
+    /**
+     * Same as {@link #computeIfAbsent(Class, String, long, Supplier)} for a structural key (relying on its
+     * {@code equals}/{@code hashCode}, it is not prefixed since this cache instance is owned by the plugin).
+     * The value is computed out of the map lock and concurrent misses for the same key share the same computation.
+     *
+     * @param expectedClass the value type.
+     * @param key the cache key.
+     * @param timeout the timeout (ms) of a computed value, it can depend on the value (negative results).
+     * @param value the value computation.
+     * @param <T> the value type.
+     * @return the cached or computed value.
+     */
+    public <T> T load(final Class<T> expectedClass, final Object key, final ToLongFunction<? super T> timeout,
+            final Supplier<T> value) {
+        final CacheConfiguration config = this.getConfig();
+        final ElementImpl existing = this.cache.get(key);
+        if (existing != null && !existing.mustBeRemoved()) {
+            onHit(key, existing, config);
+            return existing.getValue(expectedClass);
+        }
+
+        final Loading loading = new Loading();
+        final Loading inFlight = this.loadings.putIfAbsent(key, loading);
+        if (inFlight != null && inFlight.owner != Thread.currentThread()) { // else reentrant, don't wait for itself
+            statistics.hits.increment();
+            try {
+                return expectedClass.cast(inFlight.result.join());
+            } catch (final CompletionException ce) {
+                final Throwable cause = ce.getCause();
+                if (RuntimeException.class.isInstance(cause)) {
+                    throw RuntimeException.class.cast(cause);
                 }
+                if (Error.class.isInstance(cause)) {
+                    throw Error.class.cast(cause);
+                }
+                throw ce;
+            }
+        }
+        try {
+            final T computed = value.get();
+            final Object stored =
+                    store(key, null, timeout.applyAsLong(computed), () -> computed, config).getValue(Object.class);
+            loading.result.complete(stored);
+            return expectedClass.cast(stored);
+        } catch (final RuntimeException | Error e) {
+            loading.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (inFlight == null) {
+                this.loadings.remove(key, loading);
             }
         }
+    }
 
-        final ScheduledFuture<?> task = timeoutMs > 0 ? this.evictionTask(key, timeoutMs) : null;
+    private ElementImpl store(final Object key, final Predicate<Element> toRemove, final long timeoutMs,
+            final Supplier<?> value, final CacheConfiguration config) {
+        if (!refusedExpirations.isEmpty()) { // the wheel does not retry them
+            clean();
+        }
+        final boolean weighted = config != null && config.getMaxWeight() > 0;
+        final ElementImpl[] created = new ElementImpl[1];
+        final ElementImpl element = cache.compute(key, (Object k, ElementImpl old) -> {
+            if (old != null && !old.mustBeRemoved()) {
+                return old;
+            }
+            if (old != null) {
+                onRemoval(k, old);
+                statistics.expirations.increment();
+            }
+            created[0] = new ElementImpl(value, toRemove, this.calcEndOfValidity(timeoutMs), this.timer, weighted);
+            return created[0];
+        });
 
-        final long endOfValidity = this.calcEndOfValidity(timeoutMs);
-        final ElementImpl element =
-                this.addToMap(key, () -> new ElementImpl(value, toRemove, endOfValidity, task, this.timer));
+        if (created[0] == element) {
+            statistics.misses.increment();
+            onInsertion(key, element, config);
+        } else {
+            onHit(key, element, config);
+        }
+        return element;
+    }
 
-        return element.getValue(expectedClass);
+    private void onHit(final Object key, final ElementImpl element, final CacheConfiguration config) {
+        statistics.hits.increment();
+        if (isBounded(config)) {
+            element.touch(accessSequence.incrementAndGet());
+            accessOrder.touch(key);
+        }
     }
 
     @Override
@@ -142,12 +252,6 @@ public class LocalCacheService implements LocalCache, Serializable {
         return this.computeIfAbsent(expectedClass, key, null, timeoutMs, value);
     }
 
-    private ElementImpl addToMap(final String key, final Supplier<ElementImpl> builder) {
-        final String internalKey = internalKey(key);
-        return cache.compute(internalKey, (String k, ElementImpl old) -> //
-        old == null || old.mustBeRemoved() ? builder.get() : old);
-    }
-
     @Override
     public <T> T computeIfAbsent(final Class<T> expectedClass, final String key, final Supplier<T> value) {
         final long timeOut = this.getConfigValue(CacheConfiguration::getDefaultEvictionTimeout, -1L);
@@ -156,8 +260,47 @@ public class LocalCacheService implements LocalCache, Serializable {
 
     @PreDestroy
     public void release() {
-        this.cache.forEach((String k, ElementImpl e) -> e.release());
+        ofNullable(this.wheel).ifPresent(LocalCacheTimerWheel::stop);
         this.cache.clear();
+        this.refusedExpirations.clear();
+        this.accessOrder.clear();
+        this.weight.set(0);
+        unregisterJmx();
+    }
+
+    /**
+     * Registers the statistics of this cache in the platform MBean server, failures are only logged.
+     *
+     * @return this cache.
+     */
+    public LocalCacheService registerJmx() {
+        if (Boolean.getBoolean("talend.component.manager.jmx.skip")
+                || Boolean.getBoolean("talend.component.manager.services.cache.jmx.skip")) {
+            return this;
+        }
+        try {
+            final ObjectName name = new ObjectName(
+                    "org.talend.sdk.component:type=LocalCache,plugin=" + ObjectName.quote(plugin));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(statistics, name);
+            jmxName = name;
+        } catch (final InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException
+                | MalformedObjectNameException e) {
+            log.warn("{}: {}", e.getClass().getSimpleName(), e.getMessage());
+        }
+        return this;
+    }
+
+    private void unregisterJmx() {
+        final ObjectName name = jmxName;
+        if (name == null) {
+            return;
+        }
+        jmxName = null;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (final InstanceNotFoundException | MBeanRegistrationException e) {
+            log.warn(e.getMessage(), e);
+        }
     }
 
     private long calcEndOfValidity(final long timeoutMs) {
@@ -168,41 +311,108 @@ public class LocalCacheService implements LocalCache, Serializable {
         return plugin + '@' + key;
     }
 
+    /**
+     * Removes the timed out entries, the timer wheel already does it when they time out,
+     * this is only needed for the entries which refused to be removed at that time:
+     * it is called before the next insertions while there are some.
+     */
     public void clean() {
-        Stream<Entry<String, ElementImpl>> elements = //
-                this.cache
-                        .entrySet() //
-                        .stream() //
-                        .filter(e -> e.getValue().mustBeRemoved());
-
         final int maxEviction = this.getConfigValue(CacheConfiguration::getMaxDeletionPerEvictionRun, -1);
-        if (maxEviction > 0) {
-            elements = elements.limit(maxEviction);
+        int removed = 0;
+        for (final Object key : this.cache.keySet()) {
+            if (maxEviction > 0 && removed >= maxEviction) {
+                break;
+            }
+            if (expire(key)) {
+                removed++;
+            }
         }
-        final List<String> removableElements = elements.map(Entry::getKey).collect(Collectors.toList());// materialize
-                                                                                                        // before
-                                                                                                        // actually
-                                                                                                        // removing it
-        removableElements.forEach(this.cache::remove);
     }
 
-    private ScheduledExecutorService getThreadService() {
-        return this.threadServiceGetter.get();
+    // wheel callback
+    private void onExpiry(final Object key) {
+        if (expire(key)) {
+            return;
+        }
+        final ElementImpl element = this.cache.get(key);
+        if (element != null && element.isTimedOut()) {
+            refusedExpirations.add(key);
+        }
     }
 
-    /**
-     * Schedule an eviction task for a key.
-     * 
-     * @param key : key to evict from cache.
-     * @param delayMillis : delay in millis before triggered.
-     * @return result of task.
-     */
-    private ScheduledFuture<?> evictionTask(final String key, final long delayMillis) {
-        return this
-                .getThreadService()
-                .schedule(() -> this.evict(key), //
-                        delayMillis, //
-                        TimeUnit.MILLISECONDS); //
+    private boolean expire(final Object key) {
+        final boolean[] expired = new boolean[1];
+        this.cache.computeIfPresent(key, (Object k, ElementImpl element) -> {
+            if (element.mustBeRemoved()) {
+                onRemoval(k, element);
+                statistics.expirations.increment();
+                expired[0] = true;
+                return null;
+            }
+            return element;
+        });
+        return expired[0];
+    }
+
+    private void onInsertion(final Object key, final ElementImpl element, final CacheConfiguration config) {
+        element.touch(accessSequence.incrementAndGet());
+        weight.addAndGet(element.weight);
+        if (element.endOfValidity > 0) {
+            element.wheelTick = wheel().schedule(key, element.endOfValidity);
+        }
+        if (isBounded(config)) {
+            accessOrder.record(key, element);
+            evictIfNeeded(config);
+        }
+    }
+
+    // must be called when the entry is removed from the map to keep the side structures consistent
+    private void onRemoval(final Object key, final ElementImpl element) {
+        weight.addAndGet(-element.weight);
+        accessOrder.remove(key, element);
+        refusedExpirations.remove(key);
+        final LocalCacheTimerWheel currentWheel = this.wheel;
+        if (element.endOfValidity > 0 && currentWheel != null) {
+            currentWheel.cancel(key, element.endOfValidity, element.wheelTick);
+        }
+    }
+
+    private void evictIfNeeded(final CacheConfiguration config) {
+        final int maxSize = config.getDefaultMaxSize();
+        final long maxWeight = config.getMaxWeight();
+        final EvictionPolicy policy = ofNullable(config.getEvictionPolicy()).orElse(EvictionPolicy.LRU);
+        while ((maxSize > 0 && this.cache.size() > maxSize) || (maxWeight > 0 && this.weight.get() > maxWeight)) {
+            final Map.Entry<Object, ElementImpl> victim = accessOrder.victim(policy);
+            if (victim == null) {
+                return;
+            }
+            if (this.cache.remove(victim.getKey(), victim.getValue())) {
+                onRemoval(victim.getKey(), victim.getValue());
+                statistics.evictions.increment();
+            } else { // already removed, just drop it from the order
+                accessOrder.remove(victim.getKey(), victim.getValue());
+            }
+        }
+    }
+
+    private boolean isBounded(final CacheConfiguration config) {
+        return config != null && (config.getDefaultMaxSize() > 0 || config.getMaxWeight() > 0);
+    }
+
+    private LocalCacheTimerWheel wheel() {
+        LocalCacheTimerWheel current = this.wheel;
+        if (current == null) {
+            synchronized (this.cache) {
+                current = this.wheel;
+                if (current == null) {
+                    final long tick = this.getConfigValue(CacheConfiguration::getExpirationTick, -1L);
+                    current = new LocalCacheTimerWheel(tick > 0 ? tick : DEFAULT_EXPIRATION_TICK, this.timer,
+                            this.threadServiceGetter, this::onExpiry);
+                    this.wheel = current;
+                }
+            }
+        }
+        return current;
     }
 
     private <T> T getConfigValue(final Function<CacheConfiguration, T> getter, final T defaultValue) {
@@ -216,6 +426,37 @@ public class LocalCacheService implements LocalCache, Serializable {
         return this.configuration != null ? this.configuration.get() : null;
     }
 
+    // rough estimation, it is only used to bound the cache by weight
+    private static long estimateWeight(final Object value) {
+        if (value == null) {
+            return 16;
+        }
+        if (CharSequence.class.isInstance(value)) {
+            return 40 + 2L * CharSequence.class.cast(value).length();
+        }
+        if (byte[].class.isInstance(value)) {
+            return 16 + byte[].class.cast(value).length;
+        }
+        if (char[].class.isInstance(value)) {
+            return 16 + 2L * char[].class.cast(value).length;
+        }
+        if (Number.class.isInstance(value) || Boolean.class.isInstance(value)) {
+            return 16;
+        }
+        if (Collection.class.isInstance(value)) {
+            return 48 + 32L * Collection.class.cast(value).size();
+        }
+        if (Map.class.isInstance(value)) {
+            return 48 + 64L * Map.class.cast(value).size();
+        }
+        return 64;
+    }
+
+    public enum EvictionPolicy {
+        LRU,
+        LFU
+    }
+
     /**
      * Cache configuration.
      */
@@ -230,6 +471,18 @@ public class LocalCacheService implements LocalCache, Serializable {
 
         @Option
         private int defaultMaxSize;
+
+        /** bound on the estimated size (bytes) of the values, ignored if not positive */
+        @Option
+        private long maxWeight;
+
+        /** entries to evict when the cache is full, LRU if not set */
+        @Option
+        private EvictionPolicy evictionPolicy;
+
+        /** precision (ms) of the timeouts, default to 100ms */
+        @Option
+        private long expirationTick;
     }
 
     /**
@@ -246,18 +499,25 @@ public class LocalCacheService implements LocalCache, Serializable {
         /** give time object can be release (infinity if < 0) */
         private final long endOfValidity;
 
-        /** scheduled task to remove object if nedeed (to cancel if removed before) */
-        private final ScheduledFuture<?> removedTask;
-
         private final Supplier<Long> serviceTimer;
 
+        /** estimated size of the value, 0 when the cache is not bounded by weight */
+        private final long weight;
+
+        private final AtomicInteger hits = new AtomicInteger();
+
+        private volatile long lastAccess;
+
+        /** tick of the timer wheel the entry is registered at */
+        private volatile long wheelTick;
+
         public <T> ElementImpl(final Supplier<T> value, final Predicate<Element> canBeRemoved, final long endOfValidity,
-                final ScheduledFuture<?> removedTask, final Supplier<Long> timer) {
+                final Supplier<Long> timer, final boolean weighted) {
             this.value = value.get();
             this.canBeRemoved = canBeRemoved;
             this.endOfValidity = endOfValidity;
-            this.removedTask = removedTask;
             this.serviceTimer = timer;
+            this.weight = weighted ? estimateWeight(this.value) : 0;
         }
 
         @Override
@@ -275,21 +535,20 @@ public class LocalCacheService implements LocalCache, Serializable {
         }
 
         public boolean mustBeRemoved() {
-            return (this.endOfValidity > 0 && this.endOfValidity <= this.serviceTimer.get()) // time out passed
-                    && this.canBeEvict(); // or function indicate to remove.
+            return this.isTimedOut() && this.canBeEvict(); // or function indicate to remove.
+        }
+
+        private boolean isTimedOut() {
+            return this.endOfValidity > 0 && this.endOfValidity <= this.serviceTimer.get();
         }
 
         public boolean canBeEvict() {
             return this.canBeRemoved == null || this.canBeRemoved.test(this);
         }
 
-        /**
-         * Release this object because removed.
-         */
-        public synchronized void release() {
-            if (this.removedTask != null) {
-                this.removedTask.cancel(false);
-            }
+        private void touch(final long sequence) {
+            this.lastAccess = sequence;
+            this.hits.incrementAndGet();
         }
 
         @Override
@@ -309,6 +568,136 @@ public class LocalCacheService implements LocalCache, Serializable {
         }
     }
 
+    /**
+     * Usage order of the entries of a bounded cache: access ordered maps split in segments
+     * (selected by key hash) so hits on different keys rarely contend on the same lock.
+     */
+    private static class AccessOrder {
+
+        private final Map<Object, ElementImpl>[] segments;
+
+        private AccessOrder() {
+            @SuppressWarnings("unchecked") // generic array, filled with typed maps just after
+            final Map<Object, ElementImpl>[] segments = new Map[ORDER_SEGMENTS];
+            for (int i = 0; i < segments.length; i++) {
+                segments[i] = new LinkedHashMap<>(16, 0.75f, true);
+            }
+            this.segments = segments;
+        }
+
+        private void record(final Object key, final ElementImpl element) {
+            final Map<Object, ElementImpl> segment = segment(key);
+            synchronized (segment) {
+                segment.put(key, element);
+            }
+        }
+
+        private void touch(final Object key) {
+            final Map<Object, ElementImpl> segment = segment(key);
+            synchronized (segment) {
+                segment.get(key); // moves it at the end
+            }
+        }
+
+        private void remove(final Object key, final ElementImpl element) {
+            final Map<Object, ElementImpl> segment = segment(key);
+            synchronized (segment) {
+                segment.remove(key, element);
+            }
+        }
+
+        private void clear() {
+            for (final Map<Object, ElementImpl> segment : segments) {
+                synchronized (segment) {
+                    segment.clear();
+                }
+            }
+        }
+
+        private Map.Entry<Object, ElementImpl> victim(final EvictionPolicy policy) {
+            Map.Entry<Object, ElementImpl> victim = null;
+            for (final Map<Object, ElementImpl> segment : segments) {
+                synchronized (segment) {
+                    int candidates = policy == EvictionPolicy.LFU ? LFU_CANDIDATES : 1;
+                    for (final Map.Entry<Object, ElementImpl> entry : segment.entrySet()) {
+                        if (victim == null || isBefore(policy, entry.getValue(), victim.getValue())) {
+                            victim = new SimpleImmutableEntry<>(entry);
+                        }
+                        if (--candidates == 0) {
+                            break;
+                        }
+                    }
+                }
+            }
+            return victim;
+        }
+
+        private boolean isBefore(final EvictionPolicy policy, final ElementImpl element, final ElementImpl other) {
+            if (policy == EvictionPolicy.LFU && element.hits.get() != other.hits.get()) {
+                return element.hits.get() < other.hits.get();
+            }
+            return element.lastAccess < other.lastAccess;
+        }
+
+        private Map<Object, ElementImpl> segment(final Object key) {
+            final int hash = key.hashCode();
+            return segments[(hash ^ (hash >>> 16)) & (ORDER_SEGMENTS - 1)];
+        }
+    }
+
+    private static class Loading {
+
+        private final Thread owner = Thread.currentThread();
+
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+    }
+
+    private class Statistics implements LocalCacheStatisticsMXBean {
+
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private final LongAdder evictions = new LongAdder();
+
+        private final LongAdder expirations = new LongAdder();
+
+        @Override
+        public String getPlugin() {
+            return plugin;
+        }
+
+        @Override
+        public long getHits() {
+            return hits.sum();
+        }
+
+        @Override
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        @Override
+        public long getEvictions() {
+            return evictions.sum();
+        }
+
+        @Override
+        public long getExpirations() {
+            return expirations.sum();
+        }
+
+        @Override
+        public int getSize() {
+            return cache.size();
+        }
+
+        @Override
+        public long getWeight() {
+            return weight.get();
+        }
+    }
+
     Object writeReplace() throws ObjectStreamException {
         return new SerializableService(plugin, LocalCache.class.getName());
     }
@@ -0,0 +1,45 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.service;
+
+/**
+ * JMX view of the {@link LocalCacheService} of a plugin.
+ */
+public interface LocalCacheStatisticsMXBean {
+
+    String getPlugin();
+
+    long getHits();
+
+    long getMisses();
+
+    /**
+     * @return the number of entries removed to respect the size or weight bounds.
+     */
+    long getEvictions();
+
+    /**
+     * @return the number of entries removed because their timeout passed.
+     */
+    long getExpirations();
+
+    int getSize();
+
+    /**
+     * @return the estimated weight (bytes) of the entries, only computed when the cache is bounded by weight.
+     */
+    long getWeight();
+}
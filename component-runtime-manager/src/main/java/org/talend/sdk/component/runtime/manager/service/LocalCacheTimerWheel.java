@@ -0,0 +1,161 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hashed timer wheel used to expire the {@link LocalCacheService} entries: a single periodic task per cache
+ * walks the buckets of the elapsed ticks instead of scheduling one task per entry.
+ * Deadlines further than a wheel turn stay in their bucket until their turn comes.
+ *
+ * The expiry callback only gets the key, it is up to the cache to check the entry is still expired
+ * (it can have been replaced meanwhile), so stale registrations are harmless.
+ */
+@Slf4j
+class LocalCacheTimerWheel {
+
+    private static final int BUCKETS = 512;
+
+    private final long tick;
+
+    private final Supplier<Long> clock;
+
+    private final Supplier<ScheduledExecutorService> executor;
+
+    private final Consumer<Object> onExpiry;
+
+    // key -> deadline, a key can be in several buckets (replaced entries), the deadline disambiguates
+    private final ConcurrentMap<Object, Long>[] buckets;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private long lastTick;
+
+    private ScheduledFuture<?> ticker;
+
+    LocalCacheTimerWheel(final long tick, final Supplier<Long> clock,
+            final Supplier<ScheduledExecutorService> executor, final Consumer<Object> onExpiry) {
+        this.tick = Math.max(1, tick);
+        this.clock = clock;
+        this.executor = executor;
+        this.onExpiry = onExpiry;
+        @SuppressWarnings("unchecked") // generic array, filled with typed maps just after
+        final ConcurrentMap<Object, Long>[] buckets = new ConcurrentMap[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new ConcurrentHashMap<>();
+        }
+        this.buckets = buckets;
+        this.lastTick = clock.get() / this.tick;
+    }
+
+    /**
+     * @param key the key to expire.
+     * @param deadline the expiry timestamp (in the clock unit).
+     * @return the tick the key is registered at, to pass to {@link #cancel(Object, long, long)}.
+     */
+    long schedule(final Object key, final long deadline) {
+        final long deadlineTick;
+        synchronized (this) { // already elapsed ticks are not visited anymore, use the next one
+            deadlineTick = Math.max(deadline / tick, lastTick + 1);
+        }
+        if (bucket(deadlineTick).put(key, deadline) == null) {
+            size.incrementAndGet();
+        }
+        ensureStarted();
+        return deadlineTick;
+    }
+
+    /**
+     * @param key the key to forget.
+     * @param deadline the deadline it was scheduled with.
+     * @param scheduledTick the tick {@link #schedule(Object, long)} returned.
+     */
+    void cancel(final Object key, final long deadline, final long scheduledTick) {
+        if (bucket(scheduledTick).remove(key, deadline)) {
+            size.decrementAndGet();
+        }
+    }
+
+    synchronized void stop() {
+        if (ticker != null) {
+            ticker.cancel(false);
+            ticker = null;
+        }
+        for (final Map<Object, Long> bucket : buckets) {
+            bucket.clear();
+        }
+        size.set(0);
+    }
+
+    void advance() {
+        final long now = clock.get();
+        final long currentTick = now / tick;
+        final long from;
+        synchronized (this) {
+            if (currentTick <= lastTick) { // nothing elapsed or clock going backward
+                return;
+            }
+            from = lastTick + 1;
+            lastTick = currentTick;
+        }
+        // a single turn visits all the buckets, more would just revisit them
+        final long to = Math.min(currentTick, from + BUCKETS - 1);
+        for (long t = from; t <= to; t++) {
+            final Iterator<Map.Entry<Object, Long>> iterator = bucket(t).entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<Object, Long> entry = iterator.next();
+                if (entry.getValue() > now) { // next turn
+                    continue;
+                }
+                iterator.remove();
+                size.decrementAndGet();
+                try {
+                    onExpiry.accept(entry.getKey());
+                } catch (final RuntimeException re) {
+                    log.warn("Can't expire '{}': {}", entry.getKey(), re.getMessage(), re);
+                }
+            }
+        }
+        synchronized (this) { // don't keep a task running for an empty wheel
+            if (size.get() <= 0 && ticker != null) {
+                ticker.cancel(false);
+                ticker = null;
+            }
+        }
+    }
+
+    private synchronized void ensureStarted() {
+        if (ticker == null) {
+            ticker = executor.get().scheduleWithFixedDelay(this::advance, tick, tick, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private ConcurrentMap<Object, Long> bucket(final long tickIndex) {
+        return buckets[(int) (tickIndex & (BUCKETS - 1))];
+    }
+}
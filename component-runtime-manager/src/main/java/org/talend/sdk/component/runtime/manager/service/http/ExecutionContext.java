@@ -26,6 +26,7 @@ import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -54,6 +55,12 @@ public class ExecutionContext implements BiFunction<String, Object[], Object> {
 
     private final boolean isResponse;
 
+    /**
+     * The method returns a {@link java.util.concurrent.CompletionStage} of the response, the caller executes
+     * {@link #apply(String, Object[])} asynchronously.
+     */
+    private final boolean isAsynchronous;
+
     private final Map<String, Decoder> decoders;
 
     public Object apply(final String base, final Object[] params) {
@@ -132,6 +139,34 @@ public class ExecutionContext implements BiFunction<String, Object[], Object> {
     }
 
     private static byte[] slurp(final InputStream responseStream, final int len) {
+        if (len > 0) { // read directly in the response array, avoids the copy of the buffered bytes
+            final byte[] response = new byte[len];
+            try (final InputStream inputStream = responseStream) {
+                int offset = 0;
+                int count;
+                while (offset < len && (count = inputStream.read(response, offset, len - offset)) >= 0) {
+                    offset += count;
+                }
+                if (offset < len) { // truncated response
+                    return Arrays.copyOf(response, offset);
+                }
+                final int next = inputStream.read();
+                if (next < 0) {
+                    return response;
+                }
+                // wrong content length, read the remaining bytes
+                final ByteArrayOutputStream remaining = new ByteArrayOutputStream(len + 8192);
+                remaining.write(response, 0, len);
+                remaining.write(next);
+                final byte[] buffer = new byte[8192];
+                while ((count = inputStream.read(buffer)) >= 0) {
+                    remaining.write(buffer, 0, count);
+                }
+                return remaining.toByteArray();
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
         final byte[] buffer = new byte[8192];
         final ByteArrayOutputStream responseBuffer = new ByteArrayOutputStream(len > 0 ? len : buffer.length);
         try (final InputStream inputStream = responseStream) {
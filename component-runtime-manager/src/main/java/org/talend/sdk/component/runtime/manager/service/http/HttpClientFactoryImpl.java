@@ -15,6 +15,7 @@
  */
 package org.talend.sdk.component.runtime.manager.service.http;
 
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Stream.of;
@@ -29,8 +30,13 @@ import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import javax.json.bind.Jsonb;
@@ -108,6 +114,32 @@ public class HttpClientFactoryImpl implements HttpClientFactory, Serializable {
         return new SerializableService(plugin, HttpClientFactory.class.getName());
     }
 
+    /**
+     * Executes the requests of the methods returning a {@link java.util.concurrent.CompletionStage}. The connections
+     * are blocking so it is a dedicated pool, sized with {@code talend.component.manager.http.async.threads}.
+     */
+    private static final class AsyncExecutor {
+
+        private static final ExecutorService INSTANCE = create();
+
+        private static ExecutorService create() {
+            final int threads = Integer.getInteger("talend.component.manager.http.async.threads", 64);
+            final AtomicInteger counter = new AtomicInteger();
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, MINUTES,
+                    new LinkedBlockingQueue<>(), r -> {
+                        final Thread thread = new Thread(r,
+                                HttpClientFactoryImpl.class.getName() + "-async-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        // shared by all the plugins: don't pin the loader of the one triggering the thread creation,
+                        // the caller loader is set per task
+                        thread.setContextClassLoader(HttpClientFactoryImpl.class.getClassLoader());
+                        return thread;
+                    });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
     @ToString
     @RequiredArgsConstructor
     private static class HttpHandler implements InvocationHandler, Serializable {
@@ -171,7 +203,22 @@ public class HttpClientFactoryImpl implements HttpClientFactory, Serializable {
                 }
             }
 
-            return invokers.computeIfAbsent(method, this.requestParser::parse).apply(this.base, args);
+            final ExecutionContext context = invokers.computeIfAbsent(method, this.requestParser::parse);
+            if (context.isAsynchronous()) {
+                final String currentBase = this.base;
+                final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+                return CompletableFuture.supplyAsync(() -> {
+                    final Thread thread = Thread.currentThread();
+                    final ClassLoader old = thread.getContextClassLoader();
+                    thread.setContextClassLoader(loader);
+                    try {
+                        return context.apply(currentBase, args);
+                    } finally {
+                        thread.setContextClassLoader(old);
+                    }
+                }, AsyncExecutor.INSTANCE);
+            }
+            return context.apply(this.base, args);
         }
 
         Object writeReplace() throws ObjectStreamException {
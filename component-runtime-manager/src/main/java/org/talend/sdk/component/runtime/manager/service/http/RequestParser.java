@@ -43,6 +43,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -204,10 +206,21 @@ public class RequestParser {
             }
         }
 
-        final boolean isResponse = method.getReturnType() == Response.class;
-        final Type responseType =
-                isResponse ? ParameterizedType.class.cast(method.getGenericReturnType()).getActualTypeArguments()[0]
-                        : method.getReturnType();
+        final boolean isAsynchronous =
+                method.getReturnType() == CompletionStage.class || method.getReturnType() == CompletableFuture.class;
+        final Type resultType = isAsynchronous
+                ? ParameterizedType.class.cast(method.getGenericReturnType()).getActualTypeArguments()[0]
+                : method.getReturnType();
+        final boolean isResponse = resultType == Response.class || (ParameterizedType.class.isInstance(resultType)
+                && ParameterizedType.class.cast(resultType).getRawType() == Response.class);
+        final Type responseType;
+        if (!isResponse) {
+            responseType = resultType;
+        } else if (isAsynchronous) {
+            responseType = ParameterizedType.class.cast(resultType).getActualTypeArguments()[0];
+        } else {
+            responseType = ParameterizedType.class.cast(method.getGenericReturnType()).getActualTypeArguments()[0];
+        }
         final Integer httpMethodIndex = httpMethod;
         final Function<Object[], String> httpMethodProvider = params -> httpMethodIndex == null ? request.method()
                 : ofNullable(params[httpMethodIndex]).map(String::valueOf).orElse(request.method());
@@ -222,7 +235,7 @@ public class RequestParser {
 
         return new ExecutionContext(new HttpRequestCreator(httpMethodProvider, urlProvider, baseProvider, pathTemplate,
                 pathProvider, queryParamsProvider, headersProvider, payloadProvider, configurerInstance,
-                configurerOptionsProvider), responseType, isResponse, decoders);
+                configurerOptionsProvider), responseType, isResponse, isAsynchronous, decoders);
     }
 
     private BiFunction<String, Object[], Optional<byte[]>> buildPayloadProvider(final Map<String, Encoder> encoders,
@@ -0,0 +1,181 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.xbean;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.apache.xbean.finder.AnnotationFinder;
+import org.apache.xbean.finder.archive.ClassesArchive;
+import org.talend.sdk.component.api.input.Emitter;
+import org.talend.sdk.component.api.input.PartitionMapper;
+import org.talend.sdk.component.api.internationalization.Internationalized;
+import org.talend.sdk.component.api.processor.Processor;
+import org.talend.sdk.component.api.service.Service;
+import org.talend.sdk.component.api.service.http.Request;
+import org.talend.sdk.component.api.standalone.DriverRunner;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Finder reading the index the build ({@code scan-descriptor} mojo) writes in {@code TALEND-INF/scanning.properties}:
+ * one {@code index.<annotation simple name>} class list per scanned annotation ({@code index.Request} lists the
+ * declaring classes of the {@code @Request} methods) and {@code index.validated}, the components the build validated.
+ *
+ * The classes are loaded on the first lookup only. If one is missing or does not carry its annotation anymore,
+ * the index is stale and the lookups are delegated to the fallback finder (plain scanning).
+ */
+@Slf4j
+public class IndexedAnnotationFinder extends AnnotationFinder {
+
+    public static final String VERSION_KEY = "index.version";
+
+    public static final String VERSION = "1";
+
+    public static final String VALIDATED_KEY = "index.validated";
+
+    public static final List<Class<? extends Annotation>> INDEXED_ANNOTATIONS = Stream
+            .of(PartitionMapper.class, Processor.class, Emitter.class, DriverRunner.class, Service.class,
+                    Internationalized.class, Request.class)
+            .collect(toList());
+
+    private final ClassLoader loader;
+
+    private final Properties index;
+
+    private final Supplier<AnnotationFinder> fallback;
+
+    private volatile Map<Class<? extends Annotation>, List<Class<?>>> classes;
+
+    private volatile Set<String> validated;
+
+    private volatile boolean stale;
+
+    private IndexedAnnotationFinder(final ClassLoader loader, final Properties index,
+            final Supplier<AnnotationFinder> fallback) {
+        super(new ClassesArchive(/* empty */));
+        this.loader = loader;
+        this.index = index;
+        this.fallback = fallback;
+    }
+
+    /**
+     * @param config the scanning configuration of the plugin.
+     * @param loader the plugin classloader.
+     * @param fallback the finder to use if the index is stale, it is only called in that case.
+     * @return the indexed finder or {@code null} if the configuration has no (supported) index.
+     */
+    public static IndexedAnnotationFinder of(final Properties config, final ClassLoader loader,
+            final Supplier<AnnotationFinder> fallback) {
+        if (!VERSION.equals(config.getProperty(VERSION_KEY))) {
+            return null;
+        }
+        return new IndexedAnnotationFinder(loader, config, fallback);
+    }
+
+    public static String key(final Class<? extends Annotation> annotation) {
+        return "index." + annotation.getSimpleName();
+    }
+
+    /**
+     * @param type a component class.
+     * @return true if the build already validated this component (and the index is not stale).
+     */
+    public boolean isValidated(final Class<?> type) {
+        return load() && validated.contains(type.getName());
+    }
+
+    @Override
+    public List<Class<?>> findAnnotatedClasses(final Class<? extends Annotation> marker) {
+        if (!INDEXED_ANNOTATIONS.contains(marker) || !load()) {
+            return fallback.get().findAnnotatedClasses(marker);
+        }
+        return classes.get(marker);
+    }
+
+    @Override
+    public List<Method> findAnnotatedMethods(final Class<? extends Annotation> annotation) {
+        if (!INDEXED_ANNOTATIONS.contains(annotation) || !load()) {
+            return fallback.get().findAnnotatedMethods(annotation);
+        }
+        return classes
+                .get(annotation)
+                .stream()
+                .flatMap(type -> Stream.of(type.getMethods()).filter(m -> m.isAnnotationPresent(annotation)))
+                .distinct()
+                .collect(toList());
+    }
+
+    // true if the index can be used
+    private boolean load() {
+        if (classes == null && !stale) {
+            synchronized (this) {
+                if (classes == null && !stale) {
+                    doLoad();
+                }
+            }
+        }
+        return !stale;
+    }
+
+    private void doLoad() {
+        final Map<String, Class<?>> loaded = new HashMap<>();
+        final Map<Class<? extends Annotation>, List<Class<?>>> byAnnotation = new HashMap<>();
+        for (final Class<? extends Annotation> annotation : INDEXED_ANNOTATIONS) {
+            final List<Class<?>> annotated = names(key(annotation)).map(name -> loaded.computeIfAbsent(name, n -> {
+                try {
+                    return loader.loadClass(n);
+                } catch (final ClassNotFoundException | NoClassDefFoundError e) {
+                    log.debug(e.getMessage(), e);
+                    return null;
+                }
+            })).collect(toList());
+            if (annotated.stream().anyMatch(c -> c == null || !isAnnotated(c, annotation))) {
+                log.warn("Component index is stale ({} entries changed), scanning the plugin", annotation.getName());
+                stale = true;
+                return;
+            }
+            byAnnotation.put(annotation, annotated);
+        }
+        validated = names(VALIDATED_KEY).collect(toSet());
+        classes = byAnnotation;
+    }
+
+    private boolean isAnnotated(final Class<?> type, final Class<? extends Annotation> annotation) {
+        if (Request.class == annotation) {
+            return Stream.of(type.getMethods()).anyMatch(m -> m.isAnnotationPresent(annotation));
+        }
+        return type.isAnnotationPresent(annotation);
+    }
+
+    private Stream<String> names(final String key) {
+        final String value = index.getProperty(key);
+        if (value == null) {
+            return Stream.empty();
+        }
+        return Stream.of(value.split(",")).map(String::trim).filter(it -> !it.isEmpty());
+    }
+}
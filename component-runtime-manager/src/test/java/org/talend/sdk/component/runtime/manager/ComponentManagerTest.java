@@ -63,6 +63,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.opentest4j.AssertionFailedError;
 import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.cache.LocalCache;
 import org.talend.sdk.component.api.service.configuration.LocalConfiguration;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.container.Container;
@@ -219,6 +220,32 @@ class ComponentManagerTest {
         }
     }
 
+    @Test
+    void addPlugins(@TempDir final File temporaryFolder) {
+        final File pluginFolder = new File(temporaryFolder, "test-plugins_" + UUID.randomUUID().toString());
+        pluginFolder.mkdirs();
+        final File plugin1 = pluginGenerator.createChainPlugin(pluginFolder, "plugin1.jar");
+        final File plugin2 = pluginGenerator.createChainPlugin(pluginFolder, "plugin2.jar");
+        DynamicContainerFinder.SERVICES.put(RecordBuilderFactory.class, new RecordBuilderFactoryImpl("plugin"));
+        final String jvd = System.getProperty("java.version.date"); // java 11
+        System.clearProperty("java.version.date");
+        try (final ComponentManager manager =
+                new ComponentManager(new File("target/test-dependencies"), "META-INF/test/dependencies", null)) {
+            final List<String> ids = manager
+                    .addPlugins(asList(plugin1.getAbsolutePath(), plugin2.getAbsolutePath(),
+                            plugin1.getAbsolutePath()));
+            assertEquals(asList("plugin1", "plugin2", "plugin1"), ids);
+            assertEquals(2, manager.getContainer().findAll().size());
+            assertTrue(manager.findPlugin("plugin2").isPresent());
+        } finally { // clean temp files
+            DynamicContainerFinder.SERVICES.clear();
+            doCleanup(pluginFolder);
+            if (jvd != null) {
+                System.setProperty("java.version.date", jvd);
+            }
+        }
+    }
+
     @Test
     void run(@TempDir final File temporaryFolder) throws Exception {
         final File pluginFolder = new File(temporaryFolder, "test-plugins_" + UUID.randomUUID().toString());
@@ -255,6 +282,39 @@ class ComponentManagerTest {
         assertFalse(mBeanServer.isRegistered(new ObjectName("org.talend.test:type=plugin,value=plugin1")));
     }
 
+    @Test
+    void localCacheReleasedWithThePlugin(@TempDir final File temporaryFolder) throws Exception {
+        final File pluginFolder = new File(temporaryFolder, "test-plugins_" + UUID.randomUUID().toString());
+        pluginFolder.mkdirs();
+        final File plugin = pluginGenerator
+                .createPlugin(pluginFolder, "plugin1.jar", "org.apache.tomee:openejb-itests-beans:jar:8.0.14:runtime");
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName cacheName =
+                new ObjectName("org.talend.sdk.component:type=LocalCache,plugin=" + ObjectName.quote("plugin1"));
+        try (final ComponentManager manager = newManager()) {
+            manager.addPlugin(plugin.getAbsolutePath());
+            for (int i = 0; i < 2; i++) { // redeploying must not conflict with the previous registration
+                final LocalCache cache = LocalCache.class
+                        .cast(manager
+                                .findPlugin("plugin1")
+                                .orElseThrow(IllegalStateException::new)
+                                .get(AllServices.class)
+                                .getServices()
+                                .get(LocalCache.class));
+                assertEquals("value", cache.computeIfAbsent(String.class, "key", 60_000, () -> "value"));
+                assertTrue(mBeanServer.isRegistered(cacheName));
+
+                manager.removePlugin("plugin1");
+                assertFalse(mBeanServer.isRegistered(cacheName));
+                if (i == 0) {
+                    manager.addPlugin(plugin.getAbsolutePath());
+                }
+            }
+        } finally {
+            doCleanup(pluginFolder);
+        }
+    }
+
     @Test
     void extendFamily(@TempDir final File temporaryFolder) throws Exception {
         final File pluginFolder = new File(temporaryFolder, "test-plugins_" + UUID.randomUUID().toString());
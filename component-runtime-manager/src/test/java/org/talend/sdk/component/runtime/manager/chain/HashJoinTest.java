@@ -0,0 +1,158 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.chain;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class HashJoinTest {
+
+    private final RecordBuilderFactory factory = new RecordBuilderFactoryImpl("test");
+
+    @Test
+    void match() {
+        try (final HashJoin join = new HashJoin(asList("a", "b"), 10, 10, factory)) {
+            join.add("a", "1", record("a1"));
+            join.add("a", "2", record("a2"));
+            assertNull(join.poll());
+            join.add("b", "2", record("b2"));
+            final Map<String, Record> match = join.poll();
+            assertEquals("a2", match.get("a").getString("name"));
+            assertEquals("b2", match.get("b").getString("name"));
+            assertNull(join.poll());
+            assertEquals(1, join.getMatchCount());
+            assertEquals(1, join.getUnmatchedKeyCount());
+            assertEquals(1, join.getUnmatchedRecordCount());
+        }
+    }
+
+    @Test
+    void duplicatedKeysAreMatchedInArrivalOrder() {
+        try (final HashJoin join = new HashJoin(asList("a", "b", "c"), 10, 10, factory)) {
+            join.add("a", "k", record("a1"));
+            join.add("a", "k", record("a2"));
+            join.add("b", "k", record("b1"));
+            assertNull(join.poll());
+            join.add("c", "k", record("c1"));
+            final Map<String, Record> match = join.poll();
+            assertEquals("a1", match.get("a").getString("name"));
+            assertEquals("b1", match.get("b").getString("name"));
+            assertEquals("c1", match.get("c").getString("name"));
+            assertEquals(1, join.getUnmatchedRecordCount());
+        }
+    }
+
+    @Test
+    void spill() {
+        try (final HashJoin join = new HashJoin(asList("a", "b"), 0, 10, factory)) {
+            final ZonedDateTime date = ZonedDateTime.of(2020, 1, 2, 3, 4, 5, 6, ZoneId.of("Europe/Paris"));
+            final Record nested = factory.newRecordBuilder().withString("value", "nested").build();
+            final Record record = factory
+                    .newRecordBuilder()
+                    .withString("name", "a1")
+                    .withInt("int", 1)
+                    .withLong("long", 2L)
+                    .withDouble("double", 3.5)
+                    .withBoolean("bool", true)
+                    .withBytes("bytes", new byte[] { 1, 2 })
+                    .withDecimal("decimal", new BigDecimal("12.345"))
+                    .withDateTime("date", date)
+                    .withRecord("nested", nested)
+                    .withArray(factory
+                            .newEntryBuilder()
+                            .withName("array")
+                            .withType(Schema.Type.ARRAY)
+                            .withElementSchema(factory
+                                    .newSchemaBuilder(Schema.Type.STRING)
+                                    .build())
+                            .build(), asList("x", "y"))
+                    .build();
+            join.add("a", "1", record);
+            assertEquals(1, join.getSpilledRecordCount());
+
+            join.add("b", "1", record("b1"));
+            final Record loaded = join.poll().get("a");
+            assertEquals("a1", loaded.getString("name"));
+            assertEquals(1, loaded.getInt("int"));
+            assertEquals(2L, loaded.getLong("long"));
+            assertEquals(3.5, loaded.getDouble("double"));
+            assertEquals(true, loaded.getBoolean("bool"));
+            assertArrayEquals(new byte[] { 1, 2 }, loaded.getBytes("bytes"));
+            assertEquals(new BigDecimal("12.345"), loaded.getDecimal("decimal"));
+            assertEquals(record.getDateTime("date").toInstant(), loaded.getDateTime("date").toInstant());
+            assertEquals("nested", loaded.getRecord("nested").getString("value"));
+            assertEquals(asList("x", "y"), loaded.getArray(String.class, "array"));
+            assertEquals(0, join.getUnmatchedRecordCount());
+        }
+    }
+
+    @Test
+    void spillIsResetOnceConsumed() {
+        try (final HashJoin join = new HashJoin(asList("a", "b"), 0, 10, factory)) {
+            join.add("a", "1", record("a1"));
+            join.add("a", "2", record("a2"));
+            assertEquals(2, join.getSpilledRecordCount());
+            join.add("b", "1", record("b1"));
+            join.add("b", "2", record("b2"));
+            assertEquals("a1", join.poll().get("a").getString("name"));
+            assertEquals("a2", join.poll().get("a").getString("name"));
+
+            // all the spilled records were consumed so the file was reset, it is still usable
+            join.add("a", "3", record("a3"));
+            join.add("b", "3", record("b3"));
+            assertEquals("a3", join.poll().get("a").getString("name"));
+            assertEquals(3, join.getSpilledRecordCount());
+        }
+    }
+
+    @Test
+    void maxPendingKeys() {
+        try (final HashJoin join = new HashJoin(asList("a", "b"), 10, 2, factory)) {
+            join.add("a", "1", record("a1"));
+            join.add("b", "2", record("b2"));
+            join.add("b", "2", record("b2bis")); // existing key
+            assertThrows(IllegalStateException.class, () -> join.add("a", "3", record("a3")));
+            join.add("b", "1", record("b1")); // a match releases a key
+            join.add("a", "3", record("a3"));
+            assertEquals(2, join.getUnmatchedKeyCount());
+        }
+    }
+
+    @Test
+    void unknownBranch() {
+        try (final HashJoin join = new HashJoin(asList("a", "b"), 10, 10, factory)) {
+            assertThrows(IllegalArgumentException.class, () -> join.add("c", "1", record("c1")));
+        }
+    }
+
+    private Record record(final String name) {
+        return factory.newRecordBuilder().withString("name", name).build();
+    }
+}
@@ -19,6 +19,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -38,6 +39,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
 import java.util.stream.Stream;
 
 import javax.json.bind.JsonbBuilder;
@@ -356,6 +360,46 @@ class HttpClientFactoryImplTest {
         }
     }
 
+    @Test
+    void asynchronous() throws Exception {
+        final HttpServer server = createTestServer(HttpURLConnection.HTTP_OK);
+        try {
+            server.start();
+            final AsyncClient httpClient = newDefaultFactory().create(AsyncClient.class, null);
+            httpClient.base("http://localhost:" + server.getAddress().getPort());
+            assertEquals("GET@Connection=keep-alive@/api/ABC123@",
+                    new String(httpClient.doRequest("ABC123").toCompletableFuture().get(1, MINUTES).body()));
+            assertEquals("GET@Connection=keep-alive@/api/DEF456@", httpClient.raw("DEF456").get(1, MINUTES));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void asynchronousError() throws IOException {
+        final HttpServer server = createTestServer(HttpURLConnection.HTTP_FORBIDDEN);
+        try {
+            server.start();
+            final AsyncClient httpClient = newDefaultFactory().create(AsyncClient.class, null);
+            httpClient.base("http://localhost:" + server.getAddress().getPort());
+            final ExecutionException error =
+                    assertThrows(ExecutionException.class, () -> httpClient.raw("ABC123").get(1, MINUTES));
+            assertEquals(HttpURLConnection.HTTP_FORBIDDEN,
+                    HttpException.class.cast(error.getCause()).getResponse().status());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    interface AsyncClient extends HttpClient {
+
+        @Request(path = "/api/{userId}")
+        CompletionStage<Response<byte[]>> doRequest(@Path(value = "userId") String id);
+
+        @Request(path = "/api/{userId}")
+        CompletableFuture<String> raw(@Path(value = "userId") String id);
+    }
+
     @Test
     void rawClient() throws IOException {
         final HttpServer server = createTestServer(HttpURLConnection.HTTP_OK);
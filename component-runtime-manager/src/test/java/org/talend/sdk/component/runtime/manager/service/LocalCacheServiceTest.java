@@ -21,13 +21,18 @@ import static org.talend.sdk.component.runtime.manager.test.Serializer.roundTrip
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
@@ -290,6 +295,56 @@ class LocalCacheServiceTest {
         Assertions.assertEquals(10, this.cacheSize());
     }
 
+    @Test
+    void evictionLeastRecentlyUsed() {
+        this.defaultMaxSize = 3;
+        for (int i = 0; i < 3; i++) {
+            cache.computeIfAbsent(String.class, "k" + i, -1L, () -> "val");
+        }
+        // k0 becomes the most recently used so k1 is the eviction candidate
+        assertEquals("val", cache.computeIfAbsent(String.class, "k0", -1L, () -> "renewed"));
+        cache.computeIfAbsent(String.class, "k3", -1L, () -> "val");
+
+        Assertions.assertEquals(3, this.cacheSize());
+        assertEquals("val", cache.computeIfAbsent(String.class, "k0", -1L, () -> "renewed"));
+        assertEquals("val", cache.computeIfAbsent(String.class, "k3", -1L, () -> "renewed"));
+        assertEquals("renewed", cache.computeIfAbsent(String.class, "k1", -1L, () -> "renewed"));
+    }
+
+    @Test
+    void loadCoalescesConcurrentMisses() throws Exception {
+        final AtomicInteger computations = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Supplier<String> slowValue = () -> {
+            computations.incrementAndGet();
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "value";
+        };
+        final List<String> key = Arrays.asList("structural", "key");
+
+        final ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            final Future<String> first = pool.submit(() -> cache.load(String.class, key, v -> -1L, slowValue));
+            started.await();
+            final Future<String> second = pool
+                    .submit(() -> cache.load(String.class, new ArrayList<>(key), v -> -1L, () -> "other"));
+            Thread.sleep(100); // let the second call wait for the first one
+            release.countDown();
+            assertEquals("value", first.get());
+            assertEquals("value", second.get());
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, computations.get());
+        assertEquals("value", cache.load(String.class, key, v -> -1L, () -> "other"));
+    }
+
     private boolean isCacheEmpty() {
         return this.internalCacheMap().isEmpty();
     }
@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.xbean;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.xbean.finder.AnnotationFinder;
+import org.apache.xbean.finder.archive.ClassesArchive;
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.input.Emitter;
+import org.talend.sdk.component.api.internationalization.Internationalized;
+import org.talend.sdk.component.api.service.Service;
+import org.talend.test.I18nService;
+import org.talend.test.SingleInput;
+import org.talend.test.SuperService;
+
+class IndexedAnnotationFinderTest {
+
+    @Test
+    void noIndex() {
+        assertNull(IndexedAnnotationFinder.of(new Properties(), getClass().getClassLoader(), () -> null));
+    }
+
+    @Test
+    void index() {
+        final AtomicInteger fallbacks = new AtomicInteger();
+        final IndexedAnnotationFinder finder =
+                IndexedAnnotationFinder.of(index(SuperService.class.getName()), getClass().getClassLoader(), () -> {
+                    fallbacks.incrementAndGet();
+                    return null;
+                });
+        assertEquals(singletonList(SingleInput.class), finder.findAnnotatedClasses(Emitter.class));
+        assertEquals(singletonList(SuperService.class), finder.findAnnotatedClasses(Service.class));
+        assertEquals(singletonList(I18nService.class), finder.findAnnotatedClasses(Internationalized.class));
+        assertTrue(finder.isValidated(SingleInput.class));
+        assertFalse(finder.isValidated(SuperService.class));
+        assertEquals(0, fallbacks.get());
+    }
+
+    @Test
+    void stale() {
+        final AtomicInteger fallbacks = new AtomicInteger();
+        final List<Class<?>> scanned = singletonList(SuperService.class);
+        final IndexedAnnotationFinder finder = IndexedAnnotationFinder
+                .of(index(SingleInput.class.getName() + ",org.talend.test.Missing"), getClass().getClassLoader(),
+                        () -> {
+                            fallbacks.incrementAndGet();
+                            return new AnnotationFinder(new ClassesArchive()) {
+
+                                @Override
+                                public List<Class<?>> findAnnotatedClasses(final Class<? extends Annotation> marker) {
+                                    return Service.class == marker ? scanned : emptyList();
+                                }
+                            };
+                        });
+        assertEquals(scanned, finder.findAnnotatedClasses(Service.class));
+        assertEquals(emptyList(), finder.findAnnotatedClasses(Emitter.class));
+        assertFalse(finder.isValidated(SingleInput.class));
+        assertEquals(2, fallbacks.get());
+    }
+
+    private Properties index(final String services) {
+        final Properties properties = new Properties();
+        properties.setProperty(IndexedAnnotationFinder.VERSION_KEY, IndexedAnnotationFinder.VERSION);
+        properties.setProperty("index.Emitter", SingleInput.class.getName());
+        properties.setProperty("index.Service", services);
+        properties.setProperty("index.Internationalized", I18nService.class.getName());
+        properties.setProperty(IndexedAnnotationFinder.VALIDATED_KEY, SingleInput.class.getName());
+        return properties;
+    }
+}
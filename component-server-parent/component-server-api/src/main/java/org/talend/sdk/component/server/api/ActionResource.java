@@ -39,6 +39,8 @@ import org.eclipse.microprofile.openapi.annotations.parameters.Parameter;
 import org.eclipse.microprofile.openapi.annotations.parameters.RequestBody;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.eclipse.microprofile.openapi.annotations.tags.Tag;
+import org.talend.sdk.component.server.front.model.ActionBatchRequests;
+import org.talend.sdk.component.server.front.model.ActionBatchResponses;
 import org.talend.sdk.component.server.front.model.ActionList;
 import org.talend.sdk.component.server.front.model.error.ErrorPayload;
 
@@ -83,6 +85,25 @@ public interface ActionResource {
                     content = @Content(mediaType = APPLICATION_JSON,
                             schema = @Schema(type = OBJECT))) Map<String, String> params);
 
+    @POST
+    @Path("execute/batch")
+    @Operation(operationId = "executeBatch",
+            description = "This endpoint executes a list of UI actions at once. The actions are executed "
+                    + "asynchronously on a bounded pool with a concurrency limit per family and a timeout per action. "
+                    + "Each result has the index of its request, the HTTP status the `execute` endpoint would use "
+                    + "and the action payload (or an ErrorPayload), a `503` status means the action was rejected "
+                    + "because too many actions were already queued. "
+                    + "Results are sorted by completion order but the response is only sent once all the actions "
+                    + "completed (or timed out): split the batch to get the fast actions first.")
+    @APIResponse(responseCode = "200",
+            description = "The action results.",
+            content = @Content(mediaType = APPLICATION_JSON))
+    CompletionStage<ActionBatchResponses> executeBatch(@RequestBody(
+            description = "The actions to execute, each one has a family, type, action, "
+                    + "lang (optional) and params (flat key/value configuration).",
+            required = true,
+            content = @Content(mediaType = APPLICATION_JSON)) ActionBatchRequests requests);
+
     @GET
     @Path("index")
     @Operation(operationId = "getActionIndex",
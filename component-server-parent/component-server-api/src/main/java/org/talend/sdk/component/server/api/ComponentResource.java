@@ -56,6 +56,8 @@ public interface ComponentResource {
 
     String IMAGE_SVG_XML = "image/svg+xml";
 
+    String APPLICATION_ZIP = "application/zip";
+
     @GET
     @Path("dependencies")
     @Operation(description = "Returns a list of dependencies for the given components. "
@@ -72,19 +74,43 @@ public interface ComponentResource {
     @Path("dependency/{id}")
     @Produces(MediaType.APPLICATION_OCTET_STREAM)
     @Operation(description = "Return a binary of the dependency represented by `id`. "
-            + "It can be maven coordinates for dependencies or a component id.")
+            + "It can be maven coordinates for dependencies or a component id. "
+            + "The response has an `ETag` (the binary SHA-1) usable with `If-None-Match` "
+            + "and a single byte `Range` can be requested.")
     @APIResponse(responseCode = "200",
             description = "The dependency binary (jar).",
             content = @Content(mediaType = APPLICATION_OCTET_STREAM))
+    @APIResponse(responseCode = "206",
+            description = "The requested range of the dependency binary.",
+            content = @Content(mediaType = APPLICATION_OCTET_STREAM))
+    @APIResponse(responseCode = "304", description = "If the `If-None-Match` header matches the dependency `ETag`.")
     @APIResponse(responseCode = "404",
             description = "If the plugin is missing, payload will be an ErrorPayload with the code PLUGIN_MISSING.",
             content = @Content(mediaType = APPLICATION_JSON,
                     schema = @Schema(type = OBJECT, implementation = ErrorPayload.class)))
+    @APIResponse(responseCode = "416", description = "If the requested range is not satisfiable.")
     StreamingOutput getDependency(@PathParam("id") @Parameter(name = "id",
             description = "Dependency identifier for component/configurationType or maven coordinate.  \n" +
                     "Example: `/api/v1/component/dependency/org.apache.commons:commons-lang3:jar:3.12.0`.",
             in = PATH) String id);
 
+    @GET
+    @Path("dependencies/archive")
+    @Produces(APPLICATION_ZIP)
+    @Operation(description = "Returns a zip with the dependencies of the given components (maven repository layout), "
+            + "it avoids a /dependency/{id} request per dependency. "
+            + "IMPORTANT: as for /dependencies, the components themselves are not part of the archive.")
+    @APIResponse(responseCode = "200",
+            description = "The dependencies archive.",
+            content = @Content(mediaType = APPLICATION_ZIP))
+    @APIResponse(responseCode = "404",
+            description = "If a dependency is missing, payload will be an ErrorPayload with the code PLUGIN_MISSING.",
+            content = @Content(mediaType = APPLICATION_JSON,
+                    schema = @Schema(type = OBJECT, implementation = ErrorPayload.class)))
+    StreamingOutput getDependenciesArchive(@QueryParam("identifier") @Parameter(name = "identifier",
+            description = "The component identifier. Repeat this parameter to request more than one element.",
+            in = QUERY) String[] ids);
+
     @GET
     @Path("index")
     @Operation(operationId = "getComponentIndex",
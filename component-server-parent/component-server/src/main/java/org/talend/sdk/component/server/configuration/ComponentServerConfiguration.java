@@ -201,6 +201,35 @@ public class ComponentServerConfiguration {
     @ConfigProperty(name = "talend.component.server.plugins.reloading.marker")
     private Optional<String> pluginsReloadFileMarker;
 
+    @Inject
+    @Documentation("Number of threads executing the actions of the `/action/execute/batch` endpoint.")
+    @ConfigProperty(name = "talend.component.server.action.batch.threads", defaultValue = "16")
+    private Integer actionBatchThreads;
+
+    @Inject
+    @Documentation("Maximum number of actions of the same family the `/action/execute/batch` endpoint executes "
+            + "concurrently, the other ones are queued.")
+    @ConfigProperty(name = "talend.component.server.action.batch.family.concurrency", defaultValue = "4")
+    private Integer actionBatchFamilyConcurrency;
+
+    @Inject
+    @Documentation("Maximum number of actions of the same family queued by the `/action/execute/batch` endpoint "
+            + "(waiting for the family concurrency), next ones are rejected with a `503` result.")
+    @ConfigProperty(name = "talend.component.server.action.batch.family.queue.size", defaultValue = "64")
+    private Integer actionBatchFamilyQueueSize;
+
+    @Inject
+    @Documentation("Maximum number of actions of the `/action/execute/batch` endpoint waiting for a thread, "
+            + "next ones are rejected with a `503` result.")
+    @ConfigProperty(name = "talend.component.server.action.batch.queue.size", defaultValue = "256")
+    private Integer actionBatchQueueSize;
+
+    @Inject
+    @Documentation("Timeout in milliseconds of an action of the `/action/execute/batch` endpoint (queuing included), "
+            + "after this delay the action result is a `504` error.")
+    @ConfigProperty(name = "talend.component.server.action.batch.timeout", defaultValue = "30000")
+    private Long actionBatchTimeout;
+
     @PostConstruct
     private void init() {
         if (logRequests != null && logRequests) {
@@ -27,16 +27,28 @@ public class ConfigurationDao {
 
     private Map<String, Config> data = new ConcurrentHashMap<>();
 
+    private Map<String, String> plugins = new ConcurrentHashMap<>();
+
     public String createOrUpdate(final Config meta) {
         data.put(meta.getId(), meta);
         return meta.getId();
     }
 
+    public String createOrUpdate(final String plugin, final Config meta) {
+        plugins.put(meta.getId(), plugin);
+        return createOrUpdate(meta);
+    }
+
     public Config findById(final String id) {
         return data.get(id);
     }
 
+    public String findPluginById(final String id) {
+        return plugins.get(id);
+    }
+
     public void removeById(final String id) {
         data.remove(id);
+        plugins.remove(id);
     }
 }
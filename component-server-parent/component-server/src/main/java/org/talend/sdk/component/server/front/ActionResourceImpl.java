@@ -21,14 +21,21 @@ import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 
+import java.io.StringReader;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -36,6 +43,10 @@ import javax.cache.annotation.CacheDefaults;
 import javax.cache.annotation.CacheResult;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
+import javax.json.Json;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import javax.json.bind.Jsonb;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
@@ -48,17 +59,22 @@ import org.talend.sdk.component.runtime.manager.ServiceMeta;
 import org.talend.sdk.component.server.api.ActionResource;
 import org.talend.sdk.component.server.dao.ComponentActionDao;
 import org.talend.sdk.component.server.extension.api.action.Action;
+import org.talend.sdk.component.server.front.model.ActionBatchRequests;
+import org.talend.sdk.component.server.front.model.ActionBatchResponses;
 import org.talend.sdk.component.server.front.model.ActionItem;
 import org.talend.sdk.component.server.front.model.ActionList;
 import org.talend.sdk.component.server.front.model.ErrorDictionary;
 import org.talend.sdk.component.server.front.model.error.ErrorPayload;
 import org.talend.sdk.component.server.front.security.SecurityUtils;
+import org.talend.sdk.component.server.service.ActionBatchExecutor;
+import org.talend.sdk.component.server.service.ComponentManagerService;
 import org.talend.sdk.component.server.service.ExtensionComponentMetadataManager;
 import org.talend.sdk.component.server.service.LocaleMapper;
 import org.talend.sdk.component.server.service.PropertiesService;
 import org.talend.sdk.component.server.service.httpurlconnection.IgnoreNetAuthenticator;
 import org.talend.sdk.component.server.service.jcache.FrontCacheKeyGenerator;
 import org.talend.sdk.component.server.service.jcache.FrontCacheResolver;
+import org.talend.sdk.component.server.service.qualifier.ComponentServer;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -90,13 +106,51 @@ public class ActionResourceImpl implements ActionResource {
     @Inject
     private SecurityUtils secUtils;
 
+    @Inject
+    private ActionBatchExecutor batchExecutor;
+
+    @Inject
+    private ComponentManagerService componentManagerService;
+
+    @Inject
+    @ComponentServer
+    private Jsonb jsonb;
+
     @Override
     public CompletionStage<Response> execute(final String family, final String type, final String action,
             final String lang, final Map<String, String> params) {
-        return virtualActions
-                .getAction(family, type, action)
-                .map(it -> it.getHandler().apply(params, lang).exceptionally(this::onError))
-                .orElseGet(() -> doExecuteLocalAction(family, type, action, lang, params));
+        return doExecute(family, type, action, lang, params, readTenant());
+    }
+
+    @Override
+    public CompletionStage<ActionBatchResponses> executeBatch(final ActionBatchRequests requests) {
+        // request context is not available in the executor threads, tenant and locale are propagated
+        final String tenant = readTenant();
+        final List<ActionBatchRequests.Request> actions =
+                ofNullable(requests).map(ActionBatchRequests::getRequests).orElseGet(Collections::emptyList);
+        final List<ActionBatchResponses.Result> results = new ArrayList<>(actions.size());
+        final CompletableFuture<?>[] executions = new CompletableFuture<?>[actions.size()];
+        for (int i = 0; i < executions.length; i++) {
+            final int index = i;
+            final ActionBatchRequests.Request request = actions.get(i);
+            final String lang = ofNullable(request.getLang()).orElse("en");
+            final Locale locale = localeMapper.mapLocale(lang);
+            executions[i] = batchExecutor
+                    .execute(request.getFamily(), () -> componentManagerService
+                            .withLocale(locale, () -> doExecute(request.getFamily(), request.getType(),
+                                    request.getAction(), lang, request.getParams(), tenant)))
+                    .handle((response, error) -> toBatchResult(index, response, error))
+                    .thenAccept(result -> {
+                        synchronized (results) { // completion order
+                            results.add(result);
+                        }
+                    });
+        }
+        return CompletableFuture.allOf(executions).thenApply(ignored -> {
+            synchronized (results) {
+                return new ActionBatchResponses(new ArrayList<>(results));
+            }
+        });
     }
 
     @Override
@@ -127,8 +181,60 @@ public class ActionResourceImpl implements ActionResource {
                 .collect(toList()));
     }
 
+    private CompletionStage<Response> doExecute(final String family, final String type, final String action,
+            final String lang, final Map<String, String> params, final String tenant) {
+        return virtualActions
+                .getAction(family, type, action)
+                .map(it -> it.getHandler().apply(params, lang).exceptionally(this::onError))
+                .orElseGet(() -> doExecuteLocalAction(family, type, action, lang, params, tenant));
+    }
+
+    private String readTenant() {
+        try {
+            return headers.getHeaderString("x-talend-tenant-id");
+        } catch (Exception e) {
+            log.debug("[readTenant] context not applicable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private ActionBatchResponses.Result toBatchResult(final int index, final Response response,
+            final Throwable error) {
+        if (error == null) {
+            return new ActionBatchResponses.Result(index, response.getStatus(), toJson(response.getEntity()));
+        }
+        final Throwable cause = CompletionException.class.isInstance(error) && error.getCause() != null
+                ? error.getCause()
+                : error;
+        if (WebApplicationException.class.isInstance(cause)) {
+            final Response errorResponse = WebApplicationException.class.cast(cause).getResponse();
+            return new ActionBatchResponses.Result(index, errorResponse.getStatus(),
+                    toJson(errorResponse.getEntity()));
+        }
+        if (TimeoutException.class.isInstance(cause)) {
+            return new ActionBatchResponses.Result(index, Response.Status.GATEWAY_TIMEOUT.getStatusCode(),
+                    toJson(new ErrorPayload(ErrorDictionary.ACTION_ERROR, cause.getMessage())));
+        }
+        if (RejectedExecutionException.class.isInstance(cause)) {
+            return new ActionBatchResponses.Result(index, Response.Status.SERVICE_UNAVAILABLE.getStatusCode(),
+                    toJson(new ErrorPayload(ErrorDictionary.ACTION_ERROR, cause.getMessage())));
+        }
+        log.warn(cause.getMessage(), cause);
+        return new ActionBatchResponses.Result(index, Response.Status.INTERNAL_SERVER_ERROR.getStatusCode(),
+                toJson(new ErrorPayload(ErrorDictionary.UNEXPECTED, cause.getMessage())));
+    }
+
+    private JsonValue toJson(final Object entity) {
+        if (entity == null) {
+            return JsonValue.NULL;
+        }
+        try (final JsonReader reader = Json.createReader(new StringReader(jsonb.toJson(entity)))) {
+            return reader.readValue();
+        }
+    }
+
     private CompletableFuture<Response> doExecuteLocalAction(final String family, final String type,
-            final String action, final String lang, final Map<String, String> params) {
+            final String action, final String lang, final Map<String, String> params, final String tenant) {
         return CompletableFuture.supplyAsync(() -> {
             if (action == null) {
                 throw new WebApplicationException(Response
@@ -158,13 +264,6 @@ public class ActionResourceImpl implements ActionResource {
             try {
                 final Map<String, String> runtimeParams = ofNullable(params).map(HashMap::new).orElseGet(HashMap::new);
                 runtimeParams.put("$lang", localeMapper.mapLocale(lang).getLanguage());
-                String tenant;
-                try {
-                    tenant = headers.getHeaderString("x-talend-tenant-id");
-                } catch (Exception e) {
-                    log.debug("[doExecuteLocalAction] context not applicable: {}", e.getMessage());
-                    tenant = null;
-                }
                 final Map<String, String> deciphered = secUtils.decrypt(actionMeta.getParameters()
                         .get(), runtimeParams, tenant);
                 final Object result = actionMeta.getInvoker().apply(deciphered);
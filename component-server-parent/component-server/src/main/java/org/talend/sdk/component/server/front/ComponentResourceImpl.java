@@ -28,8 +28,6 @@ import static org.talend.sdk.component.server.front.model.ErrorDictionary.COMPON
 import static org.talend.sdk.component.server.front.model.ErrorDictionary.DESIGN_MODEL_MISSING;
 import static org.talend.sdk.component.server.front.model.ErrorDictionary.PLUGIN_MISSING;
 
-import java.io.BufferedInputStream;
-import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -41,6 +39,7 @@ import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -109,6 +108,7 @@ import org.talend.sdk.component.server.front.security.SecurityUtils;
 import org.talend.sdk.component.server.lang.MapCache;
 import org.talend.sdk.component.server.service.ActionsService;
 import org.talend.sdk.component.server.service.ComponentManagerService;
+import org.talend.sdk.component.server.service.DependencyDownloadService;
 import org.talend.sdk.component.server.service.ExtensionComponentMetadataManager;
 import org.talend.sdk.component.server.service.IconResolver;
 import org.talend.sdk.component.server.service.LocaleMapper;
@@ -183,6 +183,9 @@ public class ComponentResourceImpl implements ComponentResource {
     @Inject
     private VirtualDependenciesService virtualDependenciesService;
 
+    @Inject
+    private DependencyDownloadService dependencyDownloadService;
+
     @Inject
     private ExtensionComponentMetadataManager virtualComponents;
 
@@ -233,6 +236,8 @@ public class ComponentResourceImpl implements ComponentResource {
 
     public void clearCache(@Observes final DeployedComponent deployedComponent) {
         indicesPerRequest.clear();
+        // re-warm the default index as in setupRuntime to not let the first request pay the rebuild
+        getIndex("en", false, null, defaultTheme);
     }
 
     @Override
@@ -267,10 +272,8 @@ public class ComponentResourceImpl implements ComponentResource {
     }
 
     @Override
-    @CacheResult
     public StreamingOutput getDependency(final String id) {
         final ComponentFamilyMeta.BaseMeta<?> component = componentDao.findById(id);
-        final Supplier<InputStream> streamProvider;
         if (component != null) { // local dep
             final Path file = componentManagerService
                     .manager()
@@ -291,46 +294,44 @@ public class ComponentResourceImpl implements ComponentResource {
             if (!Files.exists(file)) {
                 return onMissingJar(id);
             }
-            streamProvider = () -> {
-                try {
-                    return Files.newInputStream(file);
-                } catch (final IOException e) {
-                    throw new IllegalStateException(e);
-                }
-            };
-        } else { // just try to resolve it locally, note we would need to ensure some security here
-            final Artifact artifact = Artifact.from(id);
-            if (virtualDependenciesService.isVirtual(id)) {
-                streamProvider = virtualDependenciesService.retrieveArtifact(artifact);
-                if (streamProvider == null) {
-                    return onMissingJar(id);
-                }
-            } else {
-                final Path file = componentManagerService.manager().getContainer().resolve(artifact.toPath());
-                if (!Files.exists(file)) {
-                    return onMissingJar(id);
-                }
-                streamProvider = () -> {
-                    try {
-                        return Files.newInputStream(file);
-                    } catch (final IOException e) {
-                        throw new IllegalStateException(e);
-                    }
-                };
-            }
+            return dependencyDownloadService.download(file, headers);
         }
-        return output -> {
-            final byte[] buffer = new byte[40960]; // 5k
-            try (final InputStream stream = new BufferedInputStream(streamProvider.get(), buffer.length)) {
-                int count;
-                while ((count = stream.read(buffer)) >= 0) {
-                    if (count == 0) {
-                        continue;
-                    }
-                    output.write(buffer, 0, count);
-                }
+        // just try to resolve it locally, note we would need to ensure some security here
+        final DependencyDownloadService.ArchiveEntry dependency = resolveDependency(id);
+        if (dependency.getFile() != null) {
+            return dependencyDownloadService.download(dependency.getFile(), headers);
+        }
+        return dependencyDownloadService.stream(dependency.getStream());
+    }
+
+    @Override
+    public StreamingOutput getDependenciesArchive(final String[] ids) {
+        final Map<String, DependencyDownloadService.ArchiveEntry> entries = new LinkedHashMap<>();
+        getDependencies(ids)
+                .getDependencies()
+                .values()
+                .stream()
+                .flatMap(definition -> definition.getDependencies().stream())
+                .distinct()
+                .forEach(coordinate -> entries
+                        .put(Artifact.from(coordinate).toPath(), resolveDependency(coordinate)));
+        return dependencyDownloadService.archive(entries);
+    }
+
+    private DependencyDownloadService.ArchiveEntry resolveDependency(final String id) {
+        final Artifact artifact = Artifact.from(id);
+        if (virtualDependenciesService.isVirtual(id)) {
+            final Supplier<InputStream> streamProvider = virtualDependenciesService.retrieveArtifact(artifact);
+            if (streamProvider == null) {
+                return onMissingJar(id);
             }
-        };
+            return new DependencyDownloadService.ArchiveEntry(null, streamProvider);
+        }
+        final Path file = componentManagerService.manager().getContainer().resolve(artifact.toPath());
+        if (!Files.exists(file)) {
+            return onMissingJar(id);
+        }
+        return new DependencyDownloadService.ArchiveEntry(file, null);
     }
 
     @Override
@@ -842,7 +843,7 @@ public class ComponentResourceImpl implements ComponentResource {
                 .collect(toMap(Entry::getKey, Entry::getValue));
     }
 
-    private StreamingOutput onMissingJar(final String id) {
+    private <T> T onMissingJar(final String id) {
         throw new WebApplicationException(Response
                 .status(Response.Status.NOT_FOUND)
                 .type(APPLICATION_JSON_TYPE)
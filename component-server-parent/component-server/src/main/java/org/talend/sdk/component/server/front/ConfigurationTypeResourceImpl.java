@@ -133,6 +133,8 @@ public class ConfigurationTypeResourceImpl implements ConfigurationTypeResource
 
     public void clearCache(@Observes final DeployedComponent deployedComponent) {
         indicesPerRequest.clear();
+        // re-warm the default (light) index to not let the first request pay the rebuild
+        getRepositoryModel("en", true, null);
     }
 
     @Override
@@ -0,0 +1,46 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.server.front.filter.download;
+
+import javax.enterprise.context.Dependent;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+
+import org.talend.sdk.component.server.service.DependencyDownloadService;
+
+/**
+ * Applies the status and headers of a dependency download, the endpoint signature stays a plain StreamingOutput.
+ */
+@Provider
+@Dependent
+public class DependencyDownloadFilter implements ContainerResponseFilter {
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+        if (!DependencyDownloadService.Download.class.isInstance(responseContext.getEntity())) {
+            return;
+        }
+        final DependencyDownloadService.Download download =
+                DependencyDownloadService.Download.class.cast(responseContext.getEntity());
+        responseContext.setStatusInfo(download.getStatus());
+        download.getHeaders().forEach((name, value) -> responseContext.getHeaders().putSingle(name, value));
+        if (download.getBody() == null) {
+            responseContext.setEntity(null);
+        }
+    }
+}
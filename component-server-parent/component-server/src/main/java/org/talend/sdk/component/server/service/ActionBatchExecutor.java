@@ -0,0 +1,244 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.server.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.talend.sdk.component.server.configuration.ComponentServerConfiguration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes the actions of the batch endpoint out of the HTTP threads: on a bounded pool,
+ * with a maximum number of concurrent actions per family (the other ones are queued)
+ * and a timeout per action (queuing included).
+ * Both the family queues and the pool queue are bounded, an action which does not fit fails with a
+ * {@link RejectedExecutionException}.
+ * A family lane only lives while it has running or queued actions.
+ */
+@Slf4j
+@ApplicationScoped
+public class ActionBatchExecutor {
+
+    @Inject
+    private ComponentServerConfiguration configuration;
+
+    // families with running or queued actions only, the family comes from the client
+    private final ConcurrentMap<String, FamilyLane> lanes = new ConcurrentHashMap<>();
+
+    private ExecutorService executor;
+
+    private ScheduledExecutorService timeouts;
+
+    @PostConstruct
+    private void init() {
+        final int threads = configuration.getActionBatchThreads();
+        executor = new ThreadPoolExecutor(threads, threads, 0, MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, configuration.getActionBatchQueueSize())),
+                threadFactory("action"), new ThreadPoolExecutor.AbortPolicy());
+        timeouts = Executors.newSingleThreadScheduledExecutor(threadFactory("action-timeout"));
+    }
+
+    @PreDestroy
+    private void destroy() {
+        timeouts.shutdownNow();
+        executor.shutdownNow();
+        try {
+            executor.awaitTermination(10, SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param family the family of the action, used to limit the concurrency.
+     * @param action the action execution.
+     * @param <T> the action result type.
+     * @return the action result, it fails with a {@link TimeoutException} if the action is too long.
+     */
+    public <T> CompletableFuture<T> execute(final String family, final Supplier<? extends CompletionStage<T>> action) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final String key = family == null ? "" : family;
+        Execution<T> execution;
+        do { // a lane can be retired between its lookup and the submission
+            final FamilyLane lane = lanes
+                    .computeIfAbsent(key, f -> new FamilyLane(f, configuration.getActionBatchFamilyConcurrency(),
+                            configuration.getActionBatchFamilyQueueSize()));
+            execution = new Execution<>(lane, action, result);
+        } while (!execution.lane.submit(execution));
+        final ScheduledFuture<?> timeout =
+                timeouts.schedule(execution::onTimeout, configuration.getActionBatchTimeout(), MILLISECONDS);
+        result.whenComplete((value, error) -> timeout.cancel(false));
+        return result;
+    }
+
+    private ThreadFactory threadFactory(final String name) {
+        final AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            final Thread thread =
+                    new Thread(r, "talend-component-server-" + name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private final class FamilyLane {
+
+        private final String family;
+
+        private final int concurrency;
+
+        private final int maxPending;
+
+        private final Queue<Execution<?>> pending = new ArrayDeque<>();
+
+        private int running;
+
+        private boolean retired;
+
+        private FamilyLane(final String family, final int concurrency, final int maxPending) {
+            this.family = family;
+            this.concurrency = Math.max(1, concurrency);
+            this.maxPending = maxPending;
+        }
+
+        /**
+         * @return false if the lane was retired and can't accept the execution.
+         */
+        private boolean submit(final Execution<?> execution) {
+            synchronized (this) {
+                if (retired) {
+                    return false;
+                }
+                if (running >= concurrency) {
+                    if (pending.size() >= maxPending) {
+                        execution.result
+                                .completeExceptionally(new RejectedExecutionException(
+                                        "Too many queued actions for family '" + family + "'"));
+                    } else {
+                        pending.add(execution);
+                    }
+                    return true;
+                }
+                running++;
+            }
+            start(execution);
+            return true;
+        }
+
+        private void start(final Execution<?> execution) {
+            try {
+                executor.execute(execution);
+            } catch (final RejectedExecutionException ree) { // pool queue full or shutting down
+                execution.result.completeExceptionally(ree);
+                release();
+            }
+        }
+
+        private void release() {
+            final Execution<?> next;
+            synchronized (this) {
+                next = pending.poll();
+                if (next == null) {
+                    running--;
+                    if (running == 0) { // idle, don't keep a lane per family ever seen
+                        retired = true;
+                        lanes.remove(family, this);
+                    }
+                    return;
+                }
+            }
+            start(next);
+        }
+    }
+
+    private static final class Execution<T> implements Runnable {
+
+        private final FamilyLane lane;
+
+        private final Supplier<? extends CompletionStage<T>> action;
+
+        private final CompletableFuture<T> result;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Execution(final FamilyLane lane, final Supplier<? extends CompletionStage<T>> action,
+                final CompletableFuture<T> result) {
+            this.lane = lane;
+            this.action = action;
+            this.result = result;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) { // timed out while queued
+                release();
+                return;
+            }
+            try {
+                action.get().whenComplete((value, error) -> {
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(value);
+                    }
+                    release();
+                });
+            } catch (final RuntimeException | Error e) {
+                result.completeExceptionally(e);
+                release();
+            }
+        }
+
+        // the action keeps its slot until it really finishes, a queued one releases it as soon as it is started
+        private void onTimeout() {
+            if (result.completeExceptionally(new TimeoutException("Action execution timed out"))) {
+                log.warn("An action timed out, its result will be ignored");
+            }
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                lane.release();
+            }
+        }
+    }
+}
@@ -123,12 +123,17 @@ public class ComponentManagerService {
 
     private boolean started;
 
+    private volatile boolean reloading;
+
     private Path m2;
 
     private Long latestPluginUpdate;
 
     private ScheduledExecutorService scheduledExecutorService;
 
+    // locale of the actions executed out of the request threads where uriInfo is not usable
+    private final ThreadLocal<Locale> executionLocale = new ThreadLocal<>();
+
     @Inject
     private FrontCacheResolver cacheResolver;
 
@@ -201,7 +206,33 @@ public class ComponentManagerService {
         }
     }
 
+    /**
+     * Runs a task out of a request thread with the locale of its request.
+     *
+     * @param locale the locale the component manager must use.
+     * @param task the task to execute.
+     * @param <T> the task result type.
+     * @return the task result.
+     */
+    public <T> T withLocale(final Locale locale, final Supplier<T> task) {
+        final Locale old = executionLocale.get();
+        executionLocale.set(locale);
+        try {
+            return task.get();
+        } finally {
+            if (old == null) {
+                executionLocale.remove();
+            } else {
+                executionLocale.set(old);
+            }
+        }
+    }
+
     private Locale readCurrentLocale() {
+        final Locale locale = executionLocale.get();
+        if (locale != null) {
+            return locale;
+        }
         try {
             return ofNullable(uriInfo.getQueryParameters().getFirst("lang"))
                     .map(localeMapper::mapLocale)
@@ -238,13 +269,21 @@ public class ComponentManagerService {
         // undeploy plugins
         log.info("Un-deploying plugins...");
         manager().getContainer().findAll().forEach(container -> container.close());
-        // redeploy plugins
+        // redeploy plugins, the front is refreshed once for all of them
         log.info("Re-deploying plugins...");
-        deployPlugins();
+        reloading = true;
+        try {
+            deployPlugins();
+        } finally {
+            reloading = false;
+        }
         log.info("Plugins deployed.");
         // reset connectors' version
         synchronizeConnectors();
         // reset caches
+        if (started) {
+            deployedComponentEvent.fire(new DeployedComponent(null));
+        }
         cacheResolver.clearCaches();
 
         return null;
@@ -333,8 +372,8 @@ public class ComponentManagerService {
                 instance.addWithLocationPlugin(pluginGAV, m2.resolve(pluginPath).toAbsolutePath().toString());
         lastUpdated = new Date();
         synchronizeConnectors();
-        if (started) {
-            deployedComponentEvent.fire(new DeployedComponent());
+        if (started && !reloading) {
+            onDeploymentChange(plugin);
         }
         return plugin;
     }
@@ -353,6 +392,15 @@ public class ComponentManagerService {
         instance.removePlugin(pluginID);
         lastUpdated = new Date();
         synchronizeConnectors();
+        if (started) {
+            onDeploymentChange(pluginID);
+        }
+    }
+
+    // observers rebuild their indices first so the evicted entries can't be recomputed from stale ones
+    private void onDeploymentChange(final String plugin) {
+        deployedComponentEvent.fire(new DeployedComponent(plugin));
+        cacheResolver.evictCaches(plugin);
     }
 
     public Date findLastUpdated() {
@@ -428,7 +476,7 @@ public class ComponentManagerService {
                             .collect(toList()))
                     .orElse(emptyList())
                     .stream()
-                    .map(configurationDao::createOrUpdate)
+                    .map(config -> configurationDao.createOrUpdate(plugin.getId(), config))
                     .collect(toList());
 
             return () -> {
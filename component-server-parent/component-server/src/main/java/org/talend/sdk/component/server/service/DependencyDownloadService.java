@@ -0,0 +1,315 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.server.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves the dependency binaries: the files are sent with {@link FileChannel#transferTo(long, long,
+ * WritableByteChannel)} (no intermediate buffer loop), with a strong ETag (artifact SHA-1, read from the maven
+ * {@code .sha1} file when there is one) for conditional requests and with single byte range support.
+ * The endpoint keeps returning a {@link StreamingOutput}, the status and headers of a {@link Download} are applied by
+ * {@link org.talend.sdk.component.server.front.filter.download.DependencyDownloadFilter}.
+ */
+@ApplicationScoped
+public class DependencyDownloadService {
+
+    private final ConcurrentMap<Path, Checksum> checksums = new ConcurrentHashMap<>();
+
+    /**
+     * @param file the dependency to send.
+     * @param headers the request headers ({@code If-None-Match} and {@code Range} are used).
+     * @return the download of this dependency: {@code 200}, {@code 206}, {@code 304} or {@code 416}.
+     */
+    public Download download(final Path file, final HttpHeaders headers) {
+        final long length;
+        final EntityTag tag;
+        try {
+            length = Files.size(file);
+            tag = new EntityTag(checksum(file));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final Map<String, Object> responseHeaders = new LinkedHashMap<>();
+        responseHeaders.put(HttpHeaders.ETAG, tag);
+        if (matches(header(headers, HttpHeaders.IF_NONE_MATCH), tag)) {
+            return new Download(Response.Status.NOT_MODIFIED, responseHeaders, null);
+        }
+
+        final long[] range = parseRange(header(headers, "Range"), length);
+        if (range == null) {
+            responseHeaders.put("Accept-Ranges", "bytes");
+            responseHeaders.put(HttpHeaders.CONTENT_LENGTH, length);
+            return new Download(Response.Status.OK, responseHeaders, transfer(file, 0, length));
+        }
+        if (range.length == 0) {
+            responseHeaders.put("Content-Range", "bytes */" + length);
+            return new Download(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE, responseHeaders, null);
+        }
+        final long count = range[1] - range[0] + 1;
+        responseHeaders.put("Accept-Ranges", "bytes");
+        responseHeaders.put("Content-Range", "bytes " + range[0] + '-' + range[1] + '/' + length);
+        responseHeaders.put(HttpHeaders.CONTENT_LENGTH, count);
+        return new Download(Response.Status.PARTIAL_CONTENT, responseHeaders, transfer(file, range[0], count));
+    }
+
+    /**
+     * @param entries the archive entries (name to content), files are transferred as in {@link #download}.
+     * @return a zip of the entries, they are not compressed since they are already jars.
+     */
+    public StreamingOutput archive(final Map<String, ArchiveEntry> entries) {
+        return output -> {
+            final ZipOutputStream zip = new ZipOutputStream(output);
+            zip.setLevel(Deflater.NO_COMPRESSION);
+            final WritableByteChannel channel = Channels.newChannel(zip);
+            for (final Map.Entry<String, ArchiveEntry> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                final ArchiveEntry content = entry.getValue();
+                if (content.getFile() != null) {
+                    try (final FileChannel source = FileChannel.open(content.getFile(), READ)) {
+                        transferFully(source, 0, source.size(), channel);
+                    }
+                } else {
+                    try (final InputStream stream = content.getStream().get()) {
+                        copy(stream, zip);
+                    }
+                }
+                zip.closeEntry();
+            }
+            zip.finish();
+            zip.flush();
+        };
+    }
+
+    /**
+     * @param stream the binary provider.
+     * @return a streaming output copying the stream, used when the dependency is not a file.
+     */
+    public StreamingOutput stream(final Supplier<InputStream> stream) {
+        return output -> {
+            try (final InputStream in = stream.get()) {
+                copy(in, output);
+            }
+        };
+    }
+
+    private StreamingOutput transfer(final Path file, final long position, final long count) {
+        return output -> {
+            try (final FileChannel source = FileChannel.open(file, READ)) {
+                transferFully(source, position, count, Channels.newChannel(output));
+            }
+        };
+    }
+
+    private void transferFully(final FileChannel source, final long position, final long count,
+            final WritableByteChannel target) throws IOException {
+        long current = position;
+        final long end = position + count;
+        while (current < end) {
+            final long transferred = source.transferTo(current, end - current, target);
+            if (transferred <= 0) { // file truncated meanwhile
+                break;
+            }
+            current += transferred;
+        }
+    }
+
+    private void copy(final InputStream in, final OutputStream out) throws IOException {
+        final byte[] buffer = new byte[40960];
+        int count;
+        while ((count = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, count);
+        }
+    }
+
+    // the resource can be called out of a request (static generation), then there is no header
+    private String header(final HttpHeaders headers, final String name) {
+        try {
+            return headers.getHeaderString(name);
+        } catch (final RuntimeException e) {
+            return null;
+        }
+    }
+
+    private boolean matches(final String ifNoneMatch, final EntityTag tag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Stream.of(ifNoneMatch.split(",")).map(String::trim).anyMatch(it -> {
+            if ("*".equals(it)) {
+                return true;
+            }
+            final String value = it.startsWith("W/") ? it.substring(2) : it;
+            return value.equals('"' + tag.getValue() + '"');
+        });
+    }
+
+    // null: no (supported) range, empty: not satisfiable, else [first, last]
+    private long[] parseRange(final String range, final long length) {
+        if (range == null || !range.startsWith("bytes=") || range.indexOf(',') >= 0) {
+            return null; // multiple ranges are served as a full response
+        }
+        final String spec = range.substring("bytes=".length()).trim();
+        final int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            final long first;
+            final long last;
+            if (dash == 0) { // suffix
+                final long suffix = Long.parseLong(spec.substring(1));
+                if (suffix <= 0) {
+                    return new long[0];
+                }
+                first = Math.max(0, length - suffix);
+                last = length - 1;
+            } else {
+                first = Long.parseLong(spec.substring(0, dash));
+                last = dash == spec.length() - 1 ? length - 1
+                        : Math.min(length - 1, Long.parseLong(spec.substring(dash + 1)));
+            }
+            if (first >= length || first > last) {
+                return new long[0];
+            }
+            return new long[] { first, last };
+        } catch (final NumberFormatException nfe) {
+            return null;
+        }
+    }
+
+    // cached while the file is unchanged, the artifacts are immutable in practise
+    private String checksum(final Path file) throws IOException {
+        final long size = Files.size(file);
+        final long lastModified = Files.getLastModifiedTime(file).toMillis();
+        final Checksum cached = checksums.get(file);
+        if (cached != null && cached.getSize() == size && cached.getLastModified() == lastModified) {
+            return cached.getValue();
+        }
+        final String value = computeChecksum(file);
+        checksums.put(file, new Checksum(size, lastModified, value));
+        return value;
+    }
+
+    private String computeChecksum(final Path file) throws IOException {
+        final Path sha1 = file.resolveSibling(file.getFileName() + ".sha1");
+        if (Files.isRegularFile(sha1)) {
+            final String value = new String(Files.readAllBytes(sha1), UTF_8).trim();
+            final int space = value.indexOf(' '); // some tools append the file name
+            final String hash = space > 0 ? value.substring(0, space) : value;
+            if (hash.matches("[0-9a-fA-F]{40}")) {
+                return hash.toLowerCase(Locale.ROOT);
+            }
+        }
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-1");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (final FileChannel channel = FileChannel.open(file, READ)) {
+            final long size = channel.size();
+            long position = 0;
+            while (position < size) { // mapped by chunks to not read the file through the heap
+                final long chunk = Math.min(Integer.MAX_VALUE, size - position);
+                final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, chunk);
+                digest.update(buffer);
+                position += chunk;
+            }
+        }
+        final StringBuilder hex = new StringBuilder(40);
+        for (final byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * A dependency body with the status and headers of its response, a caller out of a request only gets the body.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Download implements StreamingOutput {
+
+        private final Response.Status status;
+
+        private final Map<String, Object> headers;
+
+        // null when there is no body (304, 416)
+        private final StreamingOutput body;
+
+        @Override
+        public void write(final OutputStream output) throws IOException {
+            if (body != null) {
+                body.write(output);
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class ArchiveEntry {
+
+        private final Path file;
+
+        private final Supplier<InputStream> stream;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Checksum {
+
+        private final long size;
+
+        private final long lastModified;
+
+        private final String value;
+    }
+}
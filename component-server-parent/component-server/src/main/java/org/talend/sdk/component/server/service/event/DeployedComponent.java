@@ -19,4 +19,9 @@ import lombok.Data;
 
 @Data
 public class DeployedComponent {
+
+    /**
+     * The identifier of the deployed (or undeployed) plugin, {@code null} when all plugins were reloaded.
+     */
+    private final String plugin;
 }
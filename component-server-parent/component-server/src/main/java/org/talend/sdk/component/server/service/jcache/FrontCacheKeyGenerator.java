@@ -15,8 +15,12 @@
  */
 package org.talend.sdk.component.server.service.jcache;
 
+import static java.util.stream.Collectors.toSet;
+
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import javax.cache.annotation.CacheInvocationParameter;
@@ -30,8 +34,18 @@ import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.UriInfo;
 
+import org.talend.sdk.component.runtime.manager.ComponentFamilyMeta;
+import org.talend.sdk.component.server.dao.ComponentDao;
+import org.talend.sdk.component.server.dao.ComponentFamilyDao;
+import org.talend.sdk.component.server.dao.ConfigurationDao;
+
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Generates the front cache keys, they are tagged with the plugins owning the identifiers they are computed from
+ * (component, family or configuration type ids) so a deployment only evicts its own entries.
+ * The entries not referencing any plugin (indices for instance) are evicted by any deployment.
+ */
 @Slf4j
 @ApplicationScoped
 public class FrontCacheKeyGenerator implements CacheKeyGenerator {
@@ -48,13 +62,48 @@ public class FrontCacheKeyGenerator implements CacheKeyGenerator {
     @Context
     private HttpHeaders headers;
 
+    @Inject
+    private ComponentDao componentDao;
+
+    @Inject
+    private ComponentFamilyDao componentFamilyDao;
+
+    @Inject
+    private ConfigurationDao configurationDao;
+
     @Override
     public GeneratedCacheKey
             generateCacheKey(final CacheKeyInvocationContext<? extends Annotation> cacheKeyInvocationContext) {
-        return new GeneratedCacheKeyImpl(Stream
-                .concat(Stream.of(cacheKeyInvocationContext.getKeyParameters()).map(CacheInvocationParameter::getValue),
-                        getContextualKeys())
-                .toArray(Object[]::new));
+        final Object[] parameters = Stream
+                .of(cacheKeyInvocationContext.getKeyParameters())
+                .map(CacheInvocationParameter::getValue)
+                .toArray(Object[]::new);
+        return new GeneratedCacheKeyImpl(
+                Stream.concat(Stream.of(parameters), getContextualKeys()).toArray(Object[]::new),
+                findPlugins(parameters));
+    }
+
+    private Set<String> findPlugins(final Object[] parameters) {
+        return Stream
+                .of(parameters)
+                .flatMap(it -> String[].class.isInstance(it) ? Stream.of(String[].class.cast(it))
+                        : (String.class.isInstance(it) ? Stream.of(String.class.cast(it)) : Stream.empty()))
+                .filter(Objects::nonNull)
+                .map(this::findPlugin)
+                .filter(Objects::nonNull)
+                .collect(toSet());
+    }
+
+    private String findPlugin(final String id) {
+        final ComponentFamilyMeta.BaseMeta<?> component = componentDao.findById(id);
+        if (component != null) {
+            return component.getParent().getPlugin();
+        }
+        final ComponentFamilyMeta family = componentFamilyDao.findById(id);
+        if (family != null) {
+            return family.getPlugin();
+        }
+        return configurationDao.findPluginById(id);
     }
 
     private Stream<Object> getContextualKeys() {
@@ -69,15 +118,27 @@ public class FrontCacheKeyGenerator implements CacheKeyGenerator {
         }
     }
 
-    private static class GeneratedCacheKeyImpl implements GeneratedCacheKey {
+    static class GeneratedCacheKeyImpl implements GeneratedCacheKey {
 
         private final Object[] params;
 
         private final int hash;
 
-        private GeneratedCacheKeyImpl(final Object[] parameters) {
+        // not part of the identity, only used for the eviction
+        private final Set<String> plugins;
+
+        GeneratedCacheKeyImpl(final Object[] parameters, final Set<String> plugins) {
             params = parameters;
             hash = Arrays.deepHashCode(parameters);
+            this.plugins = plugins;
+        }
+
+        /**
+         * @param plugin the (un)deployed plugin.
+         * @return true if the entry can depend on this plugin.
+         */
+        boolean isEvictedBy(final String plugin) {
+            return plugins.isEmpty() || plugins.contains(plugin);
         }
 
         @Override
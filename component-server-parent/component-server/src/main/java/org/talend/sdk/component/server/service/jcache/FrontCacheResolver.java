@@ -18,7 +18,10 @@ package org.talend.sdk.component.server.service.jcache;
 import static java.util.Optional.ofNullable;
 
 import java.lang.annotation.Annotation;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import javax.annotation.PostConstruct;
@@ -117,13 +120,39 @@ public class FrontCacheResolver implements CacheResolverFactory {
     }
 
     public void clearCaches() {
-        StreamSupport
-                .stream(cacheManager.getCacheNames().spliterator(), false)
-                .filter(name -> name.startsWith("org.talend.sdk.component.server.front."))
+        findFrontCacheNames()
                 .peek(c -> log.info("[clearCaches] clear cache {}.", c))
                 .forEach(r -> cacheManager.getCache(r).clear());
     }
 
+    /**
+     * Evicts the entries which can depend on a plugin, i.e. tagged with this plugin or not tagged at all
+     * (see {@link FrontCacheKeyGenerator}), the entries of the other plugins are kept.
+     *
+     * @param plugin the deployed or undeployed plugin.
+     */
+    public void evictCaches(final String plugin) {
+        findFrontCacheNames().forEach(name -> {
+            final Cache<Object, Object> cache = cacheManager.getCache(name);
+            final Set<Object> keys = new HashSet<>();
+            cache.forEach(entry -> {
+                final Object key = entry.getKey();
+                if (!FrontCacheKeyGenerator.GeneratedCacheKeyImpl.class.isInstance(key)
+                        || FrontCacheKeyGenerator.GeneratedCacheKeyImpl.class.cast(key).isEvictedBy(plugin)) {
+                    keys.add(key);
+                }
+            });
+            log.debug("[evictCaches] evicting {} entries of {} for plugin {}.", keys.size(), name, plugin);
+            cache.removeAll(keys);
+        });
+    }
+
+    private Stream<String> findFrontCacheNames() {
+        return StreamSupport
+                .stream(cacheManager.getCacheNames().spliterator(), false)
+                .filter(name -> name.startsWith("org.talend.sdk.component.server.front."));
+    }
+
     @Override
     public CacheResolver getCacheResolver(final CacheMethodDetails<? extends Annotation> cacheMethodDetails) {
         return findCacheResolver(cacheMethodDetails.getCacheName());
@@ -15,7 +15,11 @@
  */
 package org.talend.sdk.component.server.front;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -49,6 +53,8 @@ import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.api.service.healthcheck.HealthCheckStatus;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+import org.talend.sdk.component.server.front.model.ActionBatchRequests;
+import org.talend.sdk.component.server.front.model.ActionBatchResponses;
 import org.talend.sdk.component.server.front.model.ActionItem;
 import org.talend.sdk.component.server.front.model.ActionList;
 import org.talend.sdk.component.server.front.model.ErrorDictionary;
@@ -278,6 +284,33 @@ class ActionResourceImplTest {
         assertEquals(HealthCheckStatus.Status.OK, error.readEntity(HealthCheckStatus.class).getStatus());
     }
 
+    @Test
+    void executeBatch() {
+        final ActionBatchResponses responses = base
+                .path("action/execute/batch")
+                .request(APPLICATION_JSON_TYPE)
+                .post(Entity.entity(new ActionBatchRequests(asList(
+                        new ActionBatchRequests.Request("chain", "healthcheck", "default", null,
+                                singletonMap("dataSet.urls[0]", "empty")),
+                        new ActionBatchRequests.Request("chain", "healthcheck", "default", null, emptyMap()),
+                        new ActionBatchRequests.Request("chain", "healthcheck", "missing", null, emptyMap()),
+                        new ActionBatchRequests.Request("chain", "healthcheck", "langtest", "fr", emptyMap()))),
+                        APPLICATION_JSON_TYPE), ActionBatchResponses.class);
+        assertEquals(4, responses.getResponses().size());
+        final Map<Integer, ActionBatchResponses.Result> byIndex = responses
+                .getResponses()
+                .stream()
+                .collect(toMap(ActionBatchResponses.Result::getIndex, identity()));
+        assertEquals(200, byIndex.get(0).getStatus());
+        assertEquals("OK", byIndex.get(0).getResponse().asJsonObject().getString("status"));
+        assertEquals(520, byIndex.get(1).getStatus());
+        assertEquals(ErrorDictionary.ACTION_ERROR.name(),
+                byIndex.get(1).getResponse().asJsonObject().getString("code"));
+        assertEquals(404, byIndex.get(2).getStatus());
+        assertEquals(200, byIndex.get(3).getStatus());
+        assertEquals("fr", byIndex.get(3).getResponse().asJsonObject().getString("comment"));
+    }
+
     @Test
     void checkLangIsAvailable() {
         final Response error = base
@@ -20,6 +20,7 @@ import static javax.ws.rs.client.Entity.entity;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static javax.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE;
 import static javax.ws.rs.core.MediaType.APPLICATION_SVG_XML_TYPE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -38,6 +39,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Comparator;
@@ -50,6 +52,8 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.jar.JarFile;
 import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import javax.inject.Inject;
 import javax.ws.rs.NotFoundException;
@@ -143,6 +147,50 @@ class ComponentResourceImplTest {
         jarValidator.accept(component);
     }
 
+    @Test
+    void getDependencyConditionalAndRange() {
+        final WebTarget target =
+                base.path("component/dependency/{id}").resolveTemplate("id", "org.apache.tomee:ziplock:jar:8.0.14");
+
+        final Response full = target.request(APPLICATION_OCTET_STREAM_TYPE).get();
+        assertEquals(200, full.getStatus());
+        assertEquals("bytes", full.getHeaderString("Accept-Ranges"));
+        final String etag = full.getHeaderString("ETag");
+        assertNotNull(etag);
+        final byte[] content = full.readEntity(byte[].class);
+
+        final Response notModified = target.request(APPLICATION_OCTET_STREAM_TYPE).header("If-None-Match", etag).get();
+        assertEquals(304, notModified.getStatus());
+
+        final Response partial = target.request(APPLICATION_OCTET_STREAM_TYPE).header("Range", "bytes=2-9").get();
+        assertEquals(206, partial.getStatus());
+        assertEquals("bytes 2-9/" + content.length, partial.getHeaderString("Content-Range"));
+        assertArrayEquals(Arrays.copyOfRange(content, 2, 10), partial.readEntity(byte[].class));
+
+        final Response unsatisfiable = target
+                .request(APPLICATION_OCTET_STREAM_TYPE)
+                .header("Range", "bytes=" + content.length + "-")
+                .get();
+        assertEquals(416, unsatisfiable.getStatus());
+    }
+
+    @Test
+    void getDependenciesArchive() throws IOException {
+        final InputStream archive = base
+                .path("component/dependencies/archive")
+                .queryParam("identifier", client.getJdbcId())
+                .request("application/zip")
+                .get(InputStream.class);
+        final Collection<String> entries = new ArrayList<>();
+        try (final ZipInputStream zip = new ZipInputStream(archive)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.add(entry.getName());
+            }
+        }
+        assertEquals(singletonList("org/apache/tomee/ziplock/8.0.14/ziplock-8.0.14.jar"), entries);
+    }
+
     @RepeatedTest(2) // this also checks the cache and queries usage
     void getIndex() {
         assertIndex(client.fetchIndex());
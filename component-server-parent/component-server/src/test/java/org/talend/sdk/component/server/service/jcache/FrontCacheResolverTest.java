@@ -0,0 +1,64 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.server.service.jcache;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.MutableConfiguration;
+import javax.inject.Inject;
+
+import org.apache.meecrowave.junit5.MonoMeecrowaveConfig;
+import org.junit.jupiter.api.Test;
+
+@MonoMeecrowaveConfig
+class FrontCacheResolverTest {
+
+    @Inject
+    private FrontCacheResolver resolver;
+
+    @Inject
+    private CacheManager cacheManager;
+
+    @Test
+    void evictOnlyThePluginEntries() {
+        final String name = "org.talend.sdk.component.server.front.FrontCacheResolverTest";
+        final Cache<Object, Object> cache = cacheManager.createCache(name, new MutableConfiguration<>());
+        try {
+            final FrontCacheKeyGenerator.GeneratedCacheKeyImpl a =
+                    new FrontCacheKeyGenerator.GeneratedCacheKeyImpl(new Object[] { "a" }, singleton("plugin-a"));
+            final FrontCacheKeyGenerator.GeneratedCacheKeyImpl b =
+                    new FrontCacheKeyGenerator.GeneratedCacheKeyImpl(new Object[] { "b" }, singleton("plugin-b"));
+            final FrontCacheKeyGenerator.GeneratedCacheKeyImpl index =
+                    new FrontCacheKeyGenerator.GeneratedCacheKeyImpl(new Object[] { "index" }, emptySet());
+            cache.put(a, "a");
+            cache.put(b, "b");
+            cache.put(index, "index");
+
+            resolver.evictCaches("plugin-a"); // what a (un)deployment of plugin-a does
+
+            assertFalse(cache.containsKey(a));
+            assertFalse(cache.containsKey(index));
+            assertTrue(cache.containsKey(b));
+        } finally {
+            cacheManager.destroyCache(name);
+        }
+    }
+}
@@ -19,8 +19,12 @@ import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
 import static lombok.AccessLevel.PRIVATE;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.apache.beam.sdk.coders.Coder;
@@ -43,6 +47,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = PRIVATE)
 public final class InMemoryQueueIO {
 
+    // records moved at once between the pipeline and the state
+    private static final int BATCH_SIZE =
+            Math.max(1, Integer.getInteger("talend.component.di.beam.queue.batchSize", 64));
+
+    // max time a record waits in an output batch when the consumer is busy
+    private static final long MAX_BATCH_DELAY = TimeUnit.MILLISECONDS
+            .toNanos(Long.getLong("talend.component.di.beam.queue.maxBatchDelay", 100));
+
     public static PTransform<PBegin, PCollection<Record>> from(final LoopState state) {
         return Read.from(new UnboundedQueuedInput(state.id));
     }
@@ -71,6 +83,10 @@ public final class InMemoryQueueIO {
 
         private transient LoopState state;
 
+        private transient List<Record> batch;
+
+        private transient long batchStart;
+
         protected QueuedOutput(final String stateId) {
             this.stateId = stateId;
         }
@@ -78,13 +94,36 @@ public final class InMemoryQueueIO {
         @Setup
         public void onInit() {
             getState().referenceCounting.incrementAndGet();
+            batch = new ArrayList<>(BATCH_SIZE);
         }
 
         @ProcessElement
         public void onElement(final ProcessContext context) {
+            if (batch.isEmpty()) {
+                batchStart = System.nanoTime();
+            }
+            batch.add(context.element());
+            // an idle consumer or a slow flow must not wait for a full batch
+            if (batch.size() >= BATCH_SIZE || getState().isConsumerWaiting()
+                    || System.nanoTime() - batchStart >= MAX_BATCH_DELAY) {
+                flush();
+            }
+        }
+
+        @FinishBundle
+        public void onFinishBundle() {
+            flush();
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
             final LoopState state = getState();
-            state.push(context.element());
-            if (state.getRecordCount().decrementAndGet() == 0 && state.isDone()) {
+            final int size = batch.size();
+            state.pushAll(batch);
+            batch.clear();
+            if (state.getRecordCount().addAndGet(-size) == 0 && state.isDone()) {
                 state.end();
             }
         }
@@ -140,6 +179,8 @@ public final class InMemoryQueueIO {
 
             private volatile Supplier<Instant> waterMarkProvider;
 
+            private final Queue<Record> batch = new ArrayDeque<>(BATCH_SIZE);
+
             private Record current;
 
             private UnboundedQueuedReader(final UnboundedQueuedInput source) {
@@ -163,7 +204,10 @@ public final class InMemoryQueueIO {
                     return false;
                 }
 
-                current = state.next();
+                if (batch.isEmpty()) {
+                    state.next(batch, BATCH_SIZE);
+                }
+                current = batch.poll();
                 if (current != null) {
                     return true;
                 }
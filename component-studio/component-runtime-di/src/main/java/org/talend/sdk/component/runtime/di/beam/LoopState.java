@@ -15,14 +15,16 @@
  */
 package org.talend.sdk.component.runtime.di.beam;
 
+import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -37,11 +39,26 @@ import org.talend.sdk.component.runtime.record.RecordConverters;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Hands the records over between a Studio job and its embedded Beam pipeline.
+ * The queue capacity ({@code talend.component.di.beam.queue.capacity}, 10000 by default, unbounded if not strictly
+ * positive) and the wait strategy ({@code talend.component.di.beam.queue.waitStrategy}, {@code BLOCKING} or
+ * {@code SPINNING}) are read from the system properties. The capacity only applies once the consumer started,
+ * records pushed before the pipeline runs are all buffered.
+ */
 @Slf4j
 public class LoopState implements AutoCloseable {
 
     private static final Map<String, LoopState> STATES = new ConcurrentHashMap<>();
 
+    private static final int CAPACITY = Integer.getInteger("talend.component.di.beam.queue.capacity", 10000);
+
+    private static final RecordQueue.WaitStrategy WAIT_STRATEGY = RecordQueue.WaitStrategy
+            .valueOf(System
+                    .getProperty("talend.component.di.beam.queue.waitStrategy", "BLOCKING")
+                    .trim()
+                    .toUpperCase(Locale.ROOT));
+
     final AtomicInteger referenceCounting = new AtomicInteger();
 
     @Getter
@@ -49,9 +66,7 @@ public class LoopState implements AutoCloseable {
 
     final String plugin;
 
-    private final Queue<Record> queue = new ConcurrentLinkedQueue<>();
-
-    private final Semaphore semaphore = new Semaphore(0);
+    private final RecordQueue queue;
 
     @Getter
     private final AtomicLong recordCount = new AtomicLong(0);
@@ -67,26 +82,95 @@ public class LoopState implements AutoCloseable {
     private volatile boolean done;
 
     LoopState(final String plugin) {
+        this(plugin, CAPACITY, WAIT_STRATEGY);
+    }
+
+    LoopState(final String plugin, final int capacity, final RecordQueue.WaitStrategy waitStrategy) {
         this.plugin = plugin;
+        this.queue = new RecordQueue(capacity, waitStrategy);
         STATES.putIfAbsent(id, this);
     }
 
+    /**
+     * Enqueues a value, waiting for a free slot if the queue is bounded, full and already consumed.
+     *
+     * @param value the record or object (converted to a record) to enqueue, ignored if null.
+     */
     public void push(final Object value) {
         if (value == null) {
             return;
         }
-        queue.add(Record.class.isInstance(value) ? Record.class.cast(value) : toRecord(value));
-        semaphore.release();
+        queue.putAll(singletonList(Record.class.isInstance(value) ? Record.class.cast(value) : toRecord(value)));
     }
 
-    public Record next() {
-        try {
-            semaphore.acquire();
-            return queue.poll();
-        } catch (final InterruptedException e) {
-            Thread.currentThread().interrupt();
-            return null;
+    /**
+     * Enqueues a batch of values, the conversion to records is done for the whole batch before enqueuing it.
+     *
+     * @param values the records or objects to enqueue, null values are ignored.
+     */
+    public void pushAll(final Collection<?> values) {
+        final List<Record> records = new ArrayList<>(values.size());
+        RecordConverters converters = null;
+        for (final Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            if (Record.class.isInstance(value)) {
+                records.add(Record.class.cast(value));
+            } else {
+                if (converters == null) {
+                    converters = converters();
+                }
+                records.add(converters.toRecord(registry, value, () -> jsonb, () -> recordBuilderFactory));
+            }
         }
+        queue.putAll(records);
+    }
+
+    /**
+     * @return the next record, waiting for it if needed, or {@code null} once the state is ended and drained.
+     */
+    public Record next() {
+        return queue.take();
+    }
+
+    /**
+     * Moves up to {@code max} records to {@code target}, waiting for at least one.
+     *
+     * @param target the collection to fill.
+     * @param max the maximum number of records to move.
+     * @return the number of moved records, {@code 0} once the state is ended and drained.
+     */
+    public int next(final Collection<Record> target, final int max) {
+        return queue.drainTo(target, max);
+    }
+
+    /**
+     * @return true if the consumer is waiting for records, producers should not hold them back.
+     */
+    public boolean isConsumerWaiting() {
+        return queue.hasWaitingConsumer();
+    }
+
+    /**
+     * @return the maximum number of records buffered at the same time.
+     */
+    public int getHighWaterMark() {
+        return queue.getHighWaterMark();
+    }
+
+    /**
+     * @return how many times a producer waited for a free slot.
+     */
+    public long getProducerWaits() {
+        return queue.getProducerWaits().get();
+    }
+
+    /**
+     * @return how many times a consumer waited for a record.
+     */
+    public long getConsumerWaits() {
+        return queue.getConsumerWaits().get();
     }
 
     public boolean isDone() {
@@ -100,7 +184,7 @@ public class LoopState implements AutoCloseable {
     public void end() {
         log.debug("Ending state {}", id);
         done();
-        semaphore.release();
+        queue.end();
     }
 
     @Override
@@ -110,6 +194,10 @@ public class LoopState implements AutoCloseable {
             if (!done) {
                 end();
             }
+            queue.close();
+            log.debug("State {} queue: capacity={}, high water mark={}, producer waits={}, consumer waits={}", id,
+                    queue.getCapacity(), queue.getHighWaterMark(), queue.getProducerWaits().get(),
+                    queue.getConsumerWaits().get());
             ofNullable(jsonb).ifPresent(j -> {
                 try {
                     j.close();
@@ -129,6 +217,10 @@ public class LoopState implements AutoCloseable {
     }
 
     private Record toRecord(final Object value) {
+        return converters().toRecord(registry, value, () -> jsonb, () -> recordBuilderFactory);
+    }
+
+    private RecordConverters converters() {
         if (recordConverters == null) {
             synchronized (this) {
                 if (recordConverters == null) {
@@ -139,12 +231,12 @@ public class LoopState implements AutoCloseable {
                             .withProvider(manager.getJsonpProvider())
                             .withConfig(new JsonbConfig().setProperty("johnzon.cdi.activated", false))
                             .build();
-                    recordConverters = new RecordConverters();
                     registry = new RecordConverters.MappingMetaRegistry();
                     recordBuilderFactory = manager.getRecordBuilderFactoryProvider().apply(null);
+                    recordConverters = new RecordConverters();
                 }
             }
         }
-        return recordConverters.toRecord(registry, value, () -> jsonb, () -> recordBuilderFactory);
+        return recordConverters;
     }
 }
@@ -0,0 +1,287 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.di.beam;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.talend.sdk.component.api.record.Record;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ring buffer handing records over between the Studio and the Beam threads.
+ * When bounded, producers wait for free slots, consumers always wait for records until the queue is ended.
+ * An unbounded queue ({@code capacity <= 0}) grows its ring instead of blocking the producers.
+ * Until a consumer started to read, a bounded queue grows as well: the job can push all its records before
+ * running the pipeline, waiting for a free slot would never end in that case.
+ */
+@Slf4j
+class RecordQueue {
+
+    private static final int INITIAL_SIZE = 64;
+
+    private static final long SPIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notEmpty = lock.newCondition();
+
+    private final Condition notFull = lock.newCondition();
+
+    @Getter
+    private final int capacity;
+
+    @Getter
+    private final WaitStrategy waitStrategy;
+
+    @Getter
+    private final AtomicLong producerWaits = new AtomicLong();
+
+    @Getter
+    private final AtomicLong consumerWaits = new AtomicLong();
+
+    private Record[] ring;
+
+    private int head;
+
+    private int size;
+
+    private volatile int highWaterMark;
+
+    // updated with the lock held
+    private volatile int waitingConsumers;
+
+    // set with the lock held
+    private volatile boolean consumerStarted;
+
+    private boolean overflowLogged;
+
+    private volatile boolean ended;
+
+    private volatile boolean closed;
+
+    RecordQueue(final int capacity, final WaitStrategy waitStrategy) {
+        this.capacity = capacity;
+        this.waitStrategy = waitStrategy;
+        this.ring = new Record[capacity > 0 ? capacity : INITIAL_SIZE];
+    }
+
+    /**
+     * Adds all the records, waiting for free slots when the queue is bounded and full.
+     *
+     * @param records the records to enqueue.
+     */
+    void putAll(final Collection<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            for (final Record record : records) {
+                if (capacity > 0 && size >= capacity && !consumerStarted && !overflowLogged) {
+                    overflowLogged = true;
+                    log.warn("Queue is full (capacity={}) and nothing reads it yet, buffering the records until "
+                            + "the pipeline consumes them", capacity);
+                }
+                while (capacity > 0 && size >= capacity && consumerStarted) {
+                    if (closed) {
+                        throw new IllegalStateException("Queue closed, can't enqueue records anymore");
+                    }
+                    if (Thread.currentThread().isInterrupted()) {
+                        throw new IllegalStateException("Interrupted while waiting for the queue");
+                    }
+                    producerWaits.incrementAndGet();
+                    notEmpty.signal(); // ensure the consumer drains what is already there
+                    await(notFull);
+                }
+                if (size == ring.length) {
+                    grow();
+                }
+                ring[(head + size) % ring.length] = record;
+                size++;
+                if (size > highWaterMark) {
+                    highWaterMark = size;
+                }
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the next record or {@code null} if the queue is ended and empty.
+     */
+    Record take() {
+        lock.lock();
+        try {
+            consumerStarted = true;
+            while (size == 0) {
+                if (ended || closed || Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+                awaitRecord();
+            }
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves up to {@code max} available records, waiting for the first one like {@link #take()}.
+     *
+     * @param target where to put the records.
+     * @param max maximum number of records to drain.
+     * @return the number of drained records, {@code 0} if the queue is ended and empty.
+     */
+    int drainTo(final Collection<Record> target, final int max) {
+        lock.lock();
+        try {
+            consumerStarted = true;
+            while (size == 0) {
+                if (ended || closed || Thread.currentThread().isInterrupted()) {
+                    return 0;
+                }
+                awaitRecord();
+            }
+            final int count = Math.min(size, max);
+            for (int i = 0; i < count; i++) {
+                target.add(dequeue());
+            }
+            return count;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return true if a consumer is currently waiting for records, i.e. it is idle.
+     */
+    boolean hasWaitingConsumer() {
+        return waitingConsumers > 0;
+    }
+
+    int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /**
+     * No more records will be produced, consumers get {@code null} once the queue is empty.
+     */
+    void end() {
+        ended = true;
+        signalAll();
+    }
+
+    /**
+     * Releases all waiting threads, producers fail since nobody will consume their records anymore.
+     */
+    void close() {
+        closed = true;
+        signalAll();
+    }
+
+    private Record dequeue() {
+        final Record record = ring[head];
+        ring[head] = null;
+        head = (head + 1) % ring.length;
+        size--;
+        if (capacity > 0) {
+            notFull.signal();
+        }
+        return record;
+    }
+
+    private void grow() {
+        final Record[] newRing = new Record[ring.length * 2];
+        for (int i = 0; i < size; i++) {
+            newRing[i] = ring[(head + i) % ring.length];
+        }
+        ring = newRing;
+        head = 0;
+    }
+
+    private void signalAll() {
+        lock.lock();
+        try {
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // called with the lock held
+    private void awaitRecord() {
+        consumerWaits.incrementAndGet();
+        waitingConsumers++;
+        try {
+            await(notEmpty);
+        } finally {
+            waitingConsumers--;
+        }
+    }
+
+    // called with the lock held, returns with the lock held (interruption is only flagged)
+    private void await(final Condition condition) {
+        switch (waitStrategy) {
+        case SPINNING:
+            lock.unlock();
+            try {
+                Thread.yield();
+                LockSupport.parkNanos(SPIN_PARK_NANOS);
+            } finally {
+                lock.lock();
+            }
+            break;
+        case BLOCKING:
+        default:
+            try {
+                condition.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt(); // callers check the flag
+            }
+        }
+    }
+
+    enum WaitStrategy {
+        /**
+         * Waiting threads are parked until the other side signals them.
+         */
+        BLOCKING,
+
+        /**
+         * Waiting threads yield and poll again, lower latency handoff at the cost of CPU.
+         */
+        SPINNING
+    }
+}
@@ -18,8 +18,7 @@ package org.talend.sdk.component.runtime.di.record;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
-import static java.util.function.UnaryOperator.identity;
-import static java.util.stream.Collectors.toMap;
+import static lombok.AccessLevel.NONE;
 import static org.talend.sdk.component.api.record.SchemaProperty.ALLOW_SPECIAL_NAME;
 import static org.talend.sdk.component.api.record.SchemaProperty.IS_KEY;
 import static org.talend.sdk.component.api.record.SchemaProperty.ORIGIN_TYPE;
@@ -35,7 +34,6 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -68,6 +66,7 @@ import routines.system.Dynamic;
 import routines.system.ParserUtils;
 
 import lombok.Data;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Data
@@ -82,6 +81,9 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
 
     private final Map<String, Field> fields;
 
+    @Getter(NONE)
+    private final RowStructPlan plan;
+
     private final boolean hasDynamic;
 
     private final DynamicWrapper dynamic;
@@ -119,18 +121,10 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
         } catch (NoSuchMethodException e) {
             throw new IllegalStateException(e);
         }
-        fields = Arrays.stream(clazz.getFields()).collect(toMap(Field::getName, identity()));
-        hasDynamic = fields
-                .values()
-                .stream()
-                .anyMatch(field -> "routines.system.Dynamic".equals(field.getType().getName()));
-        dynamicColumn = fields
-                .values()
-                .stream()
-                .filter(field -> "routines.system.Dynamic".equals(field.getType().getName()))
-                .map(Field::getName)
-                .findAny()
-                .orElse(null);
+        plan = RowStructPlan.of(clazz);
+        fields = plan.reflectionFields();
+        dynamicColumn = plan.getDynamicColumn();
+        hasDynamic = dynamicColumn != null;
         if (hasDynamic) {
             dynamic = new DynamicWrapper();
         } else {
@@ -216,11 +210,7 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
     @Override
     public Object get() {
         if (hasDynamic) {
-            try {
-                fields.get(dynamicColumn).set(instance, dynamic.getDynamic());
-            } catch (final IllegalAccessException e) {
-                throw new IllegalStateException(e);
-            }
+            plan.field(dynamicColumn).set(instance, dynamic.getDynamic(), dynamicColumn);
         }
         return instance;
     }
@@ -307,7 +297,7 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
     }
 
     private void setField(final Entry entry, final Object value) {
-        final Field field = fields.get(entry.getName());
+        final RowStructPlan.FieldPlan field = plan.field(entry.getName());
         if (hasDynamic && (field == null || dynamicColumn.equals(entry.getName()))) {
             handleDynamic(entry, value);
             return;
@@ -317,14 +307,14 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
         }
 
         try {
-            if (routines.system.Document.class == field.getType()) {
+            if (routines.system.Document.class == field.getField().getType()) {
                 log.trace("[setField] Document#{}.", entry.getName());
-                field.set(instance, ParserUtils.parseTo_Document(value.toString()));
+                field.set(instance, ParserUtils.parseTo_Document(value.toString()), entry.getName());
                 return;
             }
 
-            field.set(instance, MappingUtils.coerce(field.getType(), value, entry.getName()));
-        } catch (final IllegalAccessException | DocumentException e) {
+            field.set(instance, value, entry.getName());
+        } catch (final DocumentException e) {
             log.error("[setField] exception message: {}", e.getMessage());
             throw new IllegalStateException(e);
         }
@@ -35,21 +35,21 @@ import static org.talend.sdk.component.api.record.SchemaProperty.PATTERN;
 import static org.talend.sdk.component.api.record.SchemaProperty.SCALE;
 import static org.talend.sdk.component.api.record.SchemaProperty.SIZE;
 import static org.talend.sdk.component.api.record.SchemaProperty.STUDIO_TYPE;
+import static org.talend.sdk.component.runtime.di.record.RowStructPlan.Metadata.COMMENT;
+import static org.talend.sdk.component.runtime.di.record.RowStructPlan.Metadata.DEFAULT;
+import static org.talend.sdk.component.runtime.di.record.RowStructPlan.Metadata.IS_NULLABLE;
+import static org.talend.sdk.component.runtime.di.record.RowStructPlan.Metadata.LENGTH;
+import static org.talend.sdk.component.runtime.di.record.RowStructPlan.Metadata.ORIGINAL_DB_COLUMN_NAME;
+import static org.talend.sdk.component.runtime.di.record.RowStructPlan.Metadata.PRECISION;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
 import java.sql.Timestamp;
 import java.time.ZonedDateTime;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javax.json.bind.Jsonb;
 import javax.json.bind.spi.JsonbProvider;
@@ -78,24 +78,23 @@ public class DiRowStructVisitor {
 
     private final Jsonb jsonb = JsonbProvider.provider().create().build();
 
-    private Set<String> allowedFields;
-
     private void visit(final Object data) {
         log.trace("[visit] Class: {} ==> {}.", data.getClass().getName(), data);
-        Arrays.stream(data.getClass().getFields()).forEach(field -> {
+        for (final RowStructPlan.FieldPlan field : RowStructPlan.of(data.getClass()).getFields()) {
             try {
-                final Class<?> fieldType = field.getType();
-                final String studioType = StudioTypes.typeFromClass(fieldType.getName());
-                final String name = field.getName();
+                final Class<?> fieldType = field.getField().getType();
+                final String studioType = field.getStudioType() != null ? field.getStudioType()
+                        : StudioTypes.typeFromClass(fieldType.getName());
+                final String name = field.getField().getName();
+                if (!field.isAllowed()) {
+                    log.trace("[visit] Skipping technical field {}.", name);
+                    continue;
+                }
                 final Object raw = field.get(data);
                 log.trace("[visit] Field {} ({} / {}) ==> {}.", name, fieldType.getName(), studioType, raw);
                 if (raw == null) {
                     log.trace("[visit] Skipping field {} with null value.", name);
-                    return;
-                }
-                if (!allowedFields.contains(name)) {
-                    log.trace("[visit] Skipping technical field {}.", name);
-                    return;
+                    continue;
                 }
                 switch (studioType) {
                 case StudioTypes.OBJECT:
@@ -145,7 +144,7 @@ public class DiRowStructVisitor {
                 case StudioTypes.DOCUMENT:
                     if (Document.class.cast(raw).getDocument() == null) {
                         log.trace("[visit] Skipping field {} with null value.", name);
-                        return;
+                        continue;
                     }
                     onDocument(name, raw);
                     break;
@@ -159,7 +158,7 @@ public class DiRowStructVisitor {
             } catch (final IllegalAccessException e) {
                 throw new IllegalStateException(e);
             }
-        });
+        }
     }
 
     private void handleDynamic(final Object raw) {
@@ -237,180 +236,150 @@ public class DiRowStructVisitor {
     public Record get(final Object data, final RecordBuilderFactory factory) {
         if (rowStructSchema == null) {
             this.factory = factory;
-            rowStructSchema = inferSchema(data, factory);
+            rowStructSchema = RowStructPlan.of(data.getClass()).schema(factory, () -> inferSchema(data, factory));
         }
         recordBuilder = factory.newRecordBuilder(rowStructSchema);
         visit(data);
         return recordBuilder.build();
     }
 
-    private <T> T getMetadata(final String metadata, final Object data, final Class<T> type) {
-        try {
-            final Method m = data.getClass().getDeclaredMethod(metadata);
-            return ofNullable(m.invoke(data)).map(type::cast).orElse(null);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-            return null;
-        }
-    }
-
     private Schema inferSchema(final Object data, final RecordBuilderFactory factory) {
-        // all standard rowStruct fields have accessors, not technical fields.
-        final Set<String> fields = Arrays
-                .stream(data.getClass().getFields()) //
-                .map(f -> f.getName()) //
-                .collect(Collectors.toSet());
-        allowedFields = Arrays
-                .stream(data.getClass().getDeclaredMethods())
-                .map(method -> method.getName())
-                .filter(m -> m.matches("^(get|is).*"))
-                .map(n -> n.replaceAll("^(get|is)", ""))
-                .map(n -> {
-                    if (fields.contains(n)) {
-                        return n;
-                    }
-                    // use java convention for members
-                    return n.substring(0, 1).toLowerCase(Locale.ROOT) + n.substring(1);
-                })
-                .collect(Collectors.toSet());
         final Schema.Builder schema = factory.newSchemaBuilder(RECORD);
-        Arrays.stream(data.getClass().getFields()).forEach(field -> {
-            try {
-                final Class<?> type = field.getType();
-                if (!allowedFields.contains(field.getName())) {
-                    log.trace("[inferSchema] Skipping technical field {}.", field.getName());
-                    return;
-                }
-                final String name = sanitizeConnectionName(field.getName());
-                final Object raw = field.get(data);
-                final boolean isNullable =
-                        ofNullable(getMetadata(name + "IsNullable", data, Boolean.class)).orElse(true);
-                final Boolean isKey = ofNullable(getMetadata(name + "IsKey", data, Boolean.class)).orElse(false);
-                final Integer length = ofNullable(getMetadata(name + "Length", data, Integer.class)).orElse(-1);
-                final Integer precision = ofNullable(getMetadata(name + "Precision", data, Integer.class)).orElse(-1);
-                final String defaultValue = getMetadata(name + "Default", data, String.class);
-                final String comment = getMetadata(name + "Comment", data, String.class);
-                final String pattern = getMetadata(name + "Pattern", data, String.class);
-                final String originalDbColumnName = getMetadata(name + "OriginalDbColumnName", data, String.class);
-                final String studioType = StudioTypes.typeFromClass(type.getName());
-                switch (studioType) {
-                case StudioTypes.LIST:
-                    schema.withEntry(toCollectionEntry(name, "", raw));
-                    break;
-                case StudioTypes.OBJECT:
-                case StudioTypes.STRING:
-                case StudioTypes.CHARACTER:
-                    schema.withEntry(toEntry(name, STRING, originalDbColumnName, isNullable, comment, isKey, length,
-                            precision, defaultValue, null, studioType));
-                    break;
-                case StudioTypes.BIGDECIMAL:
-                    schema.withEntry(toEntry(name, DECIMAL, originalDbColumnName, isNullable, comment, isKey, length,
-                            precision, defaultValue, null, studioType));
-                    break;
-                case StudioTypes.INTEGER:
-                case StudioTypes.SHORT:
-                case StudioTypes.BYTE:
-                    schema.withEntry(toEntry(name, INT, originalDbColumnName, isNullable, comment, isKey, null, null,
-                            defaultValue, null, studioType));
-                    break;
-                case StudioTypes.LONG:
-                    schema.withEntry(toEntry(name, LONG, originalDbColumnName, isNullable, comment, isKey, null, null,
-                            defaultValue, null, studioType));
-                    break;
-                case StudioTypes.FLOAT:
-                    schema.withEntry(toEntry(name, FLOAT, originalDbColumnName, isNullable, comment, isKey, length,
-                            precision, defaultValue, null, studioType));
-                    break;
-                case StudioTypes.DOUBLE:
-                    schema.withEntry(toEntry(name, DOUBLE, originalDbColumnName, isNullable, comment, isKey, length,
-                            precision, defaultValue, null, studioType));
-                    break;
-                case StudioTypes.BOOLEAN:
-                    schema.withEntry(toEntry(name, BOOLEAN, originalDbColumnName, isNullable, comment, isKey, null,
-                            null, defaultValue, null, studioType));
-                    break;
-                case StudioTypes.DATE:
-                    schema.withEntry(toEntry(name, DATETIME, originalDbColumnName, isNullable, comment, isKey, null,
-                            null, defaultValue, pattern, studioType));
-                    break;
-                case StudioTypes.BYTE_ARRAY:
-                    schema.withEntry(toEntry(name, BYTES, originalDbColumnName, isNullable, comment, isKey, null, null,
-                            defaultValue, null, studioType));
-                    break;
-                case StudioTypes.DOCUMENT:
-                    schema.withEntry(toEntry(name, STRING, originalDbColumnName, isNullable, comment, isKey, null,
-                            null, defaultValue, pattern, studioType));
-                    break;
-                case StudioTypes.DYNAMIC:
-                    final DynamicWrapper dynamic = new DynamicWrapper(raw);
-                    dynamic.getDynamic().metadatas.forEach(meta -> {
-                        final Object value = dynamic.getDynamic().getColumnValue(meta.getName());
-                        final String metaName = sanitizeConnectionName(meta.getName());
-                        final String metaOriginalName = meta.getDbName();
-                        final boolean metaIsNullable = meta.isNullable();
-                        final boolean metaIsKey = meta.isKey();
-                        final int metaLength = meta.getLength() != -1 ? meta.getLength() : length;
-                        final int metaPrecision = meta.getPrecision() != -1 ? meta.getPrecision() : precision;
-                        final String metaPattern =
-                                !meta.getFormat().equals("dd-MM-yyyy HH:mm:ss") ? meta.getFormat() : pattern;
-                        final String metaStudioType = meta.getType();
-                        log.trace("[inferSchema] Dynamic {}\t({})\t ==> {}.", meta.getName(), metaStudioType, value);
-                        switch (metaStudioType) {
-                        case StudioTypes.LIST:
-                            schema.withEntry(toCollectionEntry(metaName, metaOriginalName, value));
-                            break;
-                        case StudioTypes.OBJECT:
-                        case StudioTypes.STRING:
-                        case StudioTypes.CHARACTER:
-                            schema.withEntry(toEntry(metaName, STRING, metaOriginalName, metaIsNullable, comment,
-                                    metaIsKey, null, null, defaultValue, metaPattern, metaStudioType));
-                            break;
-                        case StudioTypes.BIGDECIMAL:
-                            schema.withEntry(toEntry(metaName, DECIMAL, metaOriginalName, metaIsNullable, comment,
-                                    metaIsKey, metaLength, metaPrecision, defaultValue, null, metaStudioType));
-                            break;
-                        case StudioTypes.BYTE_ARRAY:
-                            schema.withEntry(toEntry(metaName, BYTES, metaOriginalName, metaIsNullable, comment,
-                                    metaIsKey, null, null, defaultValue, null, metaStudioType));
-                            break;
-                        case StudioTypes.BYTE:
-                        case StudioTypes.SHORT:
-                        case StudioTypes.INTEGER:
-                            schema.withEntry(toEntry(metaName, INT, metaOriginalName, metaIsNullable, comment,
-                                    metaIsKey, null, null, defaultValue, null, metaStudioType));
-                            break;
-                        case StudioTypes.LONG:
-                            schema.withEntry(toEntry(metaName, LONG, metaOriginalName, metaIsNullable, comment,
-                                    metaIsKey, null, null, defaultValue, null, metaStudioType));
-                            break;
-                        case StudioTypes.FLOAT:
-                            schema.withEntry(toEntry(metaName, FLOAT, metaOriginalName, metaIsNullable, comment,
-                                    metaIsKey, metaLength, metaPrecision, defaultValue, null, metaStudioType));
-                            break;
-                        case StudioTypes.DOUBLE:
-                            schema.withEntry(toEntry(metaName, DOUBLE, metaOriginalName, metaIsNullable, comment,
-                                    metaIsKey, metaLength, metaPrecision, defaultValue, null, metaStudioType));
-                            break;
-                        case StudioTypes.BOOLEAN:
-                            schema.withEntry(toEntry(metaName, BOOLEAN, metaOriginalName, metaIsNullable, comment,
-                                    metaIsKey, null, null, defaultValue, null, metaStudioType));
-                            break;
-                        case StudioTypes.DATE:
-                            schema.withEntry(toEntry(metaName, DATETIME, metaOriginalName, metaIsNullable, comment,
-                                    metaIsKey, null, null, defaultValue, metaPattern, metaStudioType));
-                            break;
-                        default:
-                            schema.withEntry(toEntry(metaName, STRING, metaOriginalName, metaIsNullable, comment,
-                                    metaIsKey, metaLength, metaPrecision, defaultValue, metaPattern, metaStudioType));
-                        }
-                    });
-                    break;
-                default:
-                    log.warn("Unmanaged type: {} for {}.", type, name);
-                }
-            } catch (final IllegalAccessException e) {
-                throw new IllegalStateException(e);
+        for (final RowStructPlan.FieldPlan field : RowStructPlan.of(data.getClass()).getFields()) {
+            final Class<?> type = field.getField().getType();
+            if (!field.isAllowed()) {
+                log.trace("[inferSchema] Skipping technical field {}.", field.getField().getName());
+                continue;
             }
-        });
+            final String name = sanitizeConnectionName(field.getField().getName());
+            final Object raw = field.get(data);
+            final boolean isNullable = ofNullable(field.metadata(IS_NULLABLE, data, Boolean.class)).orElse(true);
+            final Boolean isKey = ofNullable(field.metadata(RowStructPlan.Metadata.IS_KEY, data, Boolean.class))
+                    .orElse(false);
+            final Integer length = ofNullable(field.metadata(LENGTH, data, Integer.class)).orElse(-1);
+            final Integer precision = ofNullable(field.metadata(PRECISION, data, Integer.class)).orElse(-1);
+            final String defaultValue = field.metadata(DEFAULT, data, String.class);
+            final String comment = field.metadata(COMMENT, data, String.class);
+            final String pattern = field.metadata(RowStructPlan.Metadata.PATTERN, data, String.class);
+            final String originalDbColumnName = field.metadata(ORIGINAL_DB_COLUMN_NAME, data, String.class);
+            final String studioType = field.getStudioType() != null ? field.getStudioType()
+                    : StudioTypes.typeFromClass(type.getName());
+            switch (studioType) {
+            case StudioTypes.LIST:
+                schema.withEntry(toCollectionEntry(name, "", raw));
+                break;
+            case StudioTypes.OBJECT:
+            case StudioTypes.STRING:
+            case StudioTypes.CHARACTER:
+                schema.withEntry(toEntry(name, STRING, originalDbColumnName, isNullable, comment, isKey, length,
+                        precision, defaultValue, null, studioType));
+                break;
+            case StudioTypes.BIGDECIMAL:
+                schema.withEntry(toEntry(name, DECIMAL, originalDbColumnName, isNullable, comment, isKey, length,
+                        precision, defaultValue, null, studioType));
+                break;
+            case StudioTypes.INTEGER:
+            case StudioTypes.SHORT:
+            case StudioTypes.BYTE:
+                schema.withEntry(toEntry(name, INT, originalDbColumnName, isNullable, comment, isKey, null, null,
+                        defaultValue, null, studioType));
+                break;
+            case StudioTypes.LONG:
+                schema.withEntry(toEntry(name, LONG, originalDbColumnName, isNullable, comment, isKey, null, null,
+                        defaultValue, null, studioType));
+                break;
+            case StudioTypes.FLOAT:
+                schema.withEntry(toEntry(name, FLOAT, originalDbColumnName, isNullable, comment, isKey, length,
+                        precision, defaultValue, null, studioType));
+                break;
+            case StudioTypes.DOUBLE:
+                schema.withEntry(toEntry(name, DOUBLE, originalDbColumnName, isNullable, comment, isKey, length,
+                        precision, defaultValue, null, studioType));
+                break;
+            case StudioTypes.BOOLEAN:
+                schema.withEntry(toEntry(name, BOOLEAN, originalDbColumnName, isNullable, comment, isKey, null,
+                        null, defaultValue, null, studioType));
+                break;
+            case StudioTypes.DATE:
+                schema.withEntry(toEntry(name, DATETIME, originalDbColumnName, isNullable, comment, isKey, null,
+                        null, defaultValue, pattern, studioType));
+                break;
+            case StudioTypes.BYTE_ARRAY:
+                schema.withEntry(toEntry(name, BYTES, originalDbColumnName, isNullable, comment, isKey, null, null,
+                        defaultValue, null, studioType));
+                break;
+            case StudioTypes.DOCUMENT:
+                schema.withEntry(toEntry(name, STRING, originalDbColumnName, isNullable, comment, isKey, null,
+                        null, defaultValue, pattern, studioType));
+                break;
+            case StudioTypes.DYNAMIC:
+                final DynamicWrapper dynamic = new DynamicWrapper(raw);
+                dynamic.getDynamic().metadatas.forEach(meta -> {
+                    final Object value = dynamic.getDynamic().getColumnValue(meta.getName());
+                    final String metaName = sanitizeConnectionName(meta.getName());
+                    final String metaOriginalName = meta.getDbName();
+                    final boolean metaIsNullable = meta.isNullable();
+                    final boolean metaIsKey = meta.isKey();
+                    final int metaLength = meta.getLength() != -1 ? meta.getLength() : length;
+                    final int metaPrecision = meta.getPrecision() != -1 ? meta.getPrecision() : precision;
+                    final String metaPattern =
+                            !meta.getFormat().equals("dd-MM-yyyy HH:mm:ss") ? meta.getFormat() : pattern;
+                    final String metaStudioType = meta.getType();
+                    log.trace("[inferSchema] Dynamic {}\t({})\t ==> {}.", meta.getName(), metaStudioType, value);
+                    switch (metaStudioType) {
+                    case StudioTypes.LIST:
+                        schema.withEntry(toCollectionEntry(metaName, metaOriginalName, value));
+                        break;
+                    case StudioTypes.OBJECT:
+                    case StudioTypes.STRING:
+                    case StudioTypes.CHARACTER:
+                        schema.withEntry(toEntry(metaName, STRING, metaOriginalName, metaIsNullable, comment,
+                                metaIsKey, null, null, defaultValue, metaPattern, metaStudioType));
+                        break;
+                    case StudioTypes.BIGDECIMAL:
+                        schema.withEntry(toEntry(metaName, DECIMAL, metaOriginalName, metaIsNullable, comment,
+                                metaIsKey, metaLength, metaPrecision, defaultValue, null, metaStudioType));
+                        break;
+                    case StudioTypes.BYTE_ARRAY:
+                        schema.withEntry(toEntry(metaName, BYTES, metaOriginalName, metaIsNullable, comment,
+                                metaIsKey, null, null, defaultValue, null, metaStudioType));
+                        break;
+                    case StudioTypes.BYTE:
+                    case StudioTypes.SHORT:
+                    case StudioTypes.INTEGER:
+                        schema.withEntry(toEntry(metaName, INT, metaOriginalName, metaIsNullable, comment,
+                                metaIsKey, null, null, defaultValue, null, metaStudioType));
+                        break;
+                    case StudioTypes.LONG:
+                        schema.withEntry(toEntry(metaName, LONG, metaOriginalName, metaIsNullable, comment,
+                                metaIsKey, null, null, defaultValue, null, metaStudioType));
+                        break;
+                    case StudioTypes.FLOAT:
+                        schema.withEntry(toEntry(metaName, FLOAT, metaOriginalName, metaIsNullable, comment,
+                                metaIsKey, metaLength, metaPrecision, defaultValue, null, metaStudioType));
+                        break;
+                    case StudioTypes.DOUBLE:
+                        schema.withEntry(toEntry(metaName, DOUBLE, metaOriginalName, metaIsNullable, comment,
+                                metaIsKey, metaLength, metaPrecision, defaultValue, null, metaStudioType));
+                        break;
+                    case StudioTypes.BOOLEAN:
+                        schema.withEntry(toEntry(metaName, BOOLEAN, metaOriginalName, metaIsNullable, comment,
+                                metaIsKey, null, null, defaultValue, null, metaStudioType));
+                        break;
+                    case StudioTypes.DATE:
+                        schema.withEntry(toEntry(metaName, DATETIME, metaOriginalName, metaIsNullable, comment,
+                                metaIsKey, null, null, defaultValue, metaPattern, metaStudioType));
+                        break;
+                    default:
+                        schema.withEntry(toEntry(metaName, STRING, metaOriginalName, metaIsNullable, comment,
+                                metaIsKey, metaLength, metaPrecision, defaultValue, metaPattern, metaStudioType));
+                    }
+                });
+                break;
+            default:
+                log.warn("Unmanaged type: {} for {}.", type, name);
+            }
+        }
         return schema.build();
     }
 
@@ -0,0 +1,305 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.di.record;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.function.UnaryOperator.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+import static org.talend.sdk.component.api.record.Schema.sanitizeConnectionName;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.di.schema.StudioTypes;
+import org.talend.sdk.component.runtime.record.MappingUtils;
+
+import lombok.Getter;
+
+/**
+ * Accessors of a studio row struct class: public fields bound to method handles with their resolved studio type
+ * and the handles of their metadata methods ({@code <field>IsNullable()}, {@code <field>Length()}, ...).
+ * It is computed once per class and since it is attached to the class (through a {@link ClassValue})
+ * it is released with the job classloader.
+ */
+final class RowStructPlan {
+
+    private static final ClassValue<RowStructPlan> PLANS = new ClassValue<RowStructPlan>() {
+
+        @Override
+        protected RowStructPlan computeValue(final Class<?> type) {
+            return new RowStructPlan(type);
+        }
+    };
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    @Getter
+    private final FieldPlan[] fields;
+
+    private final Map<String, FieldPlan> fieldsByName;
+
+    @Getter
+    private final Set<String> allowedFields;
+
+    @Getter
+    private final String dynamicColumn;
+
+    // the schema only depends on the class when no field type needs a value (list element, dynamic columns)
+    private final boolean staticSchema;
+
+    private volatile CachedSchema schema;
+
+    private RowStructPlan(final Class<?> type) {
+        final Field[] publicFields = type.getFields();
+        final Set<String> names = Stream.of(publicFields).map(Field::getName).collect(toSet());
+        // all standard rowStruct fields have accessors, not technical fields.
+        allowedFields = unmodifiableSet(Stream
+                .of(type.getDeclaredMethods())
+                .map(Method::getName)
+                .filter(m -> m.matches("^(get|is).*"))
+                .map(n -> n.replaceAll("^(get|is)", ""))
+                .map(n -> {
+                    if (names.contains(n)) {
+                        return n;
+                    }
+                    // use java convention for members
+                    return n.substring(0, 1).toLowerCase(Locale.ROOT) + n.substring(1);
+                })
+                .collect(toSet()));
+        final Map<String, Method> metadataMethods = Stream
+                .of(type.getDeclaredMethods())
+                .filter(m -> m.getParameterCount() == 0)
+                .collect(toMap(Method::getName, identity(), (a, b) -> a));
+        fields = Stream
+                .of(publicFields)
+                .map(f -> new FieldPlan(f, allowedFields.contains(f.getName()), metadataMethods))
+                .toArray(FieldPlan[]::new);
+        fieldsByName = unmodifiableMap(Stream
+                .of(fields)
+                .collect(toMap(f -> f.getField().getName(), identity(), (a, b) -> a, LinkedHashMap::new)));
+        dynamicColumn = Stream
+                .of(fields)
+                .filter(f -> StudioTypes.DYNAMIC.equals(f.getStudioType()))
+                .map(f -> f.getField().getName())
+                .findAny()
+                .orElse(null);
+        staticSchema = Stream
+                .of(fields)
+                .filter(FieldPlan::isAllowed)
+                .noneMatch(f -> StudioTypes.LIST.equals(f.getStudioType())
+                        || StudioTypes.DYNAMIC.equals(f.getStudioType()));
+    }
+
+    static RowStructPlan of(final Class<?> type) {
+        return PLANS.get(type);
+    }
+
+    FieldPlan field(final String name) {
+        return fieldsByName.get(name);
+    }
+
+    Map<String, Field> reflectionFields() {
+        return Stream.of(fields).map(FieldPlan::getField).collect(toMap(Field::getName, identity(), (a, b) -> a));
+    }
+
+    /**
+     * @param factory the factory the schema is built with.
+     * @param builder infers the schema from the current row.
+     * @return the cached schema if it only depends on the class, else the one built from the current row.
+     */
+    Schema schema(final RecordBuilderFactory factory, final Supplier<Schema> builder) {
+        if (!staticSchema) {
+            return builder.get();
+        }
+        final CachedSchema cached = schema;
+        if (cached != null && cached.factory == factory) {
+            return cached.schema;
+        }
+        final Schema built = builder.get();
+        schema = new CachedSchema(factory, built);
+        return built;
+    }
+
+    enum Metadata {
+        IS_NULLABLE("IsNullable"),
+        IS_KEY("IsKey"),
+        LENGTH("Length"),
+        PRECISION("Precision"),
+        DEFAULT("Default"),
+        COMMENT("Comment"),
+        PATTERN("Pattern"),
+        ORIGINAL_DB_COLUMN_NAME("OriginalDbColumnName");
+
+        private final String suffix;
+
+        Metadata(final String suffix) {
+            this.suffix = suffix;
+        }
+    }
+
+    static final class FieldPlan {
+
+        @Getter
+        private final Field field;
+
+        /**
+         * The studio type of the field or {@code null} if it is not a studio type.
+         */
+        @Getter
+        private final String studioType;
+
+        @Getter
+        private final boolean allowed;
+
+        private final Class<?> wrapperType;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private final MethodHandle[] metadata;
+
+        private FieldPlan(final Field field, final boolean allowed, final Map<String, Method> metadataMethods) {
+            this.field = field;
+            this.allowed = allowed;
+            this.studioType = toStudioType(field.getType());
+            this.wrapperType = methodType(field.getType()).wrap().returnType();
+            final boolean isStatic = Modifier.isStatic(field.getModifiers());
+            try {
+                final MethodHandle get = LOOKUP.unreflectGetter(field);
+                this.getter = (isStatic ? MethodHandles.dropArguments(get, 0, Object.class) : get)
+                        .asType(methodType(Object.class, Object.class));
+                if (Modifier.isFinal(field.getModifiers())) {
+                    this.setter = null;
+                } else {
+                    final MethodHandle set = LOOKUP.unreflectSetter(field);
+                    this.setter = (isStatic ? MethodHandles.dropArguments(set, 0, Object.class) : set)
+                            .asType(methodType(void.class, Object.class, Object.class));
+                }
+            } catch (final IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+            final String name = sanitizeConnectionName(field.getName());
+            this.metadata = Arrays.stream(Metadata.values()).map(m -> {
+                final Method method = metadataMethods.get(name + m.suffix);
+                if (method == null) {
+                    return null;
+                }
+                try {
+                    final MethodHandle handle = LOOKUP.unreflect(method);
+                    return (Modifier.isStatic(method.getModifiers())
+                            ? MethodHandles.dropArguments(handle, 0, Object.class)
+                            : handle).asType(methodType(Object.class, Object.class));
+                } catch (final IllegalAccessException | IllegalArgumentException e) {
+                    return null;
+                }
+            }).toArray(MethodHandle[]::new);
+        }
+
+        Object get(final Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Sets the field coercing the value to the field type if needed.
+         *
+         * @param instance the row struct.
+         * @param value the value to set.
+         * @param name the name of the record entry (for errors).
+         */
+        void set(final Object instance, final Object value, final String name) {
+            if (setter == null) {
+                throw new IllegalStateException("Can't set " + field);
+            }
+            final Object coerced =
+                    wrapperType.isInstance(value) ? value : MappingUtils.coerce(field.getType(), value, name);
+            if (coerced == null && field.getType().isPrimitive()) { // same error as Field#set
+                throw new IllegalArgumentException("Can not set " + field.getType().getName() + " field "
+                        + field.getDeclaringClass().getName() + "." + field.getName() + " to null value");
+            }
+            try {
+                setter.invokeExact(instance, coerced);
+            } catch (final ClassCastException e) {
+                throw new IllegalArgumentException(e);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * @return the value of the metadata method or {@code null} if the row struct does not provide it.
+         */
+        <T> T metadata(final Metadata key, final Object instance, final Class<T> type) {
+            final MethodHandle handle = metadata[key.ordinal()];
+            if (handle == null) {
+                return null;
+            }
+            final Object value;
+            try {
+                value = (Object) handle.invokeExact(instance);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+            return value == null ? null : type.cast(value);
+        }
+
+        // null for the types studio does not map, they only fail if the row struct is visited
+        private static String toStudioType(final Class<?> type) {
+            try {
+                return StudioTypes.typeFromClass(type.getName());
+            } catch (final IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+
+    private static final class CachedSchema {
+
+        private final RecordBuilderFactory factory;
+
+        private final Schema schema;
+
+        private CachedSchema(final RecordBuilderFactory factory, final Schema schema) {
+            this.factory = factory;
+            this.schema = schema;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.di.beam;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+class LoopStateTest {
+
+    private final RecordBuilderFactoryImpl factory = new RecordBuilderFactoryImpl("test");
+
+    @Timeout(60)
+    @ParameterizedTest
+    @EnumSource(RecordQueue.WaitStrategy.class)
+    void bounded(final RecordQueue.WaitStrategy strategy) throws Exception {
+        try (final LoopState state = new LoopState(null, 4, strategy)) {
+            final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> {
+                while (!state.isConsumerWaiting()) { // the capacity only applies once the consumer started
+                    Thread.yield();
+                }
+                IntStream.range(0, 100).forEach(i -> state.push(record(i)));
+                state.end();
+            });
+            final List<Integer> ids = new ArrayList<>();
+            Record next;
+            while ((next = state.next()) != null) {
+                ids.add(next.getInt("id"));
+            }
+            producer.get(1, TimeUnit.MINUTES);
+
+            assertEquals(IntStream.range(0, 100).boxed().collect(toList()), ids);
+            assertTrue(state.getHighWaterMark() <= 4, () -> "high water mark: " + state.getHighWaterMark());
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void batches() {
+        try (final LoopState state = new LoopState(null, 0, RecordQueue.WaitStrategy.BLOCKING)) {
+            state.pushAll(IntStream.range(0, 10).mapToObj(this::record).collect(toList()));
+            state.end();
+            assertEquals(10, state.getHighWaterMark());
+
+            final List<Record> batch = new ArrayList<>();
+            assertEquals(8, state.next(batch, 8));
+            assertEquals(2, state.next(batch, 8));
+            assertEquals(0, state.next(batch, 8));
+            assertEquals(IntStream.range(0, 10).boxed().collect(toList()),
+                    batch.stream().map(r -> r.getInt("id")).collect(toList()));
+            assertNull(state.next());
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void closeReleasesProducers() throws Exception {
+        final LoopState state = new LoopState(null, 1, RecordQueue.WaitStrategy.BLOCKING);
+        state.push(record(0));
+        assertEquals(0, state.next().getInt("id"));
+        state.push(record(1));
+        final CompletableFuture<Void> producer = CompletableFuture.runAsync(() -> state.push(record(2)));
+        while (state.getProducerWaits() == 0) {
+            Thread.sleep(10);
+        }
+        state.close();
+        assertThrows(Exception.class, () -> producer.get(1, TimeUnit.MINUTES));
+    }
+
+    @Test
+    @Timeout(60)
+    void pushThenDrain() {
+        try (final LoopState state = new LoopState(null, 2, RecordQueue.WaitStrategy.BLOCKING)) {
+            IntStream.range(0, 10).forEach(i -> state.push(record(i)));
+            state.end();
+            assertEquals(10, state.getHighWaterMark());
+            assertEquals(0, state.getProducerWaits());
+
+            final List<Integer> ids = new ArrayList<>();
+            Record next;
+            while ((next = state.next()) != null) {
+                ids.add(next.getInt("id"));
+            }
+            assertEquals(IntStream.range(0, 10).boxed().collect(toList()), ids);
+        }
+    }
+
+    @Test
+    @Timeout(60)
+    void waitingConsumer() throws Exception {
+        try (final LoopState state = new LoopState(null, 0, RecordQueue.WaitStrategy.BLOCKING)) {
+            assertFalse(state.isConsumerWaiting());
+            final CompletableFuture<Record> consumer = CompletableFuture.supplyAsync(state::next);
+            while (!state.isConsumerWaiting()) {
+                Thread.sleep(10);
+            }
+            state.push(record(1));
+            assertEquals(1, consumer.get(1, TimeUnit.MINUTES).getInt("id"));
+            assertFalse(state.isConsumerWaiting());
+        }
+    }
+
+    private Record record(final int id) {
+        return factory.newRecordBuilder().withInt("id", id).build();
+    }
+}
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.talend.sdk.component.api.record.SchemaProperty.IS_KEY;
@@ -376,6 +377,39 @@ class DiRowStructVisitorTest extends VisitorsTest {
         assertNull(rcd3.getString("A"));
     }
 
+    @Test
+    void schemaSharedPerClass() {
+        final RowStructEmptyNull r1 = new RowStructEmptyNull();
+        r1.meta_id = 1;
+        r1.FirstName = "Bob";
+        final RowStructEmptyNull r2 = new RowStructEmptyNull();
+        r2.meta_id = 2;
+        final Record rcd1 = new DiRowStructVisitor().get(r1, factory);
+        final Record rcd2 = new DiRowStructVisitor().get(r2, factory);
+        assertSame(rcd1.getSchema(), rcd2.getSchema());
+        assertEquals("Bob", rcd1.getString("FirstName"));
+        assertEquals(2, rcd2.getInt("meta_id"));
+        assertNull(rcd2.getString("FirstName"));
+    }
+
+    @Test
+    void planMetadata() {
+        final RowStruct row = new RowStruct();
+        row.id = "id";
+        final RowStructPlan plan = RowStructPlan.of(RowStruct.class);
+        final RowStructPlan.FieldPlan id = plan.field("id");
+        assertSame(plan, RowStructPlan.of(RowStruct.class));
+        assertEquals(StudioTypes.STRING, id.getStudioType());
+        assertTrue(id.isAllowed());
+        assertEquals("id", id.get(row));
+        assertTrue(id.metadata(RowStructPlan.Metadata.IS_KEY, row, Boolean.class));
+        assertFalse(id.metadata(RowStructPlan.Metadata.IS_NULLABLE, row, Boolean.class));
+        assertNull(id.metadata(RowStructPlan.Metadata.COMMENT, row, String.class));
+        id.set(row, "other", "id");
+        assertEquals("other", row.id);
+        assertEquals("routines.system.Dynamic", plan.field(plan.getDynamicColumn()).getField().getType().getName());
+    }
+
     public static class Rcd {
 
         public String str = "one";
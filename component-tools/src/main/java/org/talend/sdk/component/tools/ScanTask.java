@@ -15,18 +15,23 @@
  */
 package org.talend.sdk.component.tools;
 
+import static java.util.Comparator.comparing;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.stream.Stream;
 
@@ -40,11 +45,12 @@ import org.apache.xbean.finder.filter.Filters;
 import org.apache.xbean.finder.filter.IncludeExcludeFilter;
 import org.talend.sdk.component.api.input.Emitter;
 import org.talend.sdk.component.api.input.PartitionMapper;
-import org.talend.sdk.component.api.internationalization.Internationalized;
 import org.talend.sdk.component.api.processor.Processor;
-import org.talend.sdk.component.api.service.Service;
 import org.talend.sdk.component.api.service.http.Request;
 import org.talend.sdk.component.api.standalone.DriverRunner;
+import org.talend.sdk.component.runtime.manager.xbean.IndexedAnnotationFinder;
+import org.talend.sdk.component.runtime.visitor.ModelListener;
+import org.talend.sdk.component.runtime.visitor.ModelVisitor;
 
 import lombok.RequiredArgsConstructor;
 
@@ -65,30 +71,68 @@ public class ScanTask implements Runnable {
     public void run() {
         output.getParentFile().mkdirs();
         try (final OutputStream stream = new FileOutputStream(output)) {
+            final Map<Class<? extends Annotation>, List<Class<?>>> index = scanIndex();
             final Properties properties = new Properties();
-            properties.setProperty("classes.list", scanList().collect(joining(",")));
+            properties
+                    .setProperty("classes.list", index
+                            .values()
+                            .stream()
+                            .flatMap(Collection::stream)
+                            .map(Class::getName)
+                            .distinct()
+                            .sorted()
+                            .collect(joining(",")));
+            properties.setProperty(IndexedAnnotationFinder.VERSION_KEY, IndexedAnnotationFinder.VERSION);
+            index
+                    .forEach((annotation, classes) -> properties
+                            .setProperty(IndexedAnnotationFinder.key(annotation),
+                                    classes.stream().map(Class::getName).collect(joining(","))));
+            properties
+                    .setProperty(IndexedAnnotationFinder.VALIDATED_KEY, Stream
+                            .of(PartitionMapper.class, Processor.class, Emitter.class, DriverRunner.class)
+                            .flatMap(it -> index.get(it).stream())
+                            .filter(this::isValid)
+                            .map(Class::getName)
+                            .distinct()
+                            .sorted()
+                            .collect(joining(",")));
             properties.store(stream, "generated by " + getClass() + " at " + new Date());
         } catch (final IOException e) {
             throw new IllegalStateException(e.getMessage(), e);
         }
     }
 
-    private Stream<String> scanList() {
+    // the classes per scanned annotation, for @Request the classes declaring the methods
+    private Map<Class<? extends Annotation>, List<Class<?>>> scanIndex() {
         final AnnotationFinder finder = newFinder();
         final Filter filter = newFilter();
-        return Stream
-                .concat(Stream
-                        .of(PartitionMapper.class, Processor.class, Emitter.class, DriverRunner.class, Service.class,
-                                Internationalized.class)
-                        .flatMap(it -> finder.findAnnotatedClasses(it).stream()),
-                        Stream
-                                .of(Request.class)
-                                .flatMap(it -> finder.findAnnotatedMethods(it).stream())
-                                .map(Method::getDeclaringClass))
-                .distinct()
-                .map(Class::getName)
-                .sorted()
-                .filter(filter::accept);
+        final Map<Class<? extends Annotation>, List<Class<?>>> index = new LinkedHashMap<>();
+        IndexedAnnotationFinder.INDEXED_ANNOTATIONS
+                .forEach(annotation -> index
+                        .put(annotation, find(finder, annotation)
+                                .distinct()
+                                .filter(it -> filter.accept(it.getName()))
+                                .sorted(comparing(Class::getName))
+                                .collect(toList())));
+        return index;
+    }
+
+    private Stream<Class<?>> find(final AnnotationFinder finder, final Class<? extends Annotation> annotation) {
+        if (Request.class == annotation) {
+            return finder.findAnnotatedMethods(annotation).stream().map(Method::getDeclaringClass);
+        }
+        return finder.findAnnotatedClasses(annotation).stream();
+    }
+
+    // the runtime can skip the validation of the components validated there
+    private boolean isValid(final Class<?> component) {
+        try {
+            new ModelVisitor().visit(component, new ModelListener() {
+            }, true);
+            return true;
+        } catch (final RuntimeException e) {
+            return false;
+        }
     }
 
     private Filter newFilter() {
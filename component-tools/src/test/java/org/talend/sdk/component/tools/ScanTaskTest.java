@@ -15,13 +15,17 @@
  */
 package org.talend.sdk.component.tools;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toSet;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
 import java.util.Properties;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -38,7 +42,7 @@ class ScanTaskTest {
         try (final InputStream stream = new FileInputStream(out)) {
             properties.load(stream);
         }
-        assertEquals(1, properties.size());
+        assertEquals(10, properties.size());
         assertEquals("org.talend.test.valid.MyComponent,"
                 + "org.talend.test.valid.MyInternalization,org.talend.test.valid.MySource,"
                 + "org.talend.test.valid.customicon.MyComponent," + "org.talend.test.valid.customiconapi.MyComponent,"
@@ -55,5 +59,14 @@ class ScanTaskTest {
                 + "org.talend.test.valid.structure.MyComponentWithStructure,"
                 + "org.talend.test.valid.update.Comp,org.talend.test.valid.wording.MyComponent",
                 properties.getProperty("classes.list"));
+        assertEquals("1", properties.getProperty("index.version"));
+        assertEquals("org.talend.test.valid.MyInternalization", properties.getProperty("index.Internationalized"));
+        assertEquals("org.talend.test.valid.datastore.MyService,"
+                + "org.talend.test.valid.exceptions.ValidComponentExceptionService",
+                properties.getProperty("index.Service"));
+        assertTrue(Stream
+                .of(properties.getProperty("index.validated").split(","))
+                .collect(toSet())
+                .containsAll(asList("org.talend.test.valid.MyComponent", "org.talend.test.valid.MySource")));
     }
 }
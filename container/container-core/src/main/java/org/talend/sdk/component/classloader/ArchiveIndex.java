@@ -0,0 +1,224 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.classloader;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.list;
+import static org.talend.sdk.component.jar.Jars.toPath;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Index of the jars of a classloader: entry directory (package for classes) to the jars owning it.
+ * It is built once per classloader and lets lookups go straight to the owning jar
+ * and skip the jar walk when no jar owns the directory.
+ *
+ * The index is only usable ({@link #isComplete()}) when all the urls are local jars,
+ * exploded folders can change and are not indexed. Multi-release jars are not indexed either,
+ * their versioned entries are resolved by the JVM classloader.
+ */
+@Slf4j
+final class ArchiveIndex implements Closeable {
+
+    static final ArchiveIndex EMPTY = new ArchiveIndex(emptyMap(), new ArrayList<>(), false);
+
+    private final Map<String, Archive[]> archivesByDirectory;
+
+    private final Collection<Archive> archives;
+
+    @Getter
+    private final boolean complete;
+
+    private ArchiveIndex(final Map<String, Archive[]> archivesByDirectory, final Collection<Archive> archives,
+            final boolean complete) {
+        this.archivesByDirectory = archivesByDirectory;
+        this.archives = archives;
+        this.complete = complete;
+    }
+
+    static ArchiveIndex of(final URL[] urls) {
+        final Collection<Archive> archives = new ArrayList<>(urls.length);
+        final Map<String, List<Archive>> byDirectory = new HashMap<>();
+        for (final URL url : urls) {
+            final Path path = toPath(url);
+            if (path == null || !Files.isRegularFile(path)) {
+                archives.forEach(Archive::close);
+                return EMPTY;
+            }
+            final Archive archive;
+            try {
+                archive = new Archive(url, new JarFile(path.toFile()));
+            } catch (final IOException e) {
+                log.debug("Can't index {}: {}", url, e.getMessage());
+                archives.forEach(Archive::close);
+                return EMPTY;
+            }
+            archives.add(archive);
+            if (isMultiRelease(archive)) {
+                log.debug("Not indexing {} since it is a multi-release jar", url);
+                archives.forEach(Archive::close);
+                return EMPTY;
+            }
+            for (final JarEntry entry : list(archive.jar.entries())) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                final List<Archive> owners =
+                        byDirectory.computeIfAbsent(directory(entry.getName()), d -> new ArrayList<>(1));
+                if (owners.isEmpty() || owners.get(owners.size() - 1) != archive) {
+                    owners.add(archive);
+                }
+            }
+        }
+        final Map<String, Archive[]> index = new HashMap<>(byDirectory.size());
+        byDirectory.forEach((directory, owners) -> index.put(directory, owners.toArray(new Archive[0])));
+        return new ArchiveIndex(index, archives, true);
+    }
+
+    /**
+     * @param name the resource name.
+     * @return false if the index is complete and no jar contains the directory of this resource.
+     */
+    boolean mayContain(final String name) {
+        // folder lookups (scanning) are not indexed
+        return !complete || name.isEmpty() || name.endsWith("/")
+                || archivesByDirectory.containsKey(directory(name));
+    }
+
+    /**
+     * @param name the resource name.
+     * @return the first entry (urls order) for this name or {@code null}.
+     */
+    Entry find(final String name) {
+        final Archive[] owners = archivesByDirectory.get(directory(name));
+        if (owners == null) {
+            return null;
+        }
+        for (final Archive archive : owners) {
+            final JarEntry entry = archive.jar.getJarEntry(name);
+            if (entry != null) {
+                return new Entry(archive, entry);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() {
+        archives.forEach(Archive::close);
+    }
+
+    private static boolean isMultiRelease(final Archive archive) {
+        try {
+            final Manifest manifest = archive.jar.getManifest();
+            return manifest != null
+                    && Boolean.parseBoolean(manifest.getMainAttributes().getValue("Multi-Release"));
+        } catch (final IOException e) {
+            log.debug(e.getMessage(), e);
+            return true; // don't take the risk to load the base version
+        }
+    }
+
+    private static String directory(final String name) {
+        final int slash = name.lastIndexOf('/');
+        return slash < 0 ? "" : name.substring(0, slash);
+    }
+
+    private static final class Archive {
+
+        private final URL url;
+
+        private final JarFile jar;
+
+        private Archive(final URL url, final JarFile jar) {
+            this.url = url;
+            this.jar = jar;
+        }
+
+        private void close() {
+            try {
+                jar.close();
+            } catch (final IOException e) {
+                log.debug(e.getMessage(), e);
+            }
+        }
+    }
+
+    static final class Entry {
+
+        private final Archive archive;
+
+        private final JarEntry entry;
+
+        private Entry(final Archive archive, final JarEntry entry) {
+            this.archive = archive;
+            this.entry = entry;
+        }
+
+        /**
+         * @return the url of the jar owning this entry.
+         */
+        URL getArchiveUrl() {
+            return archive.url;
+        }
+
+        URL toUrl() throws IOException {
+            return new URL("jar:" + archive.url.toExternalForm() + "!/" + entry.getName());
+        }
+
+        Manifest getManifest() throws IOException {
+            return archive.jar.getManifest();
+        }
+
+        byte[] read() throws IOException {
+            final long size = entry.getSize();
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(size > 0 ? (int) size : 1024);
+            final byte[] buffer = new byte[8192];
+            try (final InputStream stream = archive.jar.getInputStream(entry)) {
+                int read;
+                while ((read = stream.read(buffer)) >= 0) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+            return outputStream.toByteArray();
+        }
+
+        /**
+         * @return the certificates of the entry, only available once it has been {@link #read() read}.
+         */
+        Certificate[] getCertificates() {
+            return entry.getCertificates();
+        }
+    }
+}
@@ -54,6 +54,7 @@ import java.util.Objects;
 import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -111,6 +112,21 @@ public class ConfigurableClassLoader extends URLClassLoader {
     @Getter
     private final List<String> cacheableClasses;
 
+    private final int missingClassesCacheSize =
+            Integer.getInteger("talend.component.classloader.missing-classes.cache.size", 10_000);
+
+    private final long missingClassesTtl = TimeUnit.MILLISECONDS
+            .toNanos(Long.getLong("talend.component.classloader.missing-classes.cache.ttl", 60_000L));
+
+    // classes no loader has (nor parent, nor itself, nor the JVM classpath) with the time of the miss, avoids to redo
+    // the walk until the entry expires (a class can be defined later without any resource),
+    // the whole cache is dropped when it is full
+    private final ConcurrentMap<String, Long> missingClasses = new ConcurrentHashMap<>();
+
+    private final Object archiveIndexLock = new Object();
+
+    private volatile ArchiveIndex archiveIndex;
+
     public ConfigurableClassLoader(final String id, final URL[] urls, final ClassLoader parent,
             final Predicate<String> parentFilter, final Predicate<String> childFirstFilter,
             final String[] nestedDependencies, final String[] jvmPrefixes) {
@@ -241,9 +257,30 @@ public class ConfigurableClassLoader extends URLClassLoader {
         } : temporaryCopy;
     }
 
+    private ArchiveIndex archiveIndex() {
+        ArchiveIndex index = archiveIndex;
+        if (index == null) {
+            synchronized (archiveIndexLock) {
+                index = archiveIndex;
+                if (index == null) {
+                    index = ArchiveIndex.of(creationUrls);
+                    archiveIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
     @Override
     public synchronized void close() throws IOException {
         resources.clear();
+        missingClasses.clear();
+        synchronized (archiveIndexLock) {
+            if (archiveIndex != null) {
+                archiveIndex.close();
+            }
+            archiveIndex = ArchiveIndex.EMPTY;
+        }
         if (temporaryCopy != null) {
             try {
                 temporaryCopy.close();
@@ -292,6 +329,9 @@ public class ConfigurableClassLoader extends URLClassLoader {
         if (aClass != null) {
             return aClass;
         }
+        if (isKnownMissing(name)) {
+            throw new ClassNotFoundException(name);
+        }
 
         synchronized (getClassLoadingLock(name)) {
             Class<?> clazz;
@@ -344,19 +384,59 @@ public class ConfigurableClassLoader extends URLClassLoader {
             }
 
             // last chance using java defined classpath
-            clazz = classLoaderFromClasspath.loadClass(name);
+            try {
+                clazz = classLoaderFromClasspath.loadClass(name);
+            } catch (final ClassNotFoundException cnfe) {
+                onMissingClass(name);
+                throw cnfe;
+            }
             if (clazz != null) {
                 return clazz;
             }
 
+            onMissingClass(name);
             throw new ClassNotFoundException(name);
         }
     }
 
+    private boolean isKnownMissing(final String name) {
+        final Long missedAt = missingClasses.get(name);
+        if (missedAt == null) {
+            return false;
+        }
+        // can be defined without lookup
+        if (System.nanoTime() - missedAt > missingClassesTtl || findLoadedClass(name) != null) {
+            missingClasses.remove(name, missedAt);
+            return false;
+        }
+        return true;
+    }
+
+    private void onMissingClass(final String name) {
+        // a class can also be missing because its bytecode could not be read, don't cache these failures
+        final String path = name.replace('.', '/').concat(".class");
+        if (findResource(path) == null && getParent().getResource(path) == null
+                && classLoaderFromClasspath.getResource(path) == null) {
+            if (missingClasses.size() >= missingClassesCacheSize) {
+                missingClasses.clear();
+            }
+            missingClasses.put(name, System.nanoTime());
+        }
+    }
+
+    // the jar walk is skipped when the index knows no jar has this resource
+    private URL findArchiveResource(final String name) {
+        return archiveIndex().mayContain(name) ? super.findResource(name) : null;
+    }
+
+    private Enumeration<URL> findArchiveResources(final String name) throws IOException {
+        return archiveIndex().mayContain(name) ? super.findResources(name) : Collections.emptyEnumeration();
+    }
+
     @Override
     public URL findResource(final String name) {
-        return resources.isEmpty() ? super.findResource(name)
-                : ofNullable(super.findResource(name))
+        return resources.isEmpty() ? findArchiveResource(name)
+                : ofNullable(findArchiveResource(name))
                         .orElseGet(() -> ofNullable(resources.get(name))
                                 .filter(s -> !s.isEmpty())
                                 .map(s -> s.iterator().next())
@@ -404,7 +484,7 @@ public class ConfigurableClassLoader extends URLClassLoader {
     }
 
     private InputStream doGetResourceAsStream(final String name) {
-        final URL resource = super.findResource(name);
+        final URL resource = findArchiveResource(name);
         if (isBlacklisted(name)) {
             logUnexpectedDependency(resource, name);
             return null;
@@ -444,7 +524,7 @@ public class ConfigurableClassLoader extends URLClassLoader {
 
     @Override
     public Enumeration<URL> findResources(final String name) throws IOException {
-        final Enumeration<URL> delegates = super.findResources(name);
+        final Enumeration<URL> delegates = findArchiveResources(name);
         if (resources.isEmpty()) {
             return delegates;
         }
@@ -482,7 +562,7 @@ public class ConfigurableClassLoader extends URLClassLoader {
 
     public List<InputStream> findContainedResources(final String name) {
         try {
-            return Stream.concat(ofNullable(super.findResources(name)).map(urls -> list(urls).stream().map(url -> {
+            return Stream.concat(ofNullable(findArchiveResources(name)).map(urls -> list(urls).stream().map(url -> {
                 try {
                     return url.openStream();
                 } catch (final IOException e) {
@@ -756,74 +836,113 @@ public class ConfigurableClassLoader extends URLClassLoader {
     }
 
     private Class<?> loadInternal(final String name, final boolean resolve) {
-        Class<?> clazz = null;
         final String resourceName = name.replace('.', '/');
         final String path = resourceName.concat(".class");
-        final URL url = super.findResource(path);
-        if (url != null) {
-            try {
-                final URLConnection connection = url.openConnection();
-                connection.setUseCaches(false);
-                if (cacheableClasses.stream().anyMatch(s -> path.startsWith(s))) {
-                    connection.setUseCaches(true);
-                }
-                // package
-                final int i = name.lastIndexOf('.');
-                if (i != -1) {
-                    final String pckName = name.substring(0, i);
-                    final Package pck = super.getPackage(pckName);
-                    if (pck == null) {
-                        if (!JarURLConnection.class.isInstance(connection)) {
-                            doDefinePackage(null, null, pckName);
-                        } else {
-                            final JarURLConnection urlConnection = JarURLConnection.class.cast(connection);
-                            doDefinePackage(urlConnection.getManifest(), urlConnection.getJarFileURL(), pckName);
-                        }
-                    }
+        final ArchiveIndex index = archiveIndex();
+        Class<?> clazz = null;
+        if (index.isComplete()) { // go straight to the owning jar
+            final ArchiveIndex.Entry entry = index.find(path);
+            if (entry != null) {
+                clazz = loadFromArchive(name, resourceName, entry);
+            } else if (!resources.isEmpty()) {
+                clazz = loadFromNested(name, resourceName, path);
+            }
+        } else {
+            final URL url = super.findResource(path);
+            if (url != null) {
+                clazz = loadFromUrl(name, resourceName, path, url);
+            } else if (!resources.isEmpty()) {
+                clazz = loadFromNested(name, resourceName, path);
+            }
+        }
+        if (postLoad(resolve, clazz)) {
+            return clazz;
+        }
+        return null;
+    }
+
+    private Class<?> loadFromArchive(final String name, final String resourceName, final ArchiveIndex.Entry entry) {
+        try {
+            // package
+            final int i = name.lastIndexOf('.');
+            if (i != -1) {
+                final String pckName = name.substring(0, i);
+                if (super.getPackage(pckName) == null) {
+                    doDefinePackage(entry.getManifest(), entry.getArchiveUrl(), pckName);
                 }
+            }
 
-                // read the class and transform it
-                byte[] bytes;
-                try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-                    byte[] buffer = new byte[1024];
-                    int read;
-                    try (final InputStream stream = connection.getInputStream()) {
-                        while ((read = stream.read(buffer)) >= 0) {
-                            if (read == 0) {
-                                continue;
-                            }
-                            outputStream.write(buffer, 0, read);
-                        }
+            final byte[] bytes = doTransform(resourceName, entry.read());
+            return super.defineClass(name, bytes, 0, bytes.length,
+                    new CodeSource(entry.toUrl(), entry.getCertificates()));
+        } catch (final IOException e) {
+            log.warn(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private Class<?> loadFromUrl(final String name, final String resourceName, final String path, final URL url) {
+        try {
+            final URLConnection connection = url.openConnection();
+            connection.setUseCaches(false);
+            if (cacheableClasses.stream().anyMatch(s -> path.startsWith(s))) {
+                connection.setUseCaches(true);
+            }
+            // package
+            final int i = name.lastIndexOf('.');
+            if (i != -1) {
+                final String pckName = name.substring(0, i);
+                final Package pck = super.getPackage(pckName);
+                if (pck == null) {
+                    if (!JarURLConnection.class.isInstance(connection)) {
+                        doDefinePackage(null, null, pckName);
+                    } else {
+                        final JarURLConnection urlConnection = JarURLConnection.class.cast(connection);
+                        doDefinePackage(urlConnection.getManifest(), urlConnection.getJarFileURL(), pckName);
                     }
-                    bytes = outputStream.toByteArray();
                 }
-                final Certificate[] certificates = JarURLConnection.class.isInstance(connection)
-                        ? JarURLConnection.class.cast(connection).getCertificates()
-                        : NO_CERTIFICATES;
-                bytes = doTransform(resourceName, bytes);
-                clazz = super.defineClass(name, bytes, 0, bytes.length, new CodeSource(url, certificates));
-            } catch (final IOException e) {
-                log.warn(e.getMessage(), e);
-                return null;
             }
-        } else if (!resources.isEmpty()) {
-            final Collection<Resource> resources = this.resources.get(name.replace(".", "/") + ".class");
-            if (resources != null && !resources.isEmpty()) {
-                final Resource resource = resources.iterator().next();
 
-                final int i = name.lastIndexOf('.');
-                if (i != -1) {
-                    doDefinePackage(resource.manifest, null, name.substring(0, i));
+            // read the class and transform it
+            byte[] bytes;
+            try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+                byte[] buffer = new byte[1024];
+                int read;
+                try (final InputStream stream = connection.getInputStream()) {
+                    while ((read = stream.read(buffer)) >= 0) {
+                        if (read == 0) {
+                            continue;
+                        }
+                        outputStream.write(buffer, 0, read);
+                    }
                 }
-
-                final byte[] bytes = doTransform(resourceName, resource.resource);
-                clazz = defineClass(name, bytes, 0, bytes.length, resource.codeSource);
+                bytes = outputStream.toByteArray();
             }
+            final Certificate[] certificates = JarURLConnection.class.isInstance(connection)
+                    ? JarURLConnection.class.cast(connection).getCertificates()
+                    : NO_CERTIFICATES;
+            bytes = doTransform(resourceName, bytes);
+            return super.defineClass(name, bytes, 0, bytes.length, new CodeSource(url, certificates));
+        } catch (final IOException e) {
+            log.warn(e.getMessage(), e);
+            return null;
         }
-        if (postLoad(resolve, clazz)) {
-            return clazz;
+    }
+
+    private Class<?> loadFromNested(final String name, final String resourceName, final String path) {
+        final Collection<Resource> resources = this.resources.get(path);
+        if (resources == null || resources.isEmpty()) {
+            return null;
         }
-        return null;
+        final Resource resource = resources.iterator().next();
+
+        final int i = name.lastIndexOf('.');
+        if (i != -1) {
+            doDefinePackage(resource.manifest, null, name.substring(0, i));
+        }
+
+        final byte[] bytes = doTransform(resourceName, resource.resource);
+        return defineClass(name, bytes, 0, bytes.length, resource.codeSource);
     }
 
     private byte[] doTransform(final String resourceName, final byte[] inBytes) {
@@ -77,6 +77,9 @@ public class ContainerManager implements Lifecycle {
 
     private final ConcurrentMap<String, Container> containers = new ConcurrentHashMap<>();
 
+    // plugins often share their dependencies, resolve them once (concurrent deployments included)
+    private final ConcurrentMap<String, Path> resolvedPaths = new ConcurrentHashMap<>();
+
     private final ClassLoaderConfiguration classLoaderConfiguration;
 
     @Getter
@@ -220,6 +223,20 @@ public class ContainerManager implements Lifecycle {
     }
 
     public Path resolve(final String path) {
+        final Path cached = resolvedPaths.get(path);
+        if (cached != null && Files.exists(cached)) {
+            return cached;
+        }
+        final Path resolved = doResolve(path);
+        if (Files.exists(resolved)) {
+            resolvedPaths.put(path, resolved);
+        } else if (cached != null) {
+            resolvedPaths.remove(path, cached);
+        }
+        return resolved;
+    }
+
+    private Path doResolve(final String path) {
         final Path direct = PathFactory.get(path);
         if (Files.exists(direct)) {
             return direct;
@@ -400,6 +417,7 @@ public class ContainerManager implements Lifecycle {
         lifecycle.closeIfNeeded(() -> {
             containers.values().forEach(Container::close);
             containers.clear();
+            resolvedPaths.clear();
         });
     }
 
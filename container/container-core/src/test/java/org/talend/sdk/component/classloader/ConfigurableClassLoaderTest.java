@@ -20,9 +20,11 @@ import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -43,8 +45,10 @@ import java.util.List;
 import java.util.ServiceLoader;
 import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.jar.Attributes;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import java.util.zip.ZipEntry;
@@ -344,6 +348,42 @@ class ConfigurableClassLoaderTest {
         }
     }
 
+    @Test
+    void multiReleaseJarsAreNotIndexed(@TempDir final File temporaryFolder) throws IOException {
+        final File jar = new File(temporaryFolder, "multi-release.jar");
+        final Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().putValue("Multi-Release", "true");
+        try (final JarOutputStream outputStream = new JarOutputStream(new FileOutputStream(jar), manifest)) {
+            outputStream.putNextEntry(new JarEntry("org/talend/Foo.class"));
+            outputStream.closeEntry();
+        }
+        try (final ArchiveIndex index = ArchiveIndex.of(new URL[] { jar.toURI().toURL() })) {
+            assertFalse(index.isComplete());
+        }
+    }
+
+    @Test
+    void indexedLookups() throws Exception {
+        final ClassLoader parent = ConfigurableClassLoaderTest.class.getClassLoader();
+        try (final ConfigurableClassLoader loader =
+                new ConfigurableClassLoader("",
+                        new URL[] { new File(Constants.DEPENDENCIES_LOCATION,
+                                "org/apache/tomee/ziplock/8.0.14/ziplock-8.0.14.jar").toURI().toURL() },
+                        parent, name -> true, name -> true, null, new String[0])) {
+            final Class<?> jarLocation = loader.loadClass("org.apache.ziplock.JarLocation");
+            assertEquals(loader, jarLocation.getClassLoader());
+            assertNotNull(jarLocation.getProtectionDomain().getCodeSource().getLocation());
+            assertNotNull(loader.getResource("org/apache/ziplock/JarLocation.class"));
+            assertNull(loader.findResource("org/apache/ziplock/missing.properties"));
+            assertNull(loader.findResource("org/talend/missing/Missing.class"));
+            for (int i = 0; i < 2; i++) { // second lookup hits the missing classes cache
+                assertThrows(ClassNotFoundException.class,
+                        () -> loader.loadClass("org.talend.sdk.component.classloader.Missing"));
+            }
+        }
+    }
+
     private void assertXmlReader() throws SAXException {
         final XMLReader xmlReader = XMLReaderFactory.createXMLReader();
         final Class<? extends XMLReader> clazz = xmlReader.getClass();
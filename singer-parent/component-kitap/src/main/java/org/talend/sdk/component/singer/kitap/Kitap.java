@@ -29,7 +29,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -50,11 +56,14 @@ import org.talend.sdk.component.runtime.input.Mapper;
 import org.talend.sdk.component.runtime.manager.ComponentManager;
 import org.talend.sdk.component.singer.java.Singer;
 import org.talend.sdk.component.singer.java.SingerArgs;
+import org.talend.sdk.component.singer.java.SingerStreamWriter;
 
 import lombok.RequiredArgsConstructor;
 
 public final class Kitap implements Runnable {
 
+    private static final Object PARTITION_END = new Object();
+
     private final SingerArgs args;
 
     private final Singer singer;
@@ -163,8 +172,16 @@ public final class Kitap implements Runnable {
 
     private void readAll(final JsonObject config, final JsonObject stream, final String streamName,
             final Mapper mapper) {
+        final int outputBufferSize = args.getConfig().getInt("outputBufferSize", 65536);
+        try (final SingerStreamWriter output = singer.streamWriter(outputBufferSize)) {
+            readAll(config, stream, streamName, mapper, output);
+        }
+    }
+
+    private void readAll(final JsonObject config, final JsonObject stream, final String streamName,
+            final Mapper mapper, final SingerStreamWriter output) {
         final AtomicReference<Schema> lastSchema = new AtomicReference<>();
-        records(mapper).peek(record -> {
+        final Consumer<Record> writer = record -> {
             final Schema newSchema = record.getSchema();
             if (!newSchema.equals(lastSchema.get())) {
                 final JsonArray keys = config != null && config.containsKey("keys") ? config.getJsonArray("keys")
@@ -174,15 +191,99 @@ public final class Kitap implements Runnable {
                                 : jsonBuilderFactory.createArrayBuilder().build();
                 final JsonObject schema = ofNullable(stream.getJsonObject("schema"))
                         .orElseGet(() -> new JsonSchemaGenerator(newSchema.getEntries(), jsonBuilderFactory).get());
-                singer.writeSchema(streamName, schema, keys, bookmarks);
+                output.writeSchema(streamName, schema, keys, bookmarks);
                 lastSchema.set(newSchema);
             }
-        }).forEach(record -> singer.writeRecord(streamName, recordJsonMapper.apply(record)));
+            output.writeRecord(streamName, generator -> recordJsonMapper.write(record, generator));
+        };
+
+        final int parallelism = args.getConfig().getInt("parallelism", 1);
+        if (parallelism <= 1) {
+            records(mapper).forEach(writer);
+            return;
+        }
+        final List<Mapper> partitions = createPartitions(mapper);
+        if (partitions.size() <= 1) {
+            records(partitions).forEach(writer);
+            return;
+        }
+        readInParallel(partitions, Math.min(parallelism, partitions.size()),
+                args.getConfig().getInt("parallelismQueueSize", 1024), writer);
+    }
+
+    /**
+     * Reads each partition on its own worker. The workers push the records to a bounded queue,
+     * the calling thread is the only one writing the messages so the per stream SCHEMA/RECORD ordering
+     * is still handled by the writer. Records of a partition keep their order, partitions are interleaved.
+     */
+    private void readInParallel(final List<Mapper> partitions, final int parallelism, final int queueSize,
+            final Consumer<Record> writer) {
+        final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(Math.max(1, queueSize));
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ExecutorService workers = Executors.newFixedThreadPool(parallelism, r -> {
+            final Thread thread = new Thread(r, "kitap-partition-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            partitions.forEach(partition -> workers.execute(() -> readPartition(partition, queue)));
+            int remaining = partitions.size();
+            while (remaining > 0) {
+                final Object next = queue.take();
+                if (next == PARTITION_END) {
+                    remaining--;
+                } else if (PartitionFailure.class.isInstance(next)) {
+                    final Throwable error = PartitionFailure.class.cast(next).error;
+                    if (RuntimeException.class.isInstance(error)) {
+                        throw RuntimeException.class.cast(error);
+                    }
+                    if (Error.class.isInstance(error)) {
+                        throw Error.class.cast(error);
+                    }
+                    throw new IllegalStateException(error);
+                } else {
+                    writer.accept(Record.class.cast(next));
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            workers.shutdownNow(); // on failure it unblocks the workers waiting for the queue
+        }
+    }
+
+    private void readPartition(final Mapper partition, final BlockingQueue<Object> queue) {
+        try {
+            final Input input = partition.create();
+            input.start();
+            try {
+                Object next;
+                while ((next = input.next()) != null) {
+                    queue.put(Record.class.cast(next));
+                }
+            } finally {
+                input.stop();
+            }
+            queue.put(PARTITION_END);
+        } catch (final InterruptedException ie) { // reading was aborted
+            Thread.currentThread().interrupt();
+        } catch (final RuntimeException | Error e) {
+            try {
+                queue.put(new PartitionFailure(e));
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
     }
 
     private Stream<Record> records(final Mapper mapper) {
-        return createPartitions(mapper)
-                .stream() // note: can be parallelized at some point if needed but NOT parallelStream() please
+        return records(createPartitions(mapper));
+    }
+
+    private Stream<Record> records(final List<Mapper> partitions) {
+        return partitions
+                .stream() // note: see readInParallel for the parallel mode, NOT parallelStream() please
                 .flatMap(m -> {
                     final Input input = m.create();
                     input.start();
@@ -248,6 +349,12 @@ public final class Kitap implements Runnable {
         new Kitap(args).run();
     }
 
+    @RequiredArgsConstructor
+    private static final class PartitionFailure {
+
+        private final Throwable error;
+    }
+
     @RequiredArgsConstructor
     private static final class InputIterator implements Iterator<Record> {
 
@@ -22,9 +22,12 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
@@ -40,9 +43,11 @@ import javax.json.JsonObjectBuilder;
 import javax.json.bind.JsonbConfig;
 import javax.json.bind.spi.JsonbProvider;
 import javax.json.spi.JsonProvider;
+import javax.json.stream.JsonGenerator;
 
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.record.SchemaProperty;
 import org.talend.sdk.component.api.service.record.RecordService;
 import org.talend.sdk.component.api.service.record.RecordVisitor;
 import org.talend.sdk.component.runtime.manager.service.DefaultServiceProvider;
@@ -71,6 +76,164 @@ public class RecordJsonMapper implements Function<Record, JsonObject> {
         return service.visit(new JsonVisitor(singer, service, jsonBuilderFactory), record);
     }
 
+    /**
+     * Streams the record attributes in the current object of the generator without building a {@link JsonObject},
+     * the output is the one of {@link #apply(Record)}: nested records are written after the other attributes.
+     *
+     * @param record the record to write.
+     * @param generator the generator, positioned in the object to fill.
+     */
+    public void write(final Record record, final JsonGenerator generator) {
+        List<Schema.Entry> nestedRecords = null;
+        final Iterator<Schema.Entry> entries = record.getSchema().getAllEntries().iterator();
+        while (entries.hasNext()) {
+            final Schema.Entry entry = entries.next();
+            if (entry.getType() == Schema.Type.RECORD) {
+                if (nestedRecords == null) {
+                    nestedRecords = new ArrayList<>();
+                }
+                nestedRecords.add(entry);
+            } else {
+                writeEntry(record, entry, generator);
+            }
+        }
+        if (nestedRecords != null) {
+            for (final Schema.Entry entry : nestedRecords) {
+                final Optional<Record> nested = record.getOptionalRecord(entry.getName());
+                if (nested.isPresent()) {
+                    generator.writeStartObject(entry.getName());
+                    write(nested.get(), generator);
+                    generator.writeEnd();
+                }
+            }
+        }
+    }
+
+    private void writeEntry(final Record record, final Schema.Entry entry, final JsonGenerator generator) {
+        final String name = entry.getName();
+        switch (entry.getType()) {
+        case INT:
+            record.getOptionalInt(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case LONG:
+            record.getOptionalLong(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case FLOAT:
+            record.getOptionalFloat(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case DOUBLE:
+            record.getOptionalDouble(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case BOOLEAN:
+            record.getOptionalBoolean(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case STRING:
+            if (!"id_Object".equals(entry.getProp(SchemaProperty.STUDIO_TYPE))) { // not mapped by the visitor
+                record.getOptionalString(name).ifPresent(v -> generator.write(name, v));
+            }
+            break;
+        case DATETIME:
+            record.getOptionalDateTime(name).ifPresent(v -> generator.write(name, singer.formatDate(v)));
+            break;
+        case DECIMAL:
+            record.getOptionalDecimal(name).ifPresent(v -> generator.write(name, v.toString()));
+            break;
+        case BYTES:
+            record
+                    .getOptionalBytes(name)
+                    .ifPresent(v -> generator.write(name, Base64.getEncoder().encodeToString(v)));
+            break;
+        case ARRAY:
+            writeArray(record, entry, generator);
+            break;
+        default:
+            throw new IllegalStateException("Unsupported entry type: " + entry);
+        }
+    }
+
+    private void writeArray(final Record record, final Schema.Entry entry, final JsonGenerator generator) {
+        final String name = entry.getName();
+        switch (entry.getElementSchema().getType()) {
+        case INT:
+            record.getOptionalArray(int.class, name).ifPresent(vs -> {
+                generator.writeStartArray(name);
+                vs.forEach(v -> generator.write((int) v));
+                generator.writeEnd();
+            });
+            break;
+        case LONG:
+            record.getOptionalArray(long.class, name).ifPresent(vs -> {
+                generator.writeStartArray(name);
+                vs.forEach(v -> generator.write((long) v));
+                generator.writeEnd();
+            });
+            break;
+        case FLOAT:
+            record.getOptionalArray(float.class, name).ifPresent(vs -> {
+                generator.writeStartArray(name);
+                vs.forEach(v -> generator.write((double) v));
+                generator.writeEnd();
+            });
+            break;
+        case DOUBLE:
+            record.getOptionalArray(double.class, name).ifPresent(vs -> {
+                generator.writeStartArray(name);
+                vs.forEach(v -> generator.write((double) v));
+                generator.writeEnd();
+            });
+            break;
+        case BOOLEAN:
+            record.getOptionalArray(boolean.class, name).ifPresent(vs -> {
+                generator.writeStartArray(name);
+                vs.forEach(v -> generator.write((boolean) v));
+                generator.writeEnd();
+            });
+            break;
+        case STRING:
+            record.getOptionalArray(String.class, name).ifPresent(vs -> {
+                generator.writeStartArray(name);
+                vs.forEach(generator::write);
+                generator.writeEnd();
+            });
+            break;
+        case DATETIME:
+            record.getOptionalArray(ZonedDateTime.class, name).ifPresent(vs -> {
+                generator.writeStartArray(name);
+                vs.forEach(v -> generator.write(singer.formatDate(v)));
+                generator.writeEnd();
+            });
+            break;
+        case DECIMAL:
+            record.getOptionalArray(BigDecimal.class, name).ifPresent(vs -> {
+                generator.writeStartArray(name);
+                vs.forEach(v -> generator.write(v.toString()));
+                generator.writeEnd();
+            });
+            break;
+        case BYTES:
+            record.getOptionalArray(byte[].class, name).ifPresent(vs -> {
+                generator.writeStartArray(name);
+                vs.forEach(v -> generator.write(Base64.getEncoder().encodeToString(v)));
+                generator.writeEnd();
+            });
+            break;
+        case RECORD:
+            record.getOptionalArray(Record.class, name).ifPresent(vs -> {
+                generator.writeStartArray(name);
+                vs.forEach(v -> {
+                    generator.writeStartObject();
+                    write(v, generator);
+                    generator.writeEnd();
+                });
+                generator.writeEnd();
+            });
+            break;
+        // array of array is not yet supported!
+        default:
+            throw new IllegalStateException("Unsupported entry type: " + entry);
+        }
+    }
+
     private static class JsonVisitor implements RecordVisitor<JsonObject> {
 
         private final Singer singer;
@@ -33,7 +33,15 @@ import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -148,4 +156,41 @@ class KitapTest {
                     actuals, actuals::toString);
         }
     }
+
+    @Test
+    void readAllInParallel(@TempDir final Path tempDir) throws IOException {
+        final Path parallelConfig = tempDir.resolve("config.json");
+        Files
+                .write(parallelConfig,
+                        "{\"parallelism\":3,\"component\":{\"family\":\"kitaptest\",\"name\":\"kitappartitioned\",\"version\":1,\"configuration\":{\"configuration.partitions\":3,\"configuration.recordCount\":5}}}"
+                                .getBytes(StandardCharsets.UTF_8));
+        final Kitap kitap = new Kitap(new SingerArgs("--config", parallelConfig.toAbsolutePath().toString()),
+                new Singer(new IO(), () -> CONSTANT_DATE));
+        kitap.run();
+        flushIO.run();
+
+        final List<JsonObject> messages;
+        try (final BufferedReader reader = new BufferedReader(new StringReader(stdout.toString("UTF-8")))) {
+            messages = reader.lines().map(line -> {
+                try (final JsonReader jsonReader = Json.createReader(new StringReader(line))) {
+                    return jsonReader.readObject();
+                }
+            }).collect(toList());
+        }
+        assertEquals(16, messages.size(), messages::toString);
+        assertEquals("SCHEMA", messages.get(0).getString("type"));
+
+        // partitions are interleaved but each of them keeps its order
+        final Map<Integer, List<Integer>> recordsPerPartition = new HashMap<>();
+        messages.stream().skip(1).forEach(message -> {
+            assertEquals("RECORD", message.getString("type"));
+            final JsonObject record = message.getJsonObject("record");
+            recordsPerPartition
+                    .computeIfAbsent(record.getInt("partition"), k -> new ArrayList<>())
+                    .add(record.getInt("record_number"));
+        });
+        assertEquals(3, recordsPerPartition.size());
+        final List<Integer> expected = IntStream.rangeClosed(1, 5).boxed().collect(toList());
+        recordsPerPartition.values().forEach(numbers -> assertEquals(expected, numbers));
+    }
 }
@@ -19,6 +19,7 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.singleton;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -26,8 +27,10 @@ import java.time.ZonedDateTime;
 
 import javax.json.Json;
 import javax.json.JsonObject;
+import javax.json.stream.JsonGenerator;
 
 import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
@@ -73,4 +76,29 @@ class RecordJsonMapperTest {
                 + "\"nested\":{\"value\":\"set\",\"nested2\":{\"l2\":2}}}",
                 object.toString());
     }
+
+    @Test
+    void write() {
+        final RecordJsonMapper mapper =
+                new RecordJsonMapper(Json.createBuilderFactory(emptyMap()), new Singer(new IO(), ZonedDateTime::now));
+        final Record record = factory
+                .newRecordBuilder()
+                .withString("name", "hello")
+                .withRecord("nested", factory.newRecordBuilder().withString("value", "set").build())
+                .withArray(factory
+                        .newEntryBuilder()
+                        .withType(Schema.Type.ARRAY)
+                        .withName("array")
+                        .withElementSchema(factory.newSchemaBuilder(Schema.Type.STRING).build())
+                        .build(), singleton("value-from-array"))
+                .withInstant("instant", INSTANT)
+                .build();
+        final StringWriter output = new StringWriter();
+        try (final JsonGenerator generator = Json.createGenerator(output)) {
+            generator.writeStartObject();
+            mapper.write(record, generator);
+            generator.writeEnd();
+        }
+        assertEquals(mapper.apply(record).toString(), output.toString());
+    }
 }
@@ -18,6 +18,7 @@ package org.talend.sdk.component.singer.java;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 
+import java.io.PrintStream;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -27,6 +28,7 @@ import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonBuilderFactory;
 import javax.json.JsonObject;
+import javax.json.stream.JsonGeneratorFactory;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,6 +41,8 @@ public class Singer {
 
     private final JsonBuilderFactory builderFactory = Json.createBuilderFactory(emptyMap());
 
+    private final JsonGeneratorFactory generatorFactory = Json.createGeneratorFactory(emptyMap());
+
     private final DateTimeFormatter rfc339 =
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSSSS'Z'").withZone(ZoneId.of("UTC"));
 
@@ -79,6 +83,24 @@ public class Singer {
         runIo.getStdout().println(json);
     }
 
+    /**
+     * @param bufferSize the number of buffered characters triggering a flush.
+     * @return a writer serializing the messages in a buffer which is written at once on stdout when full or flushed,
+     * it must be used by a single thread and closed to write the last messages.
+     */
+    public SingerStreamWriter streamWriter(final int bufferSize) {
+        return new SingerStreamWriter(this, generatorFactory, dateTimeSupplier, bufferSize);
+    }
+
+    /**
+     * @param messages already serialized messages, one per line.
+     */
+    public synchronized void writeRaw(final CharSequence messages) {
+        final PrintStream stdout = runIo.getStdout();
+        stdout.append(messages);
+        stdout.flush();
+    }
+
     public synchronized void stdout(final String message) {
         runIo.getStdout().println(message);
     }
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.singer.java;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Flushable;
+import java.io.StringWriter;
+import java.time.ZonedDateTime;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
+
+/**
+ * Writes the singer messages with a {@link JsonGenerator} straight into a buffer, without building
+ * the message {@link JsonObject}. The buffer is written on stdout, under the {@link Singer} lock, once it
+ * reaches the buffer size, when flushed or when closed, so the lock and stdout flush are paid per batch.
+ *
+ * Messages are buffered in order so SCHEMA, RECORD and STATE messages written through the same writer
+ * keep their relative order, it is not thread safe.
+ */
+public class SingerStreamWriter implements Flushable, AutoCloseable {
+
+    private static final String EOL = System.lineSeparator();
+
+    private final Singer singer;
+
+    private final JsonGeneratorFactory generatorFactory;
+
+    private final Supplier<ZonedDateTime> dateTimeSupplier;
+
+    private final int bufferSize;
+
+    private final StringWriter buffer;
+
+    SingerStreamWriter(final Singer singer, final JsonGeneratorFactory generatorFactory,
+            final Supplier<ZonedDateTime> dateTimeSupplier, final int bufferSize) {
+        this.singer = singer;
+        this.generatorFactory = generatorFactory;
+        this.dateTimeSupplier = dateTimeSupplier;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.buffer = new StringWriter(Math.min(this.bufferSize, 1024 * 1024) + 1024);
+    }
+
+    public void writeState(final JsonObject state) {
+        write(generator -> generator.write("type", "STATE").write("value", state));
+    }
+
+    public void writeSchema(final String stream, final JsonObject schema, final JsonArray keys,
+            final JsonArray bookmarks) {
+        requireNonNull(stream, "stream can't be null");
+        write(generator -> generator
+                .write("type", "SCHEMA")
+                .write("stream", stream)
+                .write("schema", schema)
+                .write("key_properties", keys)
+                .write("bookmark_properties", bookmarks));
+    }
+
+    public void writeRecord(final String stream, final JsonObject record) {
+        writeRecord(stream, generator -> record.forEach(generator::write));
+    }
+
+    /**
+     * @param stream the stream of the record.
+     * @param record writes the record attributes, the generator is positioned in the record object.
+     */
+    public void writeRecord(final String stream, final Consumer<JsonGenerator> record) {
+        requireNonNull(stream, "stream can't be null");
+        write(generator -> {
+            generator
+                    .write("type", "RECORD")
+                    .write("stream", stream)
+                    .write("time_extracted", singer.formatDate(dateTimeSupplier.get()))
+                    .writeStartObject("record");
+            record.accept(generator);
+            generator.writeEnd();
+        });
+    }
+
+    @Override
+    public void flush() {
+        final StringBuffer content = buffer.getBuffer();
+        if (content.length() == 0) {
+            return;
+        }
+        singer.writeRaw(content);
+        content.setLength(0);
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    private void write(final Consumer<JsonGenerator> message) {
+        final int start = buffer.getBuffer().length();
+        // closing the generator only flushes it, closing a StringWriter is a no-op
+        try (final JsonGenerator generator = generatorFactory.createGenerator(buffer)) {
+            generator.writeStartObject();
+            message.accept(generator);
+            generator.writeEnd();
+        } catch (final RuntimeException re) { // don't leave a partial message in the buffer
+            buffer.getBuffer().setLength(start);
+            throw re;
+        }
+        buffer.write(EOL);
+        if (buffer.getBuffer().length() >= bufferSize) {
+            flush();
+        }
+    }
+}
@@ -52,6 +52,27 @@ class SingerTest {
                 "{\"type\":\"STATE\",\"value\":{\"offset\":1}}");
     }
 
+    @Test
+    void streamWriter() throws UnsupportedEncodingException {
+        final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        final PrintStream stdoutPs = new PrintStream(stdout);
+        final Singer singer = new Singer(new IO(System.in, stdoutPs, faillingPrintStream()),
+                () -> ZonedDateTime.of(2019, 8, 23, 11, 26, 0, 0, ZoneId.of("UTC")));
+        try (final SingerStreamWriter writer = singer.streamWriter(1024)) {
+            writer
+                    .writeSchema("test_stream", Json.createObjectBuilder().add("id", 1).add("name", "Test").build(),
+                            Json.createArrayBuilder().add("foo").build(), Json.createArrayBuilder().add("bar").build());
+            writer.writeRecord("test_stream", generator -> generator.write("id", 1).write("name", "Test"));
+            writer.writeState(Json.createObjectBuilder().add("offset", 1).build());
+            assertEquals(0, stdout.size()); // batched
+        }
+        assertEquals(
+                "{\"type\":\"SCHEMA\",\"stream\":\"test_stream\",\"schema\":{\"id\":1,\"name\":\"Test\"},\"key_properties\":[\"foo\"],\"bookmark_properties\":[\"bar\"]}\n"
+                        + "{\"type\":\"RECORD\",\"stream\":\"test_stream\",\"time_extracted\":\"2019-08-23T11:26:00.000000Z\",\"record\":{\"id\":1,\"name\":\"Test\"}}\n"
+                        + "{\"type\":\"STATE\",\"value\":{\"offset\":1}}",
+                stdout.toString("UTF-8").trim().replace(System.lineSeparator(), "\n"));
+    }
+
     private void write(final Consumer<Singer> singerConsumer, final String expected)
             throws UnsupportedEncodingException {
         final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
@@ -31,7 +31,8 @@ import org.talend.sdk.component.maven.api.Audience;
 import org.talend.sdk.component.tools.ScanTask;
 
 /**
- * Pre-scan the components and services in current component.
+ * Pre-scan the components and services in current component and index them per annotation
+ * so the runtime neither scans nor revalidates them.
  */
 @Audience(PUBLIC)
 @Mojo(name = "scan-descriptor", defaultPhase = PROCESS_CLASSES, requiresDependencyResolution = COMPILE_PLUS_RUNTIME,
@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.components.vault.client;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DecryptStatistics implements VaultDecryptStatisticsMXBean {
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder failedBatches = new LongAdder();
+
+    private final LongAdder batchedValues = new LongAdder();
+
+    private final LongAdder joinedValues = new LongAdder();
+
+    private final LongAdder responses = new LongAdder();
+
+    private final LongAdder latency = new LongAdder();
+
+    private final AtomicLong maxBatchSize = new AtomicLong();
+
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    private ObjectName objectName;
+
+    void onJoin() {
+        joinedValues.increment();
+    }
+
+    void onBatch(final int size) {
+        batches.increment();
+        batchedValues.add(size);
+        maxBatchSize.accumulateAndGet(size, Math::max);
+    }
+
+    void onResponse(final long duration, final boolean failed) {
+        if (failed) {
+            failedBatches.increment();
+        }
+        responses.increment();
+        latency.add(duration);
+        maxLatency.accumulateAndGet(duration, Math::max);
+    }
+
+    synchronized void registerJmx() {
+        if (objectName != null || Boolean.getBoolean("talend.vault.cache.jmx.skip")) {
+            return;
+        }
+        try {
+            final ObjectName name = new ObjectName("org.talend.sdk.components.vault:type=decrypt,name=statistics");
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            objectName = name;
+        } catch (final InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException
+                | MalformedObjectNameException e) {
+            log.warn("{}: {}", e.getClass().getSimpleName(), e.getMessage());
+        }
+    }
+
+    synchronized void unregisterJmx() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (final InstanceNotFoundException | MBeanRegistrationException e) {
+            log.debug(e.getMessage(), e);
+        }
+        objectName = null;
+    }
+
+    @Override
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    @Override
+    public long getFailedBatches() {
+        return failedBatches.sum();
+    }
+
+    @Override
+    public long getBatchedValues() {
+        return batchedValues.sum();
+    }
+
+    @Override
+    public long getJoinedValues() {
+        return joinedValues.sum();
+    }
+
+    @Override
+    public double getAverageBatchSize() {
+        final long count = batches.sum();
+        return count == 0 ? 0 : batchedValues.sum() / (double) count;
+    }
+
+    @Override
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    @Override
+    public double getAverageLatency() {
+        final long count = responses.sum();
+        return count == 0 ? 0 : latency.sum() / (double) count;
+    }
+
+    @Override
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+}
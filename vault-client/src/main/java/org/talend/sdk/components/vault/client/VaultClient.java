@@ -15,6 +15,7 @@
  */
 package org.talend.sdk.components.vault.client;
 
+import static java.util.Collections.singletonList;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -28,19 +29,24 @@ import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -140,6 +146,16 @@ public class VaultClient {
     @ConfigProperty(name = "talend.vault.cache.service.decipher.skip.regex", defaultValue = "vault\\:v[0-9]+\\:.*")
     private String passthroughRegex;
 
+    @Inject
+    @Documentation("How long (in ms) the values missing in the cache are accumulated to be sent to vault in a single decrypt request per tenant. `0` sends them right away, concurrent requests of the same values are still merged.")
+    @ConfigProperty(name = "talend.vault.cache.service.decrypt.batch.window", defaultValue = "5")
+    private Long decryptBatchWindow;
+
+    @Inject
+    @Documentation("Maximum number of values of a decrypt request, a batch reaching this size is sent without waiting for the end of the window.")
+    @ConfigProperty(name = "talend.vault.cache.service.decrypt.batch.maxSize", defaultValue = "256")
+    private Integer decryptBatchMaxSize;
+
     @Inject
     private Cache<String, DecryptedValue> cache;
 
@@ -148,6 +164,14 @@ public class VaultClient {
 
     private final AtomicReference<Authentication> authToken = new AtomicReference<>();
 
+    // values being decrypted, late callers join the pending future instead of requesting them again
+    private final ConcurrentMap<PendingKey, CompletableFuture<DecryptedValue>> pendings = new ConcurrentHashMap<>();
+
+    // batch being filled per tenant
+    private final ConcurrentMap<Optional<String>, DecryptBatch> batches = new ConcurrentHashMap<>();
+
+    private final DecryptStatistics statistics = new DecryptStatistics();
+
     private ScheduledExecutorService scheduledExecutorService;
 
     private Pattern compiledPassthroughRegex;
@@ -166,10 +190,14 @@ public class VaultClient {
     @PostConstruct
     private void init() {
         compiledPassthroughRegex = Pattern.compile(passthroughRegex);
+        statistics.registerJmx();
     }
 
     @PreDestroy
     private void destroy() {
+        statistics.unregisterJmx();
+        final IllegalStateException stopped = new IllegalStateException("Vault client is stopped");
+        pendings.values().forEach(it -> it.completeExceptionally(stopped));
         scheduledExecutorService.shutdownNow(); // we don't care anymore about these tasks
         try {
             scheduledExecutorService.awaitTermination(1L, MINUTES); // wait too much but enough for our goal
@@ -224,7 +252,7 @@ public class VaultClient {
 
     private CompletableFuture<Map<String, String>> prepareRequest(final Map<String, String> values,
             final List<String> cipheredKeys, final String tenantId) {
-        return get(cipheredKeys.stream().map(values::get).collect(toList()), clock.millis(), tenantId)
+        return get(cipheredKeys.stream().map(values::get).collect(toList()), tenantId)
                 .thenApply(decrypted -> values
                         .entrySet()
                         .stream()
@@ -236,8 +264,7 @@ public class VaultClient {
                                         .orElseGet(() -> values.get(e.getKey())))));
     }
 
-    private CompletableFuture<List<DecryptedValue>> get(final Collection<String> values, final long currentTime,
-            final String tenantId) {
+    private CompletableFuture<List<DecryptedValue>> get(final Collection<String> values, final String tenantId) {
         final AtomicInteger index = new AtomicInteger();
         final Collection<EntryWithIndex<String>> clearValues = values
                 .stream()
@@ -245,21 +272,20 @@ public class VaultClient {
                 .filter(it -> it.entry != null && !compiledPassthroughRegex.matcher(it.entry).matches())
                 .collect(toList());
         if (clearValues.isEmpty()) {
-            return doDecipher(values, currentTime, tenantId).toCompletableFuture();
+            return doDecipher(values, tenantId).toCompletableFuture();
         }
         if (clearValues.size() == values.size()) {
             final long now = clock.millis();
             return completedFuture(values.stream().map(it -> new DecryptedValue(it, now)).collect(toList()));
         }
-        return doDecipher(values, currentTime, tenantId).thenApply(deciphered -> {
+        return doDecipher(values, tenantId).thenApply(deciphered -> {
             final long now = clock.millis();
             clearValues.forEach(entry -> deciphered.add(entry.index, new DecryptedValue(entry.entry, now)));
             return deciphered;
         }).toCompletableFuture();
     }
 
-    private CompletionStage<List<DecryptedValue>> doDecipher(final Collection<String> values, final long currentTime,
-            final String tenantId) {
+    private CompletionStage<List<DecryptedValue>> doDecipher(final Collection<String> values, final String tenantId) {
         final Map<String, Optional<DecryptedValue>> alreadyCached =
                 new HashSet<>(values).stream().collect(toMap(identity(), it -> ofNullable(cache.get(it))));
         final Collection<String> missing = alreadyCached
@@ -271,6 +297,113 @@ public class VaultClient {
         if (missing.isEmpty()) { // no remote call, yeah
             return completedFuture(values.stream().map(alreadyCached::get).map(Optional::get).collect(toList()));
         }
+        final Map<String, CompletableFuture<DecryptedValue>> decrypting = new HashMap<>(missing.size());
+        final Collection<DecryptBatch> touchedBatches = new HashSet<>();
+        for (final String value : missing) {
+            final CompletableFuture<DecryptedValue> candidate = new CompletableFuture<>();
+            final CompletableFuture<DecryptedValue> existing =
+                    pendings.putIfAbsent(new PendingKey(tenantId, value), candidate);
+            if (existing != null) {
+                statistics.onJoin();
+                decrypting.put(value, existing);
+            } else {
+                touchedBatches.add(enqueue(tenantId, value, candidate));
+                decrypting.put(value, candidate);
+            }
+        }
+        touchedBatches.stream().filter(batch -> !batch.scheduled).forEach(this::flush); // no window
+        return CompletableFuture
+                .allOf(decrypting.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(done -> values
+                        .stream()
+                        .map(it -> ofNullable(decrypting.get(it))
+                                .map(CompletableFuture::join)
+                                .orElseGet(() -> alreadyCached.get(it).orElse(null)))
+                        .collect(toList()));
+    }
+
+    private DecryptBatch enqueue(final String tenantId, final String value,
+            final CompletableFuture<DecryptedValue> future) {
+        final Optional<String> key = ofNullable(tenantId);
+        while (true) {
+            final DecryptBatch batch = batches.computeIfAbsent(key, k -> newBatch(tenantId));
+            final boolean full;
+            synchronized (batch) {
+                if (batch.sent) { // flushed meanwhile
+                    batches.remove(key, batch);
+                    continue;
+                }
+                batch.values.put(value, future);
+                full = batch.values.size() >= decryptBatchMaxSize;
+            }
+            if (full) {
+                flush(batch);
+            }
+            return batch;
+        }
+    }
+
+    private DecryptBatch newBatch(final String tenantId) {
+        final DecryptBatch batch = new DecryptBatch(tenantId);
+        if (decryptBatchWindow > 0) {
+            try {
+                scheduledExecutorService.schedule(() -> flush(batch), decryptBatchWindow, MILLISECONDS);
+                batch.scheduled = true;
+            } catch (final RejectedExecutionException ree) { // shutting down, the caller flushes it
+                log.debug(ree.getMessage(), ree);
+            }
+        }
+        return batch;
+    }
+
+    private void flush(final DecryptBatch batch) {
+        synchronized (batch) {
+            if (batch.sent) {
+                return;
+            }
+            batch.sent = true;
+        }
+        batches.remove(ofNullable(batch.tenantId), batch);
+        if (batch.values.isEmpty()) { // window elapsed before the first value was added, it goes to a new batch
+            return;
+        }
+
+        final Map<String, CompletableFuture<DecryptedValue>> values = batch.values;
+        statistics.onBatch(values.size());
+        final long start = clock.millis();
+        CompletionStage<DecryptOutcome> response;
+        try {
+            response = requestDecrypt(values.keySet(), start, batch.tenantId);
+        } catch (final RuntimeException re) { // don't let the pending futures hang
+            final CompletableFuture<DecryptOutcome> failed = new CompletableFuture<>();
+            failed.completeExceptionally(re);
+            response = failed;
+        }
+        response.whenComplete((decrypted, error) -> {
+            statistics.onResponse(clock.millis() - start, error != null);
+            final Throwable cause =
+                    CompletionException.class.isInstance(error) && error.getCause() != null ? error.getCause()
+                            : error;
+            values.forEach((value, future) -> {
+                pendings.remove(new PendingKey(batch.tenantId, value), future);
+                if (cause != null) {
+                    future.completeExceptionally(cause);
+                    return;
+                }
+                final String valueError = decrypted.errors.get(value);
+                if (valueError != null) { // only this value fails, not the others of the batch
+                    future.completeExceptionally(newError(cantDecipherStatusCode,
+                            "Can't decipher properties: " + singletonList(valueError)));
+                } else {
+                    future.complete(decrypted.values.get(value));
+                }
+            });
+        });
+    }
+
+    private CompletionStage<DecryptOutcome> requestDecrypt(final Collection<String> values,
+            final long currentTime, final String tenantId) {
+        final Collection<String> missing = new ArrayList<>(values);
         // do request
         return getOrRequestAuth()
                 // prepare decrypt request to vault
@@ -300,28 +433,21 @@ public class VaultClient {
                                 if (results.isEmpty()) {
                                     throwError(cantDecipherStatusCode, "Decrypted values are empty");
                                 }
-                                final List<String> errors = results
-                                        .stream()
-                                        .map(DecryptResult::getError)
-                                        .filter(Objects::nonNull)
-                                        .collect(toList());
-                                if (!errors.isEmpty()) {
-                                    throwError(cantDecipherStatusCode, "Can't decipher properties: " + errors);
-                                }
                                 final Iterator<String> keyIterator = missing.iterator();
-                                final Map<String, DecryptedValue> decryptedResults = results
-                                        .stream()
-                                        .map(it -> new String(Base64.getDecoder().decode(it.getPlaintext()),
-                                                StandardCharsets.UTF_8))
-                                        .collect(toMap(it -> keyIterator.next(),
-                                                it -> new DecryptedValue(it, currentTime)));
+                                final Map<String, DecryptedValue> decryptedResults = new HashMap<>(results.size());
+                                final Map<String, String> errors = new HashMap<>();
+                                for (final DecryptResult result : results) {
+                                    final String key = keyIterator.next();
+                                    if (result.getError() != null) {
+                                        errors.put(key, result.getError());
+                                    } else {
+                                        decryptedResults.put(key, new DecryptedValue(new String(
+                                                Base64.getDecoder().decode(result.getPlaintext()),
+                                                StandardCharsets.UTF_8), currentTime));
+                                    }
+                                }
                                 cache.putAll(decryptedResults);
-                                //
-                                return values
-                                        .stream()
-                                        .map(it -> decryptedResults
-                                                .getOrDefault(it, alreadyCached.get(it).orElse(null)))
-                                        .collect(toList());
+                                return new DecryptOutcome(decryptedResults, errors);
                             })
                             // oops, smtg went wrong
                             .exceptionally(e -> {
@@ -462,7 +588,11 @@ public class VaultClient {
     }
 
     private void throwError(final int status, final String message) {
-        throw new WebApplicationException(message,
+        throw newError(status, message);
+    }
+
+    private WebApplicationException newError(final int status, final String message) {
+        return new WebApplicationException(message,
                 Response.status(status).entity(new ErrorPayload(ErrorDictionary.UNEXPECTED, message)).build());
     }
 
@@ -580,6 +710,36 @@ public class VaultClient {
         private final long expiresAt;
     }
 
+    @Data
+    private static class PendingKey {
+
+        private final String tenantId;
+
+        private final String value;
+    }
+
+    @RequiredArgsConstructor
+    private static class DecryptBatch {
+
+        private final String tenantId;
+
+        // guarded by the batch until it is sent, then only read
+        private final Map<String, CompletableFuture<DecryptedValue>> values = new HashMap<>();
+
+        private boolean scheduled;
+
+        private boolean sent;
+    }
+
+    @RequiredArgsConstructor
+    private static class DecryptOutcome {
+
+        private final Map<String, DecryptedValue> values;
+
+        // value to its decryption error
+        private final Map<String, String> errors;
+    }
+
     @RequiredArgsConstructor
     private static class EntryWithIndex<T> {
 
@@ -0,0 +1,53 @@
+/**
+ * Copyright (C) 2006-2024 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.components.vault.client;
+
+/**
+ * JMX view of the decrypt requests sent by the {@link VaultClient}.
+ */
+public interface VaultDecryptStatisticsMXBean {
+
+    /**
+     * @return the number of decrypt requests sent to vault.
+     */
+    long getBatches();
+
+    /**
+     * @return the number of batches which failed.
+     */
+    long getFailedBatches();
+
+    /**
+     * @return the number of values sent to vault.
+     */
+    long getBatchedValues();
+
+    /**
+     * @return the number of missing values which joined an in-flight decryption instead of being sent again.
+     */
+    long getJoinedValues();
+
+    double getAverageBatchSize();
+
+    long getMaxBatchSize();
+
+    /**
+     * @return the average duration (ms) of a decrypt request, from its sending to its response.
+     */
+    double getAverageLatency();
+
+    long getMaxLatency();
+}
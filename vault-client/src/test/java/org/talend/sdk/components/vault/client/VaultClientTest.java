@@ -15,16 +15,27 @@
  */
 package org.talend.sdk.components.vault.client;
 
+import static java.util.Collections.singletonMap;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.enterprise.inject.se.SeContainer;
 import javax.enterprise.inject.se.SeContainerInitializer;
 import javax.inject.Inject;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.WebTarget;
@@ -110,6 +121,68 @@ class VaultClientTest {
         assertEquals("test", result.get("configuration.password"));
     }
 
+    @Test
+    void decryptCoalescesConcurrentCalls() throws Exception {
+        final long window = vault.getDecryptBatchWindow();
+        vault.setDecryptBatchWindow(1000L);
+        final DecryptStatistics statistics = vault.getStatistics();
+        final long batches = statistics.getBatches();
+        final long joined = statistics.getJoinedValues();
+        final int callers = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final List<Future<Map<String, String>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return vault.decrypt(DEMO_MAP, "000001");
+                }));
+            }
+            start.countDown();
+            for (final Future<Map<String, String>> result : results) {
+                final Map<String, String> decrypted = result.get();
+                assertEquals("username0", decrypted.get("configuration.username"));
+                assertEquals("test", decrypted.get("configuration.password"));
+            }
+        } finally {
+            executor.shutdownNow();
+            vault.setDecryptBatchWindow(window);
+        }
+        assertEquals(1, statistics.getBatches() - batches);
+        assertEquals(callers - 1, statistics.getJoinedValues() - joined);
+    }
+
+    @Test
+    void decryptBatchErrorOnlyFailsItsValue() throws Exception {
+        final long window = vault.getDecryptBatchWindow();
+        vault.setDecryptBatchWindow(1000L);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final Future<Map<String, String>> valid = executor.submit(() -> {
+                start.await();
+                return vault.decrypt(DEMO_MAP, "000001");
+            });
+            final Future<Map<String, String>> broken = executor.submit(() -> {
+                start.await();
+                return vault.decrypt(singletonMap("configuration.password", "vault:v1:broken"), "000001");
+            });
+            start.countDown();
+            // both values are in the same batch, only the broken one fails
+            assertEquals("test", valid.get().get("configuration.password"));
+            Throwable error = assertThrows(ExecutionException.class, broken::get);
+            while (error != null && !WebApplicationException.class.isInstance(error)) {
+                error = error.getCause();
+            }
+            assertNotNull(error);
+            assertEquals(422, WebApplicationException.class.cast(error).getResponse().getStatus());
+        } finally {
+            executor.shutdownNow();
+            vault.setDecryptBatchWindow(window);
+        }
+    }
+
     @Test
     void decryptWithoutTenant() {
         vault.setDecryptEndpoint("/api/v1/mock/vault/decrypt/000001");
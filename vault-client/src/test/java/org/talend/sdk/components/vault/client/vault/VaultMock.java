@@ -15,13 +15,14 @@
  */
 package org.talend.sdk.components.vault.client.vault;
 
-import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -109,17 +110,21 @@ public class VaultMock {
             throw new WebApplicationException(
                     Response.status(403).entity("{\"errors\":[\"missing vault_auth\"]}").build());
         }
-        if (!"vault:v1:hcccVPODe9oZpcr/sKam8GUrbacji8VkuDRGfuDt7bg7VA=="
-                .equals(request.getBatchInput().iterator().next().getCiphertext())) {
-            throw new WebApplicationException(
-                    Response.status(400).entity("{\"errors\":[\"wrong vault_encrypt\"]}").build());
-        }
-
-        final VaultClient.DecryptResult result = new VaultClient.DecryptResult();
-        result.setPlaintext(Base64.getEncoder().encodeToString("test".getBytes(StandardCharsets.UTF_8)));
+        final List<VaultClient.DecryptResult> results = request.getBatchInput().stream().map(input -> {
+            final VaultClient.DecryptResult result = new VaultClient.DecryptResult();
+            if ("vault:v1:hcccVPODe9oZpcr/sKam8GUrbacji8VkuDRGfuDt7bg7VA==".equals(input.getCiphertext())) {
+                result.setPlaintext(Base64.getEncoder().encodeToString("test".getBytes(StandardCharsets.UTF_8)));
+            } else if ("vault:v1:broken".equals(input.getCiphertext())) { // per value error
+                result.setError("cipher: message authentication failed");
+            } else {
+                throw new WebApplicationException(
+                        Response.status(400).entity("{\"errors\":[\"wrong vault_encrypt\"]}").build());
+            }
+            return result;
+        }).collect(toList());
 
         final VaultClient.DecryptData data = new VaultClient.DecryptData();
-        data.setBatchResults(singletonList(result));
+        data.setBatchResults(results);
 
         final VaultClient.DecryptResponse response = new VaultClient.DecryptResponse();
         response.setData(data);